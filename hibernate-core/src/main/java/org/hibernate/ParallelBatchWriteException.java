@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import java.util.List;
+
+/**
+ * Reports the batches which could not be written by a {@link ParallelBatchWriter}.
+ * All the other batches were committed.
+ *
+ * @since 6.2
+ */
+@Incubating
+public class ParallelBatchWriteException extends HibernateException {
+	private final List<FailedBatch> failedBatches;
+
+	public ParallelBatchWriteException(List<FailedBatch> failedBatches) {
+		super( buildMessage( failedBatches ), failedBatches.get( 0 ).getCause() );
+		this.failedBatches = failedBatches;
+	}
+
+	private static String buildMessage(List<FailedBatch> failedBatches) {
+		final StringBuilder message = new StringBuilder()
+				.append( failedBatches.size() )
+				.append( " batch(es) could not be written:" );
+		for ( FailedBatch failedBatch : failedBatches ) {
+			message.append( " [" )
+					.append( failedBatch.getPartition() )
+					.append( "] " )
+					.append( failedBatch.getEntities().size() )
+					.append( " row(s): " )
+					.append( failedBatch.getCause().getMessage() )
+					.append( ';' );
+		}
+		return message.toString();
+	}
+
+	/**
+	 * The batches which were rolled back, in the order in which they failed.
+	 */
+	public List<FailedBatch> getFailedBatches() {
+		return failedBatches;
+	}
+
+	/**
+	 * A batch which was rolled back.
+	 */
+	public static class FailedBatch {
+		private final String partition;
+		private final List<Object> entities;
+		private final RuntimeException cause;
+
+		public FailedBatch(String partition, List<Object> entities, RuntimeException cause) {
+			this.partition = partition;
+			this.entities = entities;
+			this.cause = cause;
+		}
+
+		/**
+		 * The partition of the batch, that is the entity name and the kind of
+		 * operation, for example {@code org.acme.Order#INSERT}.
+		 */
+		public String getPartition() {
+			return partition;
+		}
+
+		/**
+		 * The entities of the batch, none of which was written.
+		 */
+		public List<Object> getEntities() {
+			return entities;
+		}
+
+		/**
+		 * The exception which caused the batch to be rolled back.
+		 */
+		public RuntimeException getCause() {
+			return cause;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+/**
+ * Writes large numbers of rows through several {@link StatelessSession}s in parallel,
+ * each of them working on its own thread and its own JDBC connection.
+ * <p>
+ * Entities passed to the writer are grouped into partitions, one for each entity name
+ * and kind of operation, mirroring the way JDBC batches are keyed. Once a partition has
+ * accumulated a full batch, the batch is handed to one of the writer threads, which
+ * executes it as a JDBC batch, in its own transaction. At most a bounded number of
+ * batches is in flight at any time; when that limit is reached, the calling thread
+ * blocks until a batch completes.
+ * <p>
+ * Since every batch is committed on its own, there is no atomicity across batches, nor
+ * any ordering guarantee between partitions: the writer is intended for bulk-import
+ * jobs which can tolerate, or repair, partially written data. Failed batches are rolled
+ * back and reported by {@link #flush()} or {@link #close()} as a
+ * {@link ParallelBatchWriteException}, which lists the failed batches by partition.
+ * <p>
+ * A writer is not thread-safe: entities must be passed to it by a single thread.
+ *
+ * @see StatelessSessionBuilder#openParallelBatchWriter(int, int)
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface ParallelBatchWriter extends AutoCloseable {
+	/**
+	 * Schedule the insertion of a row.
+	 *
+	 * @param entity a new transient instance
+	 */
+	void insert(Object entity);
+
+	/**
+	 * Schedule the insertion of a row.
+	 *
+	 * @param entityName The entityName for the entity to be inserted
+	 * @param entity a new transient instance
+	 */
+	void insert(String entityName, Object entity);
+
+	/**
+	 * Schedule the update of a row.
+	 *
+	 * @param entity a detached entity instance
+	 */
+	void update(Object entity);
+
+	/**
+	 * Schedule the update of a row.
+	 *
+	 * @param entityName The entityName for the entity to be updated
+	 * @param entity a detached entity instance
+	 */
+	void update(String entityName, Object entity);
+
+	/**
+	 * Schedule the deletion of a row.
+	 *
+	 * @param entity a detached entity instance
+	 */
+	void delete(Object entity);
+
+	/**
+	 * Schedule the deletion of a row.
+	 *
+	 * @param entityName The entityName for the entity to be deleted
+	 * @param entity a detached entity instance
+	 */
+	void delete(String entityName, Object entity);
+
+	/**
+	 * Write all partially filled batches, and wait for all in-flight batches to complete.
+	 *
+	 * @throws ParallelBatchWriteException if any batch failed since the last flush
+	 */
+	void flush();
+
+	/**
+	 * {@linkplain #flush() Flush} the writer, then release its threads and connections.
+	 *
+	 * @throws ParallelBatchWriteException if any batch failed since the last flush,
+	 * or was cancelled because the writer threads did not terminate in time
+	 */
+	@Override
+	void close();
+}
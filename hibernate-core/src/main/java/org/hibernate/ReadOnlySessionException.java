@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+/**
+ * Thrown when a session opened {@linkplain SessionBuilder#readOnly(boolean) read-only}
+ * attempts to write to the database.  The statement is not executed.
+ *
+ * @since 6.2
+ */
+@Incubating
+public class ReadOnlySessionException extends SessionException {
+	public ReadOnlySessionException(String message) {
+		super( message );
+	}
+}
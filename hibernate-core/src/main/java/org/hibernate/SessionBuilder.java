@@ -116,6 +116,41 @@ public interface SessionBuilder<T extends SessionBuilder> {
 	 */
 	T tenantIdentifier(String tenantIdentifier);
 
+	/**
+	 * Should the session be read-only?  A read-only session loads entities in
+	 * {@linkplain Session#setDefaultReadOnly(boolean) read-only mode}, obtains
+	 * its connections from the read replica, if the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 * provides one}, and fails with a {@link ReadOnlySessionException} if it
+	 * attempts to write to the database.
+	 * <p>
+	 * Writes executed as queries, like {@code insert ... returning} in a native
+	 * query, are recognized by the leading keyword of their SQL.
+	 * This is a heuristic: for example, a data-modifying common table expression
+	 * is not recognized.
+	 *
+	 * @param readOnly Should the session be read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @throws UnsupportedOperationException if the builder does not support
+	 * read-only sessions
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#REPLICA_DATASOURCE
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	@SuppressWarnings("unchecked")
+	default T readOnly(boolean readOnly) {
+		//For backward compatibility
+		if ( readOnly ) {
+			throw new UnsupportedOperationException( "This builder does not support read-only sessions" );
+		}
+		return (T) this;
+	}
+
 	/**
 	 * Add one or more {@link SessionEventListener} instances to the list of
 	 * listeners for the new session to be built.
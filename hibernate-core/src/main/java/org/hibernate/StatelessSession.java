@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 /**
  * A command-oriented API for performing bulk operations against a database.
  * <p>
@@ -77,6 +79,54 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, in the order given by the list, using JDBC
+	 * batching.
+	 * <p>
+	 * If no JDBC batch size is configured for this session, the rows are
+	 * batched anyway, so that consecutive instances of the same entity type
+	 * share one batched {@link java.sql.PreparedStatement}. Entities with an
+	 * identity-generated identifier are still inserted one row at a time.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple rows, in the order given by the list, using JDBC
+	 * batching.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Insert or update multiple rows using JDBC batching.
+	 * <p>
+	 * Instances with a null identifier are inserted. For the remaining
+	 * instances, the identifiers which already exist in the database are
+	 * determined up front, in as few queries as possible. All the updates
+	 * are then executed, followed by all the inserts, each grouped by entity
+	 * type, in the order in which the entity types first occur in the list,
+	 * so that the statements of each group share the same JDBC batch.
+	 *
+	 * @param entities a list of transient or detached entity instances
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -23,6 +23,29 @@ public interface StatelessSessionBuilder<T extends StatelessSessionBuilder> {
 	 */
 	StatelessSession openStatelessSession();
 
+	/**
+	 * Opens a writer which executes batches of inserts, updates and deletes in
+	 * parallel, through stateless sessions with the specified options, each one
+	 * obtaining its own JDBC connection.
+	 *
+	 * @param parallelism The number of threads, and of JDBC connections, used for writing
+	 * @param batchSize The number of rows written by each batch
+	 *
+	 * @return The writer
+	 *
+	 * @throws IllegalStateException if a specific {@linkplain #connection(Connection) connection}
+	 * was specified, since it cannot be shared across threads
+	 * @throws UnsupportedOperationException if the builder does not support
+	 * parallel batch writers
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default ParallelBatchWriter openParallelBatchWriter(int parallelism, int batchSize) {
+		//For backward compatibility
+		throw new UnsupportedOperationException( "This builder does not support parallel batch writers" );
+	}
+
 	/**
 	 * Adds a specific connection to the session options.
 	 *
@@ -40,4 +63,36 @@ public interface StatelessSessionBuilder<T extends StatelessSessionBuilder> {
 	 * @return {@code this}, for method chaining
 	 */
 	T tenantIdentifier(String tenantIdentifier);
+
+	/**
+	 * Should the session be read-only?  A read-only session obtains its
+	 * connections from the read replica, if the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 * provides one}, and fails with a {@link ReadOnlySessionException} if it
+	 * attempts to write to the database.
+	 * <p>
+	 * Writes executed as queries, like {@code insert ... returning} in a native
+	 * query, are recognized by the leading keyword of their SQL.
+	 * This is a heuristic: for example, a data-modifying common table expression
+	 * is not recognized.
+	 *
+	 * @param readOnly Should the session be read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @throws UnsupportedOperationException if the builder does not support
+	 * read-only sessions
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	@SuppressWarnings("unchecked")
+	default T readOnly(boolean readOnly) {
+		//For backward compatibility
+		if ( readOnly ) {
+			throw new UnsupportedOperationException( "This builder does not support read-only sessions" );
+		}
+		return (T) this;
+	}
 }
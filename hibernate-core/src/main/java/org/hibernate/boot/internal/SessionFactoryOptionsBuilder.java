@@ -75,6 +75,7 @@ import org.hibernate.type.jaxb.JaxbXmlFormatMapper;
 import org.hibernate.type.jackson.JacksonIntegration;
 import org.hibernate.type.jakartajson.JakartaJsonIntegration;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
@@ -105,20 +106,30 @@ import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
+import static org.hibernate.cfg.AvailableSettings.MAX_ADAPTIVE_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MIN_ADAPTIVE_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_PLAN_WARM_UP;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECK_CACHE;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SNAPSHOT_FREE_LOADING;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.STATISTICS_LATENCY_HISTOGRAMS;
+import static org.hibernate.cfg.AvailableSettings.STATISTICS_SLOW_QUERY_LOG_PARAMETERS;
+import static org.hibernate.cfg.AvailableSettings.STATISTICS_SLOW_QUERY_LOG_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATISTICS_SLOW_QUERY_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -213,6 +224,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private SqmTranslatorFactory sqmTranslatorFactory;
 	private Boolean useOfJdbcNamedParametersEnabled;
 	private boolean namedQueryStartupCheckingEnabled;
+	private String namedQueryStartupCheckCache;
+	private boolean queryPlanWarmUpEnabled;
 	private final int preferredSqlTypeCodeForBoolean;
 	private final int preferredSqlTypeCodeForDuration;
 	private final int preferredSqlTypeCodeForUuid;
@@ -238,6 +251,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private int preparedStatementCacheSize;
+	private boolean adaptiveJdbcFetchSizeEnabled;
+	private int minAdaptiveJdbcFetchSize;
+	private int maxAdaptiveJdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -261,6 +278,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean inClauseParameterPaddingEnabled;
 
 	private int queryStatisticsMaxSize;
+	private boolean statisticsLatencyHistogramsEnabled;
+	private int statisticsSlowQueryLogSize;
+	private long statisticsSlowQueryThreshold;
+	private boolean statisticsSlowQueryLogParametersEnabled;
+
+	private boolean snapshotFreeLoadingEnabled;
 
 
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
@@ -424,6 +447,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.useOfJdbcNamedParametersEnabled = cfgService.getSetting( CALLABLE_NAMED_PARAMS_ENABLED, BOOLEAN, true );
 
 		this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.namedQueryStartupCheckCache = ConfigurationHelper.getString( QUERY_STARTUP_CHECK_CACHE, configurationSettings );
+		this.queryPlanWarmUpEnabled = cfgService.getSetting( QUERY_PLAN_WARM_UP, BOOLEAN, false );
 		this.preferredSqlTypeCodeForBoolean = ConfigurationHelper.getPreferredSqlTypeCodeForBoolean( serviceRegistry );
 		this.preferredSqlTypeCodeForDuration = ConfigurationHelper.getPreferredSqlTypeCodeForDuration( serviceRegistry );
 		this.preferredSqlTypeCodeForUuid = ConfigurationHelper.getPreferredSqlTypeCodeForUuid( serviceRegistry );
@@ -505,6 +530,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = ConfigurationHelper.getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.preparedStatementCacheSize = ConfigurationHelper.getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
+		this.adaptiveJdbcFetchSizeEnabled = ConfigurationHelper.getBoolean( ADAPTIVE_FETCH_SIZE, configurationSettings, false );
+		this.minAdaptiveJdbcFetchSize = Math.max( 1, ConfigurationHelper.getInt( MIN_ADAPTIVE_FETCH_SIZE, configurationSettings, 10 ) );
+		this.maxAdaptiveJdbcFetchSize = Math.max(
+				minAdaptiveJdbcFetchSize,
+				ConfigurationHelper.getInt( MAX_ADAPTIVE_FETCH_SIZE, configurationSettings, 1000 )
+		);
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = ConfigurationHelper.getBoolean(
@@ -582,6 +614,32 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+		this.statisticsLatencyHistogramsEnabled = ConfigurationHelper.getBoolean(
+				STATISTICS_LATENCY_HISTOGRAMS,
+				configurationSettings,
+				false
+		);
+		this.statisticsSlowQueryLogSize = ConfigurationHelper.getInt(
+				STATISTICS_SLOW_QUERY_LOG_SIZE,
+				configurationSettings,
+				0
+		);
+		this.statisticsSlowQueryThreshold = ConfigurationHelper.getLong(
+				STATISTICS_SLOW_QUERY_THRESHOLD,
+				configurationSettings,
+				0
+		);
+		this.statisticsSlowQueryLogParametersEnabled = ConfigurationHelper.getBoolean(
+				STATISTICS_SLOW_QUERY_LOG_PARAMETERS,
+				configurationSettings,
+				false
+		);
+
+		this.snapshotFreeLoadingEnabled = ConfigurationHelper.getBoolean(
+				SNAPSHOT_FREE_LOADING,
+				configurationSettings,
+				false
+		);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -1026,6 +1084,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public String getNamedQueryStartupCheckCache() {
+		return namedQueryStartupCheckCache;
+	}
+
+	@Override
+	public boolean isQueryPlanWarmUpEnabled() {
+		return queryPlanWarmUpEnabled;
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return secondLevelCacheEnabled;
@@ -1096,6 +1164,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
+	@Override
+	public boolean isAdaptiveJdbcFetchSizeEnabled() {
+		return adaptiveJdbcFetchSizeEnabled;
+	}
+
+	@Override
+	public int getMinAdaptiveJdbcFetchSize() {
+		return minAdaptiveJdbcFetchSize;
+	}
+
+	@Override
+	public int getMaxAdaptiveJdbcFetchSize() {
+		return maxAdaptiveJdbcFetchSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1191,6 +1279,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public boolean isStatisticsLatencyHistogramsEnabled() {
+		return statisticsLatencyHistogramsEnabled;
+	}
+
+	@Override
+	public int getStatisticsSlowQueryLogSize() {
+		return statisticsSlowQueryLogSize;
+	}
+
+	@Override
+	public long getStatisticsSlowQueryThreshold() {
+		return statisticsSlowQueryThreshold;
+	}
+
+	@Override
+	public boolean isStatisticsSlowQueryLogParametersEnabled() {
+		return statisticsSlowQueryLogParametersEnabled;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -1201,6 +1309,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return collectionsInDefaultFetchGroupEnabled;
 	}
 
+	@Override
+	public boolean isSnapshotFreeLoadingEnabled() {
+		return snapshotFreeLoadingEnabled;
+	}
+
 	@Override
 	public int getPreferredSqlTypeCodeForBoolean() {
 		return preferredSqlTypeCodeForBoolean;
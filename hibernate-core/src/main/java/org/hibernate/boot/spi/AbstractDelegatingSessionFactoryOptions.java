@@ -222,6 +222,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public String getNamedQueryStartupCheckCache() {
+		return delegate.getNamedQueryStartupCheckCache();
+	}
+
+	@Override
+	public boolean isQueryPlanWarmUpEnabled() {
+		return delegate.isQueryPlanWarmUpEnabled();
+	}
+
 	@Override
 	public boolean isAllowOutOfTransactionUpdateOperations() {
 		return delegate.isAllowOutOfTransactionUpdateOperations();
@@ -412,16 +422,61 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public boolean isStatisticsLatencyHistogramsEnabled() {
+		return delegate.isStatisticsLatencyHistogramsEnabled();
+	}
+
+	@Override
+	public int getStatisticsSlowQueryLogSize() {
+		return delegate.getStatisticsSlowQueryLogSize();
+	}
+
+	@Override
+	public long getStatisticsSlowQueryThreshold() {
+		return delegate.getStatisticsSlowQueryThreshold();
+	}
+
+	@Override
+	public boolean isStatisticsSlowQueryLogParametersEnabled() {
+		return delegate.isStatisticsSlowQueryLogParametersEnabled();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return delegate.getPreparedStatementCacheSize();
+	}
+
+	@Override
+	public boolean isAdaptiveJdbcFetchSizeEnabled() {
+		return delegate.isAdaptiveJdbcFetchSizeEnabled();
+	}
+
+	@Override
+	public int getMinAdaptiveJdbcFetchSize() {
+		return delegate.getMinAdaptiveJdbcFetchSize();
+	}
+
+	@Override
+	public int getMaxAdaptiveJdbcFetchSize() {
+		return delegate.getMaxAdaptiveJdbcFetchSize();
+	}
+
 	@Override
 	public boolean isCollectionsInDefaultFetchGroupEnabled() {
 		return delegate.isCollectionsInDefaultFetchGroupEnabled();
 	}
 
+	@Override
+	public boolean isSnapshotFreeLoadingEnabled() {
+		return delegate.isSnapshotFreeLoadingEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
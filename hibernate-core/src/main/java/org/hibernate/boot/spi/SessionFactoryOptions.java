@@ -158,6 +158,26 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * The path of the file recording the named queries which passed the
+	 * startup check, or {@code null} if every named query is checked.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECK_CACHE
+	 */
+	default String getNamedQueryStartupCheckCache() {
+		return null;
+	}
+
+	/**
+	 * Whether the plans of the named queries are built while the
+	 * {@link org.hibernate.SessionFactory} is created.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_WARM_UP
+	 */
+	default boolean isQueryPlanWarmUpEnabled() {
+		return false;
+	}
+
 	boolean isSecondLevelCacheEnabled();
 
 	boolean isQueryCacheEnabled();
@@ -265,6 +285,45 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * Should the statistics record latency histograms?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 */
+	default boolean isStatisticsLatencyHistogramsEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of slow queries kept by the statistics, or {@code 0}
+	 * if the slow query log is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_LOG_SIZE
+	 */
+	default int getStatisticsSlowQueryLogSize() {
+		return 0;
+	}
+
+	/**
+	 * The minimum time, in milliseconds, of the queries kept by the
+	 * slow query log.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_THRESHOLD
+	 */
+	default long getStatisticsSlowQueryThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Whether the slow query log records the values bound to the parameters
+	 * of the queries, rather than only their types.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_LOG_PARAMETERS
+	 */
+	default boolean isStatisticsSlowQueryLogParametersEnabled() {
+		return false;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
@@ -295,10 +354,54 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isUseOfJdbcNamedParametersEnabled();
 
+	/**
+	 * The maximum number of prepared statements kept open per JDBC connection,
+	 * or {@code 0} if prepared statements are not cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * Should the fetch size of queries be derived from their limit, or from
+	 * the number of rows read by their previous executions?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+	 */
+	default boolean isAdaptiveJdbcFetchSizeEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#MIN_ADAPTIVE_FETCH_SIZE
+	 */
+	default int getMinAdaptiveJdbcFetchSize() {
+		return 10;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#MAX_ADAPTIVE_FETCH_SIZE
+	 */
+	default int getMaxAdaptiveJdbcFetchSize() {
+		return 1000;
+	}
+
 	default boolean isCollectionsInDefaultFetchGroupEnabled() {
 		return false;
 	}
 
+	/**
+	 * Should the loaded state snapshot be discarded for managed entities which
+	 * track their own dirtiness and are versioned?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SNAPSHOT_FREE_LOADING
+	 */
+	default boolean isSnapshotFreeLoadingEnabled() {
+		return false;
+	}
+
 	@Incubating
 	int getPreferredSqlTypeCodeForBoolean();
 
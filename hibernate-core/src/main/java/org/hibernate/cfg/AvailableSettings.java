@@ -362,6 +362,21 @@ public interface AvailableSettings {
 	 */
 	String DATASOURCE = "hibernate.connection.datasource";
 
+	/**
+	 * Specifies the {@link javax.sql.DataSource} of a read replica of the database,
+	 * either as an instance or as a JNDI name, to be used together with
+	 * {@link #DATASOURCE}.  Sessions opened {@linkplain org.hibernate.SessionBuilder#readOnly(boolean)
+	 * read-only} obtain their connections from the replica, and fail with a
+	 * {@link org.hibernate.ReadOnlySessionException} if they attempt to write.
+	 * <p>
+	 * By default, all sessions obtain their connections from {@link #DATASOURCE}.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 *
+	 * @since 6.2
+	 */
+	String REPLICA_DATASOURCE = "hibernate.connection.replica_datasource";
+
 	/**
 	 * Allows a user to tell Hibernate that the connections we obtain from the configured
 	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider} will already
@@ -951,6 +966,39 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * When enabled, the fetch size of each query which does not
+	 * {@linkplain org.hibernate.query.Query#setFetchSize(int) specify one} is
+	 * derived from its {@linkplain org.hibernate.query.Query#setMaxResults(int)
+	 * maximum number of results} if it has one, and otherwise from a moving
+	 * estimate of the number of rows read by its previous executions. The fetch
+	 * size is kept between {@value #MIN_ADAPTIVE_FETCH_SIZE} and
+	 * {@value #MAX_ADAPTIVE_FETCH_SIZE}, and overrides {@value #STATEMENT_FETCH_SIZE}.
+	 * <p>
+	 * By default, the fetch size is not adapted.
+	 *
+	 * @see java.sql.PreparedStatement#setFetchSize(int)
+	 *
+	 * @since 6.2
+	 */
+	String ADAPTIVE_FETCH_SIZE = "hibernate.jdbc.adaptive_fetch_size";
+
+	/**
+	 * The smallest fetch size used when {@value #ADAPTIVE_FETCH_SIZE} is enabled,
+	 * unless a query returns fewer rows than that at most. Defaults to {@code 10}.
+	 *
+	 * @since 6.2
+	 */
+	String MIN_ADAPTIVE_FETCH_SIZE = "hibernate.jdbc.min_adaptive_fetch_size";
+
+	/**
+	 * The largest fetch size used when {@value #ADAPTIVE_FETCH_SIZE} is enabled.
+	 * Defaults to {@code 1000}.
+	 *
+	 * @since 6.2
+	 */
+	String MAX_ADAPTIVE_FETCH_SIZE = "hibernate.jdbc.max_adaptive_fetch_size";
+
 	/**
 	 * Specifies the maximum JDBC batch size. A nonzero value enables batch updates.
 	 *
@@ -959,6 +1007,18 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * Specifies the maximum number of prepared statements kept open, per JDBC
+	 * connection, for reuse by later executions of the same SQL while the
+	 * connection is held by a session.  Useful with connection pools and
+	 * drivers which do not cache prepared statements themselves.
+	 * <p>
+	 * By default, statements are not cached, and are closed once executed.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Specifies a custom {@link org.hibernate.engine.jdbc.batch.spi.BatchBuilder}.
 	 */
@@ -1036,6 +1096,27 @@ public interface AvailableSettings {
 	 */
 	String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
+	/**
+	 * When enabled, specifies that the {@link org.hibernate.engine.spi.EntityEntry}
+	 * of a managed entity should not retain a snapshot of its loaded state, if the
+	 * entity is bytecode enhanced for dirty tracking and uses a version for
+	 * optimistic locking.
+	 * <p>
+	 * The snapshot is only discarded for entities which do not need it at flush time,
+	 * that is, entities without mutable attributes, collections, natural ids or orphan
+	 * removal, and only in sessions which do not have an
+	 * {@link org.hibernate.Interceptor}, and only while no pre-update or post-update
+	 * event listeners, which are passed the old state of the entity, are registered.
+	 * Dirty checking then relies exclusively on the
+	 * attributes tracked by the enhanced entity, and the version value is used for
+	 * optimistic locking.
+	 * <p>
+	 * By default, the loaded state is always retained.
+	 *
+	 * @since 6.2
+	 */
+	String SNAPSHOT_FREE_LOADING = "hibernate.bytecode.snapshot_free_loading";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -1083,6 +1164,35 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * Specifies the path of a file in which the named HQL queries which pass the
+	 * {@linkplain #QUERY_STARTUP_CHECKING startup check} are recorded, so that they
+	 * are not parsed and analyzed again by the next startup, as long as the domain
+	 * model, the dialect, the JPA query compliance, the registered functions and
+	 * the version of Hibernate did not change.
+	 * <p>
+	 * Only the outcome of the check is recorded: a named query is still parsed
+	 * when it is first used.
+	 * <p>
+	 * The file is created, or rewritten, when the set of validated queries changes.
+	 * By default, no file is used and every named query is checked at startup.
+	 *
+	 * @see org.hibernate.query.named.NamedQueryValidationCache
+	 */
+	String QUERY_STARTUP_CHECK_CACHE = "hibernate.query.startup_check_cache";
+
+	/**
+	 * When enabled, specifies that the plans of all named queries, including
+	 * their translation to SQL, be built in parallel while the
+	 * {@link org.hibernate.SessionFactory} is created, instead of on their first
+	 * execution.
+	 * <p>
+	 * By default, plans are built on the first execution.
+	 *
+	 * @see org.hibernate.stat.Statistics#getNamedQueryWarmUpTime()
+	 */
+	String QUERY_PLAN_WARM_UP = "hibernate.query.plan_warm_up";
+
 	/**
 	 * Enable ordering of update statements by primary key value.
 	 *
@@ -2492,6 +2602,65 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * When enabled, along with {@value #GENERATE_STATISTICS}, the
+	 * {@link org.hibernate.stat.Statistics} record the distribution of the
+	 * latencies of query executions, JDBC statement executions, result set
+	 * processing and JDBC connection acquisition as
+	 * {@linkplain org.hibernate.stat.LatencyHistogram histograms}, as well as
+	 * one histogram per {@linkplain org.hibernate.stat.QueryStatistics query}.
+	 * <p>
+	 * Each histogram holds a few kilobytes, which should be taken into account
+	 * along with {@value #QUERY_STATISTICS_MAX_SIZE}.
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String STATISTICS_LATENCY_HISTOGRAMS = "hibernate.statistics.latency_histograms";
+
+	/**
+	 * The number of slow query executions kept by the
+	 * {@linkplain org.hibernate.stat.Statistics#getSlowQueries() slow query log}
+	 * when {@value #GENERATE_STATISTICS} is enabled. Once the log is full, each
+	 * new slow query replaces the oldest one.
+	 * <p>
+	 * The default value is {@code 0}, which disables the slow query log.
+	 *
+	 * @see #STATISTICS_SLOW_QUERY_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	String STATISTICS_SLOW_QUERY_LOG_SIZE = "hibernate.statistics.slow_query_log_size";
+
+	/**
+	 * The minimum time, in milliseconds, a query execution, including the
+	 * processing of its results, must take to be recorded by the
+	 * {@linkplain org.hibernate.stat.Statistics#getSlowQueries() slow query log}.
+	 * <p>
+	 * The default value is {@code 0}, in which case the log keeps the most
+	 * recent query executions.
+	 *
+	 * @see #STATISTICS_SLOW_QUERY_LOG_SIZE
+	 *
+	 * @since 6.2
+	 */
+	String STATISTICS_SLOW_QUERY_THRESHOLD = "hibernate.statistics.slow_query_threshold";
+
+	/**
+	 * When enabled, the {@linkplain org.hibernate.stat.Statistics#getSlowQueries() slow query log}
+	 * records the values bound to the parameters of each query, abbreviated if they are
+	 * long. Since these values may hold sensitive data, only their types are recorded
+	 * otherwise.
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @see #STATISTICS_SLOW_QUERY_LOG_SIZE
+	 *
+	 * @since 6.2
+	 */
+	String STATISTICS_SLOW_QUERY_LOG_PARAMETERS = "hibernate.statistics.slow_query_log_parameters";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used
 	 * when Hibernate detects a mismatch between a sequence configuration in an entity
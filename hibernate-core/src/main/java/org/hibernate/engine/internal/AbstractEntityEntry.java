@@ -12,6 +12,7 @@ import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.Session;
@@ -28,6 +29,10 @@ import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.PostUpdateEventListenerStandardImpl;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.UniqueKeyLoadable;
 import org.hibernate.pretty.MessageHelper;
@@ -35,6 +40,12 @@ import org.hibernate.proxy.HibernateProxy;
 
 /**
  * A base implementation of EntityEntry
+ * <p>
+ * An instance exists for every entity managed by a persistence context, so its layout is
+ * kept as dense as possible: the entity name is derived from the persister, the identifier
+ * and the {@link EntityKey} share a field, the enum and boolean attributes are packed into
+ * a single int, and rarely used state (deleted state, row id) is only allocated on demand,
+ * as an {@link EntityEntryExtraStateHolder}.
  *
  * @author Gavin King
  * @author <a href="mailto:emmanuel@hibernate.org">Emmanuel Bernard</a>
@@ -42,13 +53,17 @@ import org.hibernate.proxy.HibernateProxy;
  * @author <a href="mailto:sanne@hibernate.org">Sanne Grinovero </a>
  */
 public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
-	protected final Object id;
+	/**
+	 * Holds the entity identifier until an {@link EntityKey} is requested, and the
+	 * lazily created {@code EntityKey} afterwards. The key wraps the identifier, so
+	 * there is no need for a separate field to cache it.
+	 */
+	private Object idOrEntityKey;
 	protected Object[] loadedState;
 	protected Object version;
 	protected final EntityPersister persister; // permanent but we only need the entityName state in a non transient way
-	protected transient EntityKey cachedEntityKey; // cached EntityKey (lazy-initialized)
-	protected final transient Object rowId;
 	protected final transient PersistenceContext persistenceContext;
+	// rarely used state (deleted state, row id) lives in an EntityEntryExtraStateHolder
 	protected EntityEntryExtraState next;
 
 	/**
@@ -95,14 +110,15 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		if ( status != Status.READ_ONLY ) {
 			this.loadedState = loadedState;
 		}
-		this.id=id;
-		this.rowId=rowId;
+		this.idOrEntityKey = id;
+		setRowId( rowId );
 		setCompressedValue( BooleanState.EXISTS_IN_DATABASE, existsInDatabase );
 		this.version=version;
 		setCompressedValue( EnumState.LOCK_MODE, lockMode );
 		setCompressedValue( BooleanState.IS_BEING_REPLICATED, disableVersionIncrement );
 		this.persister=persister;
 		this.persistenceContext = persistenceContext;
+		discardLoadedStateIfPossible();
 	}
 
 	/**
@@ -127,7 +143,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		else {
 			this.persister = factory.getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( entityName );
 		}
-		this.id = id;
+		this.idOrEntityKey = id;
 		setCompressedValue( EnumState.STATUS, status );
 		setCompressedValue( EnumState.PREVIOUS_STATUS, previousStatus );
 		this.loadedState = loadedState;
@@ -136,7 +152,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		setCompressedValue( EnumState.LOCK_MODE, lockMode );
 		setCompressedValue( BooleanState.EXISTS_IN_DATABASE, existsInDatabase );
 		setCompressedValue( BooleanState.IS_BEING_REPLICATED, isBeingReplicated );
-		this.rowId = null; // this is equivalent to the old behavior...
+		// the row id is not restored, this is equivalent to the old behavior...
 		this.persistenceContext = persistenceContext;
 	}
 
@@ -172,12 +188,58 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		if ( currentStatus != status ) {
 			setCompressedValue( EnumState.PREVIOUS_STATUS, currentStatus );
 			setCompressedValue( EnumState.STATUS, status );
+			discardLoadedStateIfPossible();
+		}
+	}
+
+	/**
+	 * Drops the loaded state snapshot of a managed entity which tracks its own
+	 * dirtiness, if it is not going to be needed to flush the entity.
+	 *
+	 * @see org.hibernate.tuple.entity.EntityMetamodel#isSnapshotFreeLoading()
+	 */
+	private void discardLoadedStateIfPossible() {
+		if ( loadedState != null
+				&& getStatus() == Status.MANAGED
+				&& isExistsInDatabase()
+				&& persister != null
+				&& persister.getEntityMetamodel().isSnapshotFreeLoading()
+				&& persistenceContext != null
+				&& !isLoadedStateNeeded( persistenceContext.getSession() ) ) {
+			loadedState = null;
+		}
+	}
+
+	/**
+	 * An {@link org.hibernate.Interceptor} gets passed the loaded state during
+	 * flush, and update event listeners, for example Envers, get passed it as
+	 * the old state of the entity.
+	 */
+	private static boolean isLoadedStateNeeded(SharedSessionContractImplementor session) {
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE ) {
+			return true;
 		}
+		final FastSessionServices fastSessionServices = session.getFactory().getFastSessionServices();
+		return !fastSessionServices.eventListenerGroup_PRE_UPDATE.isEmpty()
+				|| hasOldStateConsumer( fastSessionServices.eventListenerGroup_POST_UPDATE )
+				|| hasOldStateConsumer( fastSessionServices.eventListenerGroup_POST_COMMIT_UPDATE );
+	}
+
+	private static boolean hasOldStateConsumer(EventListenerGroup<PostUpdateEventListener> listeners) {
+		for ( PostUpdateEventListener listener : listeners.listeners() ) {
+			// the standard listener only calls the JPA callbacks
+			if ( !( listener instanceof PostUpdateEventListenerStandardImpl ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
 	public Object getId() {
-		return id;
+		return idOrEntityKey instanceof EntityKey
+				? ( (EntityKey) idOrEntityKey ).getIdentifier()
+				: idOrEntityKey;
 	}
 
 	@Override
@@ -207,6 +269,17 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		extra.setDeletedState( deletedState );
 	}
 
+	private void setRowId(Object rowId) {
+		if ( rowId != null ) {
+			EntityEntryExtraStateHolder extra = getExtraState( EntityEntryExtraStateHolder.class );
+			if ( extra == null ) {
+				extra = new EntityEntryExtraStateHolder();
+				addExtraState( extra );
+			}
+			extra.setRowId( rowId );
+		}
+	}
+
 	@Override
 	public boolean isExistsInDatabase() {
 		return getCompressedValue( BooleanState.EXISTS_IN_DATABASE );
@@ -224,13 +297,15 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 
 	@Override
 	public EntityKey getEntityKey() {
-		if ( cachedEntityKey == null ) {
-			if ( getId() == null ) {
-				throw new IllegalStateException( "cannot generate an EntityKey when id is null.");
-			}
-			cachedEntityKey = new EntityKey( getId(), getPersister() );
+		if ( idOrEntityKey instanceof EntityKey ) {
+			return (EntityKey) idOrEntityKey;
 		}
-		return cachedEntityKey;
+		if ( idOrEntityKey == null ) {
+			throw new IllegalStateException( "cannot generate an EntityKey when id is null.");
+		}
+		final EntityKey entityKey = new EntityKey( idOrEntityKey, getPersister() );
+		idOrEntityKey = entityKey;
+		return entityKey;
 	}
 
 	@Override
@@ -246,12 +321,14 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 
 	@Override
 	public Object getRowId() {
-		return rowId;
+		final EntityEntryExtraStateHolder extra = getExtraState( EntityEntryExtraStateHolder.class );
+		return extra != null ? extra.getRowId() : null;
 	}
 
 	@Override
 	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
 		this.loadedState = updatedState;
+		discardLoadedStateIfPossible();
 		setLockMode( LockMode.WRITE );
 
 		if ( getPersister().isVersioned() ) {
@@ -279,6 +356,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	@Override
 	public void postInsert(Object[] insertedState) {
 		setCompressedValue( BooleanState.EXISTS_IN_DATABASE, true );
+		discardLoadedStateIfPossible();
 	}
 
 	@Override
@@ -379,7 +457,9 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	@Override
 	public void forceLocked(Object entity, Object nextVersion) {
 		version = nextVersion;
-		loadedState[ persister.getVersionProperty() ] = version;
+		if ( loadedState != null ) {
+			loadedState[ persister.getVersionProperty() ] = version;
+		}
 		setLockMode( LockMode.PESSIMISTIC_FORCE_INCREMENT );
 		persister.setValue( entity, getPersister().getVersionProperty(), nextVersion );
 	}
@@ -410,16 +490,17 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 			setStatus( Status.MANAGED );
 			loadedState = getPersister().getValues( entity );
 			getPersistenceContext().getNaturalIdResolutions().manageLocalResolution(
-					id, loadedState, persister,
+					getId(), loadedState, persister,
 					CachedNaturalIdValueSource.LOAD
 			);
+			discardLoadedStateIfPossible();
 		}
 	}
 
 	@Override
 	public String toString() {
 		return "EntityEntry" +
-				MessageHelper.infoString( getPersister().getEntityName(), id ) +
+				MessageHelper.infoString( getPersister().getEntityName(), getId() ) +
 				'(' + getStatus() + ')';
 	}
 
@@ -427,7 +508,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	public void serialize(ObjectOutputStream oos) throws IOException {
 		final Status previousStatus = getPreviousStatus();
 		oos.writeObject( getEntityName() );
-		oos.writeObject( id );
+		oos.writeObject( getId() );
 		oos.writeObject( getStatus().name() );
 		oos.writeObject( (previousStatus == null ? "" : previousStatus.name()) );
 		// todo : potentially look at optimizing these two arrays
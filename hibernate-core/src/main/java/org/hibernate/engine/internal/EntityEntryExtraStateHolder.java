@@ -16,6 +16,7 @@ import org.hibernate.engine.spi.EntityEntryExtraState;
 public class EntityEntryExtraStateHolder implements EntityEntryExtraState {
 	private EntityEntryExtraState next;
 	private Object[] deletedState;
+	private Object rowId;
 
 	public Object[] getDeletedState() {
 		return deletedState;
@@ -25,6 +26,14 @@ public class EntityEntryExtraStateHolder implements EntityEntryExtraState {
 		this.deletedState = deletedState;
 	}
 
+	public Object getRowId() {
+		return rowId;
+	}
+
+	public void setRowId(Object rowId) {
+		this.rowId = rowId;
+	}
+
 	//the following methods are handling extraState contracts.
 	//they are not shared by a common superclass to avoid alignment padding
 	//we are trading off duplication for padding efficiency
@@ -431,6 +431,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
 			fetchQueue.removeBatchLoadableEntityKey( key );
+			fetchQueue.removeLazyAttributeBatchLoadableEntityKey( key );
 			fetchQueue.removeSubselect( key );
 		}
 		return entity;
@@ -141,7 +141,9 @@ public class ConnectionProviderInitiator implements StandardServiceInitiator<Con
 		}
 
 		if ( configurationValues.get( AvailableSettings.DATASOURCE ) != null ) {
-			return new DatasourceConnectionProviderImpl();
+			return configurationValues.get( AvailableSettings.REPLICA_DATASOURCE ) != null
+					? new DatasourceReadReplicaConnectionProviderImpl()
+					: new DatasourceConnectionProviderImpl();
 		}
 
 		ConnectionProvider connectionProvider = null;
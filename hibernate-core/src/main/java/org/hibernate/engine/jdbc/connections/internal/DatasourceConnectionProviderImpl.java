@@ -80,23 +80,7 @@ public class DatasourceConnectionProviderImpl implements ConnectionProvider, Con
 	@Override
 	public void configure(Map<String, Object> configValues) {
 		if ( this.dataSource == null ) {
-			final Object dataSource = configValues.get( Environment.DATASOURCE );
-			if ( dataSource instanceof DataSource ) {
-				this.dataSource = (DataSource) dataSource;
-			}
-			else {
-				final String dataSourceJndiName = (String) dataSource;
-				if ( dataSourceJndiName == null ) {
-					throw new HibernateException(
-							"DataSource to use was not injected nor specified by [" + Environment.DATASOURCE
-									+ "] configuration property"
-					);
-				}
-				if ( jndiService == null ) {
-					throw new HibernateException( "Unable to locate JndiService to lookup Datasource" );
-				}
-				this.dataSource = (DataSource) jndiService.locate( dataSourceJndiName );
-			}
+			this.dataSource = resolveDataSource( configValues, Environment.DATASOURCE );
 		}
 		if ( this.dataSource == null ) {
 			throw new HibernateException( "Unable to determine appropriate DataSource to use" );
@@ -108,6 +92,30 @@ public class DatasourceConnectionProviderImpl implements ConnectionProvider, Con
 		available = true;
 	}
 
+	/**
+	 * Resolve the {@link DataSource} specified by the given configuration
+	 * property, either as an instance or as a JNDI name.
+	 */
+	protected DataSource resolveDataSource(Map<String, Object> configValues, String settingName) {
+		final Object dataSource = configValues.get( settingName );
+		if ( dataSource instanceof DataSource ) {
+			return (DataSource) dataSource;
+		}
+		else {
+			final String dataSourceJndiName = (String) dataSource;
+			if ( dataSourceJndiName == null ) {
+				throw new HibernateException(
+						"DataSource to use was not injected nor specified by [" + settingName
+								+ "] configuration property"
+				);
+			}
+			if ( jndiService == null ) {
+				throw new HibernateException( "Unable to locate JndiService to lookup Datasource" );
+			}
+			return (DataSource) jndiService.locate( dataSourceJndiName );
+		}
+	}
+
 	@Override
 	public void stop() {
 		available = false;
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+
+/**
+ * A {@link DatasourceConnectionProviderImpl} which also manages connections
+ * from the {@link DataSource} of a read replica, specified, as an instance or
+ * as a JNDI name, by the {@value AvailableSettings#REPLICA_DATASOURCE} config
+ * property.  Connections to the replica are {@linkplain Connection#setReadOnly(boolean)
+ * flagged read-only} while used by Hibernate.
+ */
+public class DatasourceReadReplicaConnectionProviderImpl extends DatasourceConnectionProviderImpl
+		implements ReadReplicaConnectionProvider {
+	private DataSource replicaDataSource;
+	private String user;
+	private String pass;
+
+	public DataSource getReplicaDataSource() {
+		return replicaDataSource;
+	}
+
+	public void setReplicaDataSource(DataSource replicaDataSource) {
+		this.replicaDataSource = replicaDataSource;
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return ReadReplicaConnectionProvider.class.equals( unwrapType )
+				|| super.isUnwrappableAs( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( ReadReplicaConnectionProvider.class.equals( unwrapType ) ) {
+			return (T) this;
+		}
+		return super.unwrap( unwrapType );
+	}
+
+	@Override
+	public void configure(Map<String, Object> configValues) {
+		super.configure( configValues );
+		if ( replicaDataSource == null ) {
+			replicaDataSource = resolveDataSource( configValues, AvailableSettings.REPLICA_DATASOURCE );
+		}
+		if ( replicaDataSource == null ) {
+			throw new HibernateException( "Unable to determine appropriate replica DataSource to use" );
+		}
+		user = (String) configValues.get( Environment.USER );
+		pass = (String) configValues.get( Environment.PASS );
+	}
+
+	@Override
+	public void stop() {
+		super.stop();
+		replicaDataSource = null;
+	}
+
+	@Override
+	public Connection getReadOnlyConnection() throws SQLException {
+		if ( replicaDataSource == null ) {
+			throw new HibernateException( "Provider is closed" );
+		}
+		final Connection connection = user != null || pass != null
+				? replicaDataSource.getConnection( user, pass )
+				: replicaDataSource.getConnection();
+		connection.setReadOnly( true );
+		return connection;
+	}
+
+	@Override
+	public void closeReadOnlyConnection(Connection connection) throws SQLException {
+		try {
+			connection.setReadOnly( false );
+		}
+		finally {
+			connection.close();
+		}
+	}
+}
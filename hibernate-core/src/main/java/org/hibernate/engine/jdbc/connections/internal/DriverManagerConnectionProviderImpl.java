@@ -13,11 +13,15 @@ import java.sql.SQLException;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -34,21 +38,29 @@ import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.ConnectionPoolStatistics;
 
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_LOGGER;
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MESSAGE_LOGGER;
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
  * <p/>
- * IMPL NOTE : not intended for production use!
+ * A thread waits at most {@value #ACQUISITION_TIMEOUT} milliseconds for a connection once
+ * {@value org.hibernate.cfg.AvailableSettings#POOL_SIZE} connections are borrowed, and threads
+ * obtain connections in the order in which they asked for them.  Every {@value #VALIDATION_INTERVAL}
+ * seconds, connections idle for longer than {@value #IDLE_TIMEOUT} seconds, or open for longer
+ * than {@value #MAX_LIFETIME} seconds, are closed, and connections borrowed for longer than
+ * {@value #LEAK_DETECTION_THRESHOLD} seconds are reported.  A connection is
+ * {@linkplain #isValid validated} each time it is borrowed.
  *
  * @author Gavin King
  * @author Steve Ebersole
  */
 public class DriverManagerConnectionProviderImpl
-		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService, ConnectionValidator {
+		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService, ConnectionValidator,
+				ConnectionPoolStatistics {
 
 	//Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent}
 	//package, from which much of the pooling code here is derived.
@@ -58,10 +70,21 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.SECONDS, 0 to not ask the driver whether a connection is valid
+	public static final String VALIDATION_TIMEOUT = "hibernate.connection.pool_validation_timeout";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.SECONDS, 0 to keep idle connections open
+	public static final String IDLE_TIMEOUT = "hibernate.connection.pool_idle_timeout";
+	// in TimeUnit.SECONDS, 0 to never retire connections
+	public static final String MAX_LIFETIME = "hibernate.connection.pool_max_lifetime";
+	// in TimeUnit.SECONDS, 0 to disable leak detection
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
 	private volatile PoolState state;
+	private volatile int validationTimeout;
 
 	// create the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -75,6 +98,7 @@ public class DriverManagerConnectionProviderImpl
 	@Override
 	public void configure(Map<String, Object> configurationValues) {
 		CONNECTIONS_MESSAGE_LOGGER.usingHibernateBuiltInConnectionPool();
+		this.validationTimeout = ConfigurationHelper.getInt( VALIDATION_TIMEOUT, configurationValues, 0 );
 		PooledConnections pool = buildPool( configurationValues, serviceRegistry );
 		final long validationInterval = ConfigurationHelper.getLong( VALIDATION_INTERVAL, configurationValues, 30 );
 		this.state = new PoolState( pool, validationInterval );
@@ -99,6 +123,14 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
 		pooledConnectionBuilder.validator( this );
+		pooledConnectionBuilder.acquisitionTimeout(
+				ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30_000 )
+		);
+		pooledConnectionBuilder.idleTimeout( ConfigurationHelper.getLong( IDLE_TIMEOUT, configurationValues, 600 ) );
+		pooledConnectionBuilder.maxLifetime( ConfigurationHelper.getLong( MAX_LIFETIME, configurationValues, 0 ) );
+		pooledConnectionBuilder.leakDetectionThreshold(
+				ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 )
+		);
 		return pooledConnectionBuilder.build();
 	}
 
@@ -277,6 +309,7 @@ public class DriverManagerConnectionProviderImpl
 	@Override
 	public boolean isUnwrappableAs(Class<?> unwrapType) {
 		return ConnectionProvider.class.equals( unwrapType ) ||
+				ConnectionPoolStatistics.class.equals( unwrapType ) ||
 				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType );
 	}
 
@@ -284,6 +317,7 @@ public class DriverManagerConnectionProviderImpl
 	@SuppressWarnings( {"unchecked"})
 	public <T> T unwrap(Class<T> unwrapType) {
 		if ( ConnectionProvider.class.equals( unwrapType ) ||
+				ConnectionPoolStatistics.class.equals( unwrapType ) ||
 				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ) {
 			return (T) this;
 		}
@@ -329,7 +363,37 @@ public class DriverManagerConnectionProviderImpl
 
 	@Override
 	public boolean isValid(Connection connection) throws SQLException {
-		return true;
+		return validationTimeout <= 0 || connection.isValid( validationTimeout );
+	}
+
+	@Override
+	public int getActiveConnectionCount() {
+		return state.pool.getActiveConnectionCount();
+	}
+
+	@Override
+	public int getIdleConnectionCount() {
+		return state.pool.getIdleConnectionCount();
+	}
+
+	@Override
+	public int getPendingAcquisitionCount() {
+		return state.pool.getPendingAcquisitionCount();
+	}
+
+	@Override
+	public int getMaxPoolSize() {
+		return state.pool.getMaxPoolSize();
+	}
+
+	@Override
+	public long getAcquisitionTimeoutCount() {
+		return state.pool.getAcquisitionTimeoutCount();
+	}
+
+	@Override
+	public long getLeakedConnectionCount() {
+		return state.pool.getLeakedConnectionCount();
 	}
 
 	@Internal
@@ -337,16 +401,28 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
-	public static class PooledConnections {
+	public static class PooledConnections implements ConnectionPoolStatistics {
+
+		private final ConcurrentHashMap<Connection, PooledConnection> allConnections = new ConcurrentHashMap<>();
+		// the most recently returned connections are borrowed first, so that
+		// the connections which are not needed stay idle, and are evicted
+		private final ConcurrentLinkedDeque<PooledConnection> availableConnections = new ConcurrentLinkedDeque<>();
+		// one permit per connection which may be borrowed, handed out in the
+		// order in which they were requested
+		private final Semaphore borrowPermits;
 
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		private final LongAdder acquisitionTimeoutCount = new LongAdder();
+		private final LongAdder leakedConnectionCount = new LongAdder();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
+		private final long idleTimeout;
+		private final long maxLifetime;
+		private final long leakDetectionThreshold;
 
 		private volatile boolean primed;
 
@@ -360,11 +436,19 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
+			idleTimeout = TimeUnit.SECONDS.toNanos( builder.idleTimeout );
+			maxLifetime = TimeUnit.SECONDS.toNanos( builder.maxLifetime );
+			leakDetectionThreshold = TimeUnit.SECONDS.toNanos( builder.leakDetectionThreshold );
+			borrowPermits = new Semaphore( maxSize, true );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
+			evictConnections();
+			detectLeaks();
+
 			final int size = size();
 
 			if ( !primed && size >= minSize ) {
@@ -379,17 +463,69 @@ public class DriverManagerConnectionProviderImpl
 				CONNECTIONS_LOGGER.debugf( "Adding %s Connections to the pool", numberToBeAdded );
 				addConnections( numberToBeAdded );
 			}
-			else if ( size > maxSize ) {
-				int numberToBeRemoved = size - maxSize;
+			else if ( allConnections.size() > maxSize ) {
+				int numberToBeRemoved = allConnections.size() - maxSize;
 				CONNECTIONS_LOGGER.debugf( "Removing %s Connections from the pool", numberToBeRemoved );
 				removeConnections( numberToBeRemoved );
 			}
 		}
 
+		private void evictConnections() {
+			for ( PooledConnection pooled : availableConnections ) {
+				final boolean expired = pooled.isOlderThan( maxLifetime );
+				if ( ( expired || pooled.isIdleLongerThan( idleTimeout ) && allConnections.size() > minSize )
+						// fails if the connection was borrowed in the meantime
+						&& availableConnections.removeFirstOccurrence( pooled ) ) {
+					CONNECTIONS_LOGGER.debugf(
+							"Closing pooled connection which was %s",
+							expired ? "open for longer than its maximum lifetime" : "idle for too long"
+					);
+					closeConnection( pooled.connection, null );
+				}
+			}
+		}
+
+		private void detectLeaks() {
+			if ( leakDetectionThreshold > 0 ) {
+				for ( PooledConnection pooled : allConnections.values() ) {
+					final Throwable acquisition = pooled.leakedAfter( leakDetectionThreshold );
+					if ( acquisition != null ) {
+						leakedConnectionCount.increment();
+						CONNECTIONS_LOGGER.warnf(
+								acquisition,
+								"Connection leak detected: a connection has been borrowed from the pool for more than %s seconds",
+								TimeUnit.NANOSECONDS.toSeconds( leakDetectionThreshold )
+						);
+					}
+				}
+			}
+		}
+
 		public void add(Connection conn) throws SQLException {
-			final Connection connection = releaseConnection( conn );
-			if ( connection != null ) {
-				availableConnections.offer( connection );
+			final PooledConnection pooled = allConnections.get( conn );
+			if ( pooled == null ) {
+				// not borrowed from this pool
+				closeConnection( conn, null );
+				return;
+			}
+			if ( !pooled.returned() ) {
+				CONNECTIONS_LOGGER.debug( "Ignoring connection which was already returned to the pool" );
+				return;
+			}
+			try {
+				final Connection connection = releaseConnection( conn );
+				if ( connection != null ) {
+					if ( pooled.isOlderThan( maxLifetime ) ) {
+						CONNECTIONS_LOGGER.debug( "Closing pooled connection which was open for longer than its maximum lifetime" );
+						closeConnection( connection, null );
+					}
+					else {
+						availableConnections.offerFirst( pooled );
+					}
+				}
+			}
+			finally {
+				borrowPermits.release();
 			}
 		}
 
@@ -398,9 +534,8 @@ public class DriverManagerConnectionProviderImpl
 			try {
 				conn.setAutoCommit( true );
 				conn.clearWarnings();
-				if ( connectionValidator.isValid( conn ) ) {
-					return conn;
-				}
+				// validated when it is borrowed again
+				return conn;
 			}
 			catch (SQLException ex) {
 				t = ex;
@@ -411,22 +546,42 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn;
-			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
+			acquirePermit();
+			try {
+				PooledConnection pooled;
+				while ( ( pooled = availableConnections.pollFirst() ) != null ) {
+					if ( pooled.isOlderThan( maxLifetime ) ) {
+						CONNECTIONS_LOGGER.debug( "Closing pooled connection which was open for longer than its maximum lifetime" );
+						closeConnection( pooled.connection, null );
+					}
+					else if ( prepareConnection( pooled.connection ) != null ) {
+						return pooled.borrowed( leakDetectionThreshold > 0 );
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
-			return conn;
+				// the permit guarantees that the pool may grow
+				return addConnection().borrowed( leakDetectionThreshold > 0 );
+			}
+			catch (RuntimeException e) {
+				borrowPermits.release();
+				throw e;
+			}
+		}
+
+		private void acquirePermit() {
+			final boolean acquired;
+			try {
+				acquired = borrowPermits.tryAcquire( acquisitionTimeout, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+			if ( !acquired ) {
+				acquisitionTimeoutCount.increment();
+				throw new HibernateException(
+						"The internal connection pool has reached its maximum size and no connection became available within "
+								+ acquisitionTimeout + "ms" );
+			}
 		}
 
 		protected Connection prepareConnection(Connection conn) {
@@ -468,7 +623,7 @@ public class DriverManagerConnectionProviderImpl
 				}
 			}
 			finally {
-				for ( Connection connection : allConnections ) {
+				for ( Connection connection : allConnections.keySet() ) {
 					connection.close();
 				}
 			}
@@ -480,36 +635,76 @@ public class DriverManagerConnectionProviderImpl
 
 		protected void removeConnections(int numberToBeRemoved) {
 			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
-				try {
-					if ( connection != null ) {
-						connection.close();
-					}
-					allConnections.remove( connection );
-				}
-				catch (SQLException e) {
-					CONNECTIONS_MESSAGE_LOGGER.unableToCloseConnection( e );
+				// the least recently used connections are at the tail
+				final PooledConnection pooled = availableConnections.pollLast();
+				if ( pooled == null ) {
+					return;
 				}
+				closeConnection( pooled.connection, null );
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+				availableConnections.offerLast( addConnection() );
 			}
 		}
 
+		private PooledConnection addConnection() {
+			final PooledConnection pooled = new PooledConnection( connectionCreator.createConnection() );
+			allConnections.put( pooled.connection, pooled );
+			return pooled;
+		}
+
 		public String getUrl() {
 			return connectionCreator.getUrl();
 		}
 
 		@Internal
 		public void releasePooledConnections() {
-			for ( Connection connection : allConnections ) {
-				closeConnection( connection, null );
+			PooledConnection pooled;
+			while ( ( pooled = availableConnections.pollFirst() ) != null ) {
+				closeConnection( pooled.connection, null );
 			}
+			// the borrowed connections are discarded once returned
+			for ( PooledConnection borrowed : allConnections.values() ) {
+				try {
+					borrowed.connection.close();
+				}
+				catch (SQLException e) {
+					CONNECTIONS_MESSAGE_LOGGER.unableToCloseConnection( e );
+				}
+			}
+		}
+
+		@Override
+		public int getActiveConnectionCount() {
+			return maxSize - borrowPermits.availablePermits();
+		}
+
+		@Override
+		public int getIdleConnectionCount() {
+			return availableConnections.size();
+		}
+
+		@Override
+		public int getPendingAcquisitionCount() {
+			return borrowPermits.getQueueLength();
+		}
+
+		@Override
+		public int getMaxPoolSize() {
+			return maxSize;
+		}
+
+		@Override
+		public long getAcquisitionTimeoutCount() {
+			return acquisitionTimeoutCount.sum();
+		}
+
+		@Override
+		public long getLeakedConnectionCount() {
+			return leakedConnectionCount.sum();
 		}
 
 		public static class Builder {
@@ -519,6 +714,10 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout = 30_000;
+			private long idleTimeout = 600;
+			private long maxLifetime;
+			private long leakDetectionThreshold;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -545,12 +744,98 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param acquisitionTimeout in milliseconds
+			 */
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			/**
+			 * @param idleTimeout in seconds, or 0 to keep idle connections open
+			 */
+			public Builder idleTimeout(long idleTimeout) {
+				this.idleTimeout = idleTimeout;
+				return this;
+			}
+
+			/**
+			 * @param maxLifetime in seconds, or 0 to never retire connections
+			 */
+			public Builder maxLifetime(long maxLifetime) {
+				this.maxLifetime = maxLifetime;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold in seconds, or 0 to disable leak detection
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
 			public PooledConnections build() {
 				return new PooledConnections( this );
 			}
 		}
 	}
 
+	/**
+	 * A connection of the pool, with the timestamps used to evict it.
+	 */
+	private static final class PooledConnection {
+		private final Connection connection;
+		private final long createdAt = System.nanoTime();
+		private final AtomicBoolean inUse = new AtomicBoolean();
+		private volatile long lastUsedAt = createdAt;
+		private volatile long borrowedAt;
+		private volatile Throwable acquisition;
+
+		private PooledConnection(Connection connection) {
+			this.connection = connection;
+		}
+
+		private Connection borrowed(boolean recordAcquisition) {
+			borrowedAt = System.nanoTime();
+			acquisition = recordAcquisition ? new Exception( "Connection acquired here" ) : null;
+			inUse.set( true );
+			return connection;
+		}
+
+		private boolean returned() {
+			if ( !inUse.compareAndSet( true, false ) ) {
+				return false;
+			}
+			acquisition = null;
+			lastUsedAt = System.nanoTime();
+			return true;
+		}
+
+		private boolean isOlderThan(long maxLifetime) {
+			return maxLifetime > 0 && System.nanoTime() - createdAt > maxLifetime;
+		}
+
+		private boolean isIdleLongerThan(long idleTimeout) {
+			return idleTimeout > 0 && System.nanoTime() - lastUsedAt > idleTimeout;
+		}
+
+		/**
+		 * @return where the connection was acquired, if it has been borrowed for
+		 * longer than the threshold and was not reported yet
+		 */
+		private Throwable leakedAfter(long threshold) {
+			final Throwable acquisition = this.acquisition;
+			if ( acquisition != null && inUse.get() && System.nanoTime() - borrowedAt > threshold ) {
+				// report it only once
+				this.acquisition = null;
+				return acquisition;
+			}
+			return null;
+		}
+	}
+
 	private static class PoolState implements Runnable {
 
 		//Protecting any lifecycle state change:
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link ConnectionProvider} which also provides connections to a read
+ * replica of the database.  Sessions opened
+ * {@linkplain org.hibernate.SessionBuilder#readOnly(boolean) read-only}
+ * obtain their connections from the replica, all other sessions from the
+ * primary database.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#REPLICA_DATASOURCE
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface ReadReplicaConnectionProvider extends ConnectionProvider {
+	/**
+	 * Obtains a connection to the read replica.
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise obtaining a connection.
+	 */
+	Connection getReadOnlyConnection() throws SQLException;
+
+	/**
+	 * Release a connection to the read replica from Hibernate use.
+	 *
+	 * @param connection The JDBC connection to release
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise releasing a connection.
+	 */
+	void closeReadOnlyConnection(Connection connection) throws SQLException;
+}
@@ -13,6 +13,8 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -55,6 +57,8 @@ public class ExtractedDatabaseMetaDataImpl implements ExtractedDatabaseMetaData
 	//shown to be too slow in some cases. In this way we only load it
 	//when there is actual need for these details.
 	private List<SequenceInformation> sequenceInformationList;
+	// not a monitor, since loading the sequence information queries the database
+	private final Lock sequenceInformationLock = new ReentrantLock();
 
 	private ExtractedDatabaseMetaDataImpl(
 			JdbcEnvironment jdbcEnvironment,
@@ -141,19 +145,25 @@ public class ExtractedDatabaseMetaDataImpl implements ExtractedDatabaseMetaData
 	}
 
 	@Override
-	public synchronized List<SequenceInformation> getSequenceInformationList() {
-		if ( jdbcMetadataAccessible ) {
-			//Loading the sequence information can take a while on large databases,
-			//even minutes in some cases.
-			//We trigger this lazily as only certain combinations of configurations,
-			//mappings and used features actually trigger any use of such details.
-			if ( sequenceInformationList == null ) {
-				sequenceInformationList = sequenceInformationList();
+	public List<SequenceInformation> getSequenceInformationList() {
+		sequenceInformationLock.lock();
+		try {
+			if ( jdbcMetadataAccessible ) {
+				//Loading the sequence information can take a while on large databases,
+				//even minutes in some cases.
+				//We trigger this lazily as only certain combinations of configurations,
+				//mappings and used features actually trigger any use of such details.
+				if ( sequenceInformationList == null ) {
+					sequenceInformationList = sequenceInformationList();
+				}
+				return sequenceInformationList;
+			}
+			else {
+				return Collections.emptyList();
 			}
-			return sequenceInformationList;
 		}
-		else {
-			return Collections.emptyList();
+		finally {
+			sequenceInformationLock.unlock();
 		}
 	}
 
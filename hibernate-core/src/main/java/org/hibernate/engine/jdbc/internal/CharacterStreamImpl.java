@@ -56,7 +56,7 @@ public class CharacterStreamImpl implements CharacterStream {
 	@Override
 	public String asString() {
 		if ( string == null ) {
-			string = DataHelper.extractString( reader );
+			string = DataHelper.extractString( reader, (int) Math.min( length, Integer.MAX_VALUE ) );
 		}
 		return string;
 	}
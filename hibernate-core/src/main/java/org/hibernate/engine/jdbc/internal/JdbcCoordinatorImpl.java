@@ -16,6 +16,7 @@ import java.sql.Statement;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
+import org.hibernate.ReadOnlySessionException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
@@ -36,6 +37,7 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -57,6 +59,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient final JdbcSessionOwner owner;
 
 	private transient final JdbcServices jdbcServices;
+	private transient final PreparedStatementCache preparedStatementCache;
 
 	private transient Batch currentBatch;
 
@@ -80,9 +83,11 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcSessionOwner owner,
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
+		this.preparedStatementCache = isUserSuppliedConnection ? null : createPreparedStatementCache( owner );
 
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				preparedStatementCache
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -109,6 +114,24 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.jdbcServices = owner.getJdbcSessionContext()
 				.getServiceRegistry()
 				.getService( JdbcServices.class );
+		this.preparedStatementCache = null;
+	}
+
+	private static PreparedStatementCache createPreparedStatementCache(JdbcSessionOwner owner) {
+		final SessionFactoryImplementor sessionFactory = owner.getJdbcSessionContext().getSessionFactory();
+		if ( sessionFactory == null ) {
+			return null;
+		}
+		final int cacheSize = sessionFactory.getSessionFactoryOptions().getPreparedStatementCacheSize();
+		return cacheSize > 0 ? new PreparedStatementCache( cacheSize, sessionFactory.getStatistics() ) : null;
+	}
+
+	/**
+	 * The cache of the prepared statements of the physical connection, or
+	 * {@code null} if statements are not cached
+	 */
+	PreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
 	}
 
 	@Override
@@ -174,6 +197,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key) {
+		if ( owner.getJdbcSessionContext().isReadOnly() ) {
+			throw new ReadOnlySessionException( "A read-only session cannot execute the batch " + key );
+		}
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
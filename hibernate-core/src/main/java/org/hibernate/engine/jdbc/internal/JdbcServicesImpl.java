@@ -24,6 +24,7 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.sql.ast.spi.SqlBufferSizeHint;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
@@ -38,6 +39,8 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 	private SqlStatementLogger sqlStatementLogger;
 
+	private final SqlBufferSizeHint sqlBufferSizeHint = new SqlBufferSizeHint();
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
@@ -105,4 +108,9 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		return null;
 	}
 
+	@Override
+	public SqlBufferSizeHint getSqlBufferSizeHint() {
+		return sqlBufferSizeHint;
+	}
+
 }
@@ -12,6 +12,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import org.hibernate.ReadOnlySessionException;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -25,6 +26,10 @@ import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
  * @author Brett Meyer
  */
 public class ResultSetReturnImpl implements ResultSetReturn {
+	private static final String[] MUTATION_OR_CALL_KEYWORDS = {
+			"insert", "update", "delete", "merge", "upsert", "replace", "call", "exec"
+	};
+
 	private final JdbcCoordinator jdbcCoordinator;
 
 	private final Dialect dialect;
@@ -45,6 +50,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet extract(PreparedStatement statement) {
+		if ( statement instanceof CallableStatement ) {
+			checkWritable( statement );
+		}
 		// IMPL NOTE : SQL logged by caller
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -78,6 +86,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet extract(CallableStatement callableStatement) {
+		checkWritable( callableStatement );
 		// IMPL NOTE : SQL logged by caller
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -103,6 +112,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet extract(Statement statement, String sql) {
+		if ( isMutationOrCall( sql ) ) {
+			checkWritable( sql );
+		}
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -128,6 +140,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet execute(PreparedStatement statement) {
+		checkWritable( statement );
 		// sql logged by StatementPreparerImpl
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -158,6 +171,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public ResultSet execute(Statement statement, String sql) {
+		checkWritable( sql );
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -188,6 +202,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public int executeUpdate(PreparedStatement statement) {
+		checkWritable( statement );
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
@@ -207,6 +222,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
+		checkWritable( sql );
 		sqlStatementLogger.logStatement( sql );
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
@@ -225,6 +241,46 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 	}
 
+	private void checkWritable(Object statement) {
+		if ( jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().isReadOnly() ) {
+			throw new ReadOnlySessionException( "A read-only session cannot execute [" + statement + "]" );
+		}
+	}
+
+	/**
+	 * Does the given SQL modify data, or call a stored procedure which might?
+	 * Used to refuse statements like {@code insert ... returning} which are
+	 * executed as queries in a read-only session.
+	 * <p>
+	 * This is a heuristic based on the leading keyword of the SQL, after any
+	 * comments: it does not recognize, for example, a data-modifying common
+	 * table expression, nor a function with side effects called by a select.
+	 */
+	public static boolean isMutationOrCall(String sql) {
+		final int length = sql.length();
+		int start = 0;
+		while ( start < length ) {
+			final char c = sql.charAt( start );
+			if ( Character.isWhitespace( c ) || c == '(' || c == '{' ) {
+				start++;
+			}
+			else if ( sql.startsWith( "/*", start ) ) {
+				final int end = sql.indexOf( "*/", start + 2 );
+				start = end < 0 ? length : end + 2;
+			}
+			else {
+				break;
+			}
+		}
+		for ( String keyword : MUTATION_OR_CALL_KEYWORDS ) {
+			if ( sql.regionMatches( true, start, keyword, 0, keyword.length() ) ) {
+				return true;
+			}
+		}
+		// a function call like {? = call ...}
+		return sql.startsWith( "?", start );
+	}
+
 	private void postExtract(ResultSet rs, Statement st) {
 		if ( rs != null ) {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( rs, st );
@@ -18,6 +18,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -87,11 +88,32 @@ class StatementPreparerImpl implements StatementPreparer {
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
 						? connection().prepareCall( sql )
-						: connection().prepareStatement( sql );
+						: prepareCacheableStatement( sql, ResultSet.TYPE_FORWARD_ONLY );
 			}
 		};
 	}
 
+	/**
+	 * Take the statement from the cache of prepared statements, if enabled,
+	 * or prepare it and have it cached once released.
+	 */
+	private PreparedStatement prepareCacheableStatement(String sql, int resultSetType) throws SQLException {
+		final PreparedStatementCache cache = jdbcCoordinator.getPreparedStatementCache();
+		if ( cache != null ) {
+			final PreparedStatement cached = cache.take( sql, resultSetType );
+			if ( cached != null ) {
+				return cached;
+			}
+		}
+		final PreparedStatement statement = resultSetType == ResultSet.TYPE_FORWARD_ONLY
+				? connection().prepareStatement( sql )
+				: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+		if ( cache != null ) {
+			cache.track( statement, sql, resultSetType );
+		}
+		return statement;
+	}
+
 	private void checkAutoGeneratedKeysSupportEnabled() {
 		if ( ! settings().isGetGeneratedKeysEnabled() ) {
 			throw new AssertionFailure( "getGeneratedKeys() support is not enabled" );
@@ -135,7 +157,7 @@ class StatementPreparerImpl implements StatementPreparer {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
-								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
+								: prepareCacheableStatement( sql, scrollMode.toResultSetType() );
 				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
@@ -146,7 +168,7 @@ class StatementPreparerImpl implements StatementPreparer {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
-								: connection().prepareStatement( sql );
+								: prepareCacheableStatement( sql, ResultSet.TYPE_FORWARD_ONLY );
 				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
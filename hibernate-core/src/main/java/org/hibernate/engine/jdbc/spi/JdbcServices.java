@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.LobCreationContext;
 import org.hibernate.engine.jdbc.LobCreator;
@@ -13,6 +14,7 @@ import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.service.Service;
+import org.hibernate.sql.ast.spi.SqlBufferSizeHint;
 import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.exec.internal.StandardJdbcMutationExecutor;
 import org.hibernate.sql.exec.spi.JdbcMutationExecutor;
@@ -84,4 +86,16 @@ public interface JdbcServices extends Service {
 	default JdbcMutationExecutor getJdbcMutationExecutor() {
 		return StandardJdbcMutationExecutor.INSTANCE;
 	}
+
+	/**
+	 * The initial capacity hint for the SQL buffers of the SQL AST translators,
+	 * adapted to the length of the SQL they render.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default SqlBufferSizeHint getSqlBufferSizeHint() {
+		//For backward compatibility
+		return new SqlBufferSizeHint();
+	}
 }
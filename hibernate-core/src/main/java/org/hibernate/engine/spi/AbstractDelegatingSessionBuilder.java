@@ -88,6 +88,12 @@ public abstract class AbstractDelegatingSessionBuilder<T extends SessionBuilder>
 		return getThis();
 	}
 
+	@Override
+	public T readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return getThis();
+	}
+
 	@Override
 	public T eventListeners(SessionEventListener... listeners) {
 		delegate.eventListeners( listeners );
@@ -124,6 +124,12 @@ public abstract class AbstractDelegatingSharedSessionBuilder<T extends SharedSes
 		return getThis();
 	}
 
+	@Override
+	public T readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return getThis();
+	}
+
 	@Override
 	public T eventListeners(SessionEventListener... listeners) {
 		delegate.eventListeners( listeners );
@@ -6,11 +6,13 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -59,6 +61,13 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * Used to hold information about the managed entities which have uninitialized lazy attributes that are
+	 * currently eligible for batch-fetching.  Ultimately used by {@link #getLazyAttributeBatch} to build lazy
+	 * attribute load batches.
+	 */
+	private Map<String, LinkedHashSet<EntityKey>> lazyAttributeBatchLoadableEntityKeys;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -76,6 +85,7 @@ public class BatchFetchQueue {
 	public void clear() {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
+		lazyAttributeBatchLoadableEntityKeys = null;
 		subselectsByEntityKey = null;
 	}
 
@@ -254,6 +264,124 @@ public class BatchFetchQueue {
 	}
 
 
+	// lazy attribute group batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Add the key of a managed entity which has uninitialized lazy attributes
+	 * to the queue.
+	 */
+	public void addLazyAttributeBatchLoadableEntityKey(EntityKey key) {
+		if ( lazyAttributeBatchLoadableEntityKeys == null ) {
+			lazyAttributeBatchLoadableEntityKeys = CollectionHelper.mapOfSize( 12 );
+		}
+		lazyAttributeBatchLoadableEntityKeys.computeIfAbsent(
+				key.getEntityName(),
+				k -> CollectionHelper.linkedSetOfSize( 8 )
+		).add( key );
+	}
+
+	/**
+	 * After evicting or deleting an entity, or initializing all its lazy
+	 * attributes, we don't need to batch fetch its lazy attributes anymore,
+	 * remove it from the queue if necessary
+	 */
+	public void removeLazyAttributeBatchLoadableEntityKey(EntityKey key) {
+		if ( lazyAttributeBatchLoadableEntityKeys != null ) {
+			final LinkedHashSet<EntityKey> set = lazyAttributeBatchLoadableEntityKeys.get( key.getEntityName() );
+			if ( set != null ) {
+				set.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of managed instances of the given entity type for which the
+	 * given lazy attribute has not been initialized yet, trying to grab the
+	 * instances which were added to the queue immediately after the given
+	 * instance.
+	 *
+	 * @param persister The persister for the entity type
+	 * @param entity An instance that must be included in the batch
+	 * @param attributeName The lazy attribute being initialized
+	 * @param batchSize the maximum number of instances to return
+	 * @return an array of entity instances, of length batchSize (padded with nulls)
+	 */
+	public Object[] getLazyAttributeBatch(
+			final EntityPersister persister,
+			final Object entity,
+			final String attributeName,
+			final int batchSize) {
+
+		final Object[] entities = new Object[batchSize];
+		entities[0] = entity;
+
+		if ( lazyAttributeBatchLoadableEntityKeys == null ) {
+			return entities;
+		}
+
+		final LinkedHashSet<EntityKey> set = lazyAttributeBatchLoadableEntityKeys.get( persister.getEntityName() );
+		if ( set == null ) {
+			return entities;
+		}
+
+		int i = 1;
+		int end = -1;
+		boolean checkForEnd = false;
+
+		final Iterator<EntityKey> keys = set.iterator();
+		while ( keys.hasNext() ) {
+			if ( checkForEnd && i == end ) {
+				return entities; //the first instance found after the given instance
+			}
+
+			final Object candidate = context.getEntity( keys.next() );
+			if ( candidate == entity ) {
+				end = i;
+			}
+			else if ( candidate == null || !hasUninitializedLazyAttributes( candidate ) ) {
+				// the entity is gone, or all its lazy attributes were initialized in some other way
+				keys.remove();
+			}
+			else if ( isLazyAttributeUninitialized( candidate, attributeName ) ) {
+				final EntityEntry entry = context.getEntry( candidate );
+				if ( entry != null
+						&& ( entry.getStatus() == Status.MANAGED || entry.getStatus() == Status.READ_ONLY ) ) {
+					entities[i++] = candidate;
+				}
+			}
+
+			if ( i == batchSize ) {
+				i = 1; //end of array, start filling again from start
+				if ( end != -1 ) {
+					checkForEnd = true;
+				}
+			}
+		}
+		return entities; //we ran out of instances to try
+	}
+
+	private static boolean hasUninitializedLazyAttributes(Object entity) {
+		final LazyAttributeLoadingInterceptor interceptor = lazyAttributeLoadingInterceptor( entity );
+		return interceptor != null && interceptor.hasAnyUninitializedAttributes();
+	}
+
+	private static boolean isLazyAttributeUninitialized(Object entity, String attributeName) {
+		final LazyAttributeLoadingInterceptor interceptor = lazyAttributeLoadingInterceptor( entity );
+		return interceptor != null && !interceptor.isAttributeLoaded( attributeName );
+	}
+
+	private static LazyAttributeLoadingInterceptor lazyAttributeLoadingInterceptor(Object entity) {
+		if ( entity instanceof PersistentAttributeInterceptable ) {
+			final PersistentAttributeInterceptor interceptor =
+					( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+			if ( interceptor instanceof LazyAttributeLoadingInterceptor ) {
+				return (LazyAttributeLoadingInterceptor) interceptor;
+			}
+		}
+		return null;
+	}
+
+
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
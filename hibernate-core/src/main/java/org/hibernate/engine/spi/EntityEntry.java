@@ -35,6 +35,14 @@ public interface EntityEntry {
 
 	Object getId();
 
+	/**
+	 * The snapshot of the entity state as it was loaded or last flushed.
+	 *
+	 * @return the loaded state, or {@code null} if the entity is read-only, or if
+	 * the snapshot was discarded because the entity tracks its own dirtiness
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SNAPSHOT_FREE_LOADING
+	 */
 	Object[] getLoadedState();
 
 	Object getLoadedValue(String propertyName);
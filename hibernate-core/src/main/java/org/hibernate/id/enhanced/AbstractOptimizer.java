@@ -6,6 +6,9 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.hibernate.HibernateException;
 
 /**
@@ -17,6 +20,14 @@ public abstract class AbstractOptimizer implements Optimizer {
 	protected final Class returnClass;
 	protected final int incrementSize;
 
+	/**
+	 * Guards the generation state of optimizers which share it between threads.
+	 * Generating may access the database, and a thread waiting for the database
+	 * while holding a monitor pins the carrier of a virtual thread, so this is a
+	 * {@link Lock} rather than a {@code synchronized} block.
+	 */
+	protected final Lock generationLock = new ReentrantLock();
+
 	/**
 	 * Construct an optimizer
 	 *
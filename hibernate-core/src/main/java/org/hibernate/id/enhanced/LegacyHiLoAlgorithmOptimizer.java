@@ -53,16 +53,22 @@ public class LegacyHiLoAlgorithmOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.lo > generationState.maxLo ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.lo = generationState.lastSourceValue.eq( 0 ) ? 1 : 0;
-			generationState.hi = generationState.lastSourceValue.copy().multiplyBy( generationState.maxLo + 1 );
+	public Serializable generate(AccessCallback callback) {
+		generationLock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+			if ( generationState.lo > generationState.maxLo ) {
+				generationState.lastSourceValue = callback.getNextValue();
+				generationState.lo = generationState.lastSourceValue.eq( 0 ) ? 1 : 0;
+				generationState.hi = generationState.lastSourceValue.copy().multiplyBy( generationState.maxLo + 1 );
+			}
+			generationState.value = generationState.hi.copy().add( generationState.lo++ );
+			return generationState.value.makeValue();
+		}
+		finally {
+			generationLock.unlock();
 		}
-		generationState.value = generationState.hi.copy().add( generationState.lo++ );
-		return generationState.value.makeValue();
 	}
 
 	private GenerationState noTenantState;
@@ -108,8 +114,14 @@ public class LegacyHiLoAlgorithmOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().lastSourceValue.copy();
+	public IntegralDataTypeHolder getLastSourceValue() {
+		generationLock.lock();
+		try {
+			return noTenantGenerationState().lastSourceValue.copy();
+		}
+		finally {
+			generationLock.unlock();
+		}
 	}
 
 	@Override
@@ -125,7 +137,13 @@ public class LegacyHiLoAlgorithmOptimizer extends AbstractOptimizer {
 	 * @return Value for property 'lastValue'.
 	 */
 	@SuppressWarnings( {"UnusedDeclaration"})
-	public synchronized IntegralDataTypeHolder getLastValue() {
-		return noTenantGenerationState().value;
+	public IntegralDataTypeHolder getLastValue() {
+		generationLock.lock();
+		try {
+			return noTenantGenerationState().value;
+		}
+		finally {
+			generationLock.unlock();
+		}
 	}
 }
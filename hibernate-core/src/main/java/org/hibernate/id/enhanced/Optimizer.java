@@ -27,7 +27,9 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
+	 * All known implementors are thread-safe, and guard their state with a
+	 * {@link java.util.concurrent.locks.Lock} rather than a monitor, since
+	 * the callback may access the database. Consider carefully if a new
 	 * implementation could drop this requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
@@ -129,6 +129,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	private transient SessionFactoryImpl factory;
 	private final String tenantIdentifier;
+	private final boolean readOnly;
 	protected transient FastSessionServices fastSessionServices;
 	private UUID sessionIdentifier;
 	private Object sessionToken;
@@ -174,6 +175,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		this.flushMode = options.getInitialSessionFlushMode();
 
 		this.tenantIdentifier = options.getTenantIdentifier();
+		this.readOnly = options.isReadOnly();
 		if ( factory.getSessionFactoryOptions().isMultiTenancyEnabled() && tenantIdentifier == null ) {
 			throw new HibernateException( "SessionFactory configured for multi-tenancy, but no tenant identifier specified" );
 		}
@@ -221,7 +223,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			}
 
 			this.jdbcSessionContext = new JdbcSessionContextImpl( this, statementInspector,
-					connectionHandlingMode, fastSessionServices );
+					connectionHandlingMode, readOnly, fastSessionServices );
 
 			addSharedSessionTransactionObserver( transactionCoordinator );
 		}
@@ -230,7 +232,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			this.autoJoinTransactions = options.shouldAutoJoinTransactions();
 			this.connectionHandlingMode = options.getPhysicalConnectionHandlingMode();
 			this.jdbcSessionContext = new JdbcSessionContextImpl( this, statementInspector,
-					connectionHandlingMode, fastSessionServices );
+					connectionHandlingMode, readOnly, fastSessionServices );
 			// This must happen *after* the JdbcSessionContext was initialized,
 			// because some of the calls below retrieve this context indirectly through Session getters.
 			this.jdbcCoordinator = new JdbcCoordinatorImpl( options.getConnection(), this, fastSessionServices.jdbcServices );
@@ -552,7 +554,13 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	public JdbcConnectionAccess getJdbcConnectionAccess() {
 		// See class-level JavaDocs for a discussion of the concurrent-access safety of this method
 		if ( jdbcConnectionAccess == null ) {
-			if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
+			if ( readOnly && fastSessionServices.readReplicaConnectionProvider != null ) {
+				jdbcConnectionAccess = new ReadReplicaJdbcConnectionAccess(
+						getEventListenerManager(),
+						fastSessionServices.readReplicaConnectionProvider
+				);
+			}
+			else if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
 				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
 						getEventListenerManager(),
 						fastSessionServices.connectionProvider
@@ -1399,7 +1407,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		fastSessionServices = factory.getFastSessionServices();
 		sessionEventsManager = new SessionEventListenerManagerImpl( fastSessionServices.defaultSessionEventListeners.buildBaseline() );
 		jdbcSessionContext = new JdbcSessionContextImpl( this, (StatementInspector) ois.readObject(),
-				connectionHandlingMode, fastSessionServices );
+				connectionHandlingMode, readOnly, fastSessionServices );
 		jdbcCoordinator = JdbcCoordinatorImpl.deserialize( ois, this );
 
 		cacheTransactionSync = factory.getCache().getRegionFactory().createTransactionContext( this );
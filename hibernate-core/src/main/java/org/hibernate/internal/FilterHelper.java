@@ -181,22 +181,36 @@ public class FilterHelper {
 							final Iterator<?> iterator = ( (Iterable<?>) parameterValue ).iterator();
 							if ( iterator.hasNext() ) {
 								final Object element = iterator.next();
-								final FilterJdbcParameter jdbcParameter = new FilterJdbcParameter( jdbcMapping, element );
+								final FilterJdbcParameter jdbcParameter =
+										new FilterJdbcParameter( jdbcMapping, element, filterName, parameterName, 0 );
 								filterPredicate.applyParameter( jdbcParameter );
 
+								int elementIndex = 1;
 								while ( iterator.hasNext() ) {
 									paramMarkers.append( ",?" );
-									filterPredicate.applyParameter( new FilterJdbcParameter( jdbcMapping, iterator.next() ) );
+									filterPredicate.applyParameter(
+											new FilterJdbcParameter(
+													jdbcMapping,
+													iterator.next(),
+													filterName,
+													parameterName,
+													elementIndex++
+											)
+									);
 								}
 							}
 							else {
 								// We need a dummy value if the list is empty
-								filterPredicate.applyParameter( new FilterJdbcParameter( jdbcMapping, null ) );
+								filterPredicate.applyParameter(
+										new FilterJdbcParameter( jdbcMapping, null, filterName, parameterName, 0 )
+								);
 							}
 						}
 						else {
 							final Object argument = filterDefinition.processArgument( parameterValue );
-							filterPredicate.applyParameter( new FilterJdbcParameter( jdbcMapping, argument) );
+							filterPredicate.applyParameter(
+									new FilterJdbcParameter( jdbcMapping, argument, filterName, parameterName, -1 )
+							);
 						}
 
 						final String marker = ":" + filterNames[ i ] + "." + parameterName;
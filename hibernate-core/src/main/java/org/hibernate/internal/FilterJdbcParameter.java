@@ -6,8 +6,12 @@
  */
 package org.hibernate.internal;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 
+import org.hibernate.Filter;
+
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.model.convert.spi.BasicValueConverter;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -24,11 +28,33 @@ public class FilterJdbcParameter {
 	private final JdbcParameter parameter;
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final String filterName;
+	private final String parameterName;
+	private final int elementIndex;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * Create a parameter for the value of the given filter parameter, which is
+	 * re-read from the enabled filters by {@link #getBinding(Map)}.
+	 *
+	 * @param elementIndex The index of the value within a multi-valued filter
+	 * parameter, or {@code -1} for a single-valued parameter
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int elementIndex) {
 		this.parameter = new JdbcParameterImpl( jdbcMapping );
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.elementIndex = elementIndex;
 	}
 
 	public JdbcParameter getParameter() {
@@ -40,11 +66,39 @@ public class FilterJdbcParameter {
 	}
 
 	public JdbcParameterBinding getBinding() {
+		return createBinding( jdbcParameterValue );
+	}
+
+	/**
+	 * The binding for the current value of the filter parameter in the given
+	 * enabled filters, which may differ from the value the SQL was generated for
+	 * when the SQL is shared between executions.
+	 */
+	public JdbcParameterBinding getBinding(Map<String, Filter> enabledFilters) {
+		final FilterImpl filter = filterName == null ? null : (FilterImpl) enabledFilters.get( filterName );
+		if ( filter == null ) {
+			return getBinding();
+		}
+
+		final Object parameterValue = filter.getParameter( parameterName );
+		if ( elementIndex < 0 ) {
+			return createBinding( filter.getFilterDefinition().processArgument( parameterValue ) );
+		}
+
+		// an empty collection is bound as a single null
+		final Iterator<?> iterator = ( (Iterable<?>) parameterValue ).iterator();
+		for ( int i = 0; i < elementIndex && iterator.hasNext(); i++ ) {
+			iterator.next();
+		}
+		return createBinding( iterator.hasNext() ? iterator.next() : null );
+	}
+
+	private JdbcParameterBinding createBinding(Object value) {
 		final BasicValueConverter valueConverter = jdbcMapping.getValueConverter();
 		if ( valueConverter == null ) {
-			return new JdbcParameterBindingImpl( jdbcMapping, jdbcParameterValue );
+			return new JdbcParameterBindingImpl( jdbcMapping, value );
 		}
-		return new JdbcParameterBindingImpl( jdbcMapping, valueConverter.toRelationalValue( jdbcParameterValue ) );
+		return new JdbcParameterBindingImpl( jdbcMapping, valueConverter.toRelationalValue( value ) );
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import java.sql.Connection;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -20,20 +21,31 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	private final ConnectionObserverStatsBridge observer;
 	private final SessionEventListenerManager eventListenerManager;
 	private final SharedSessionContractImplementor session;
+	private final StatisticsImplementor statistics;
+
+	// the System#nanoTime() at which the timed operations started, or 0 if they are not timed
+	private long connectionAcquisitionStart;
+	private long executionStart;
 
 	public JdbcObserverImpl(SharedSessionContractImplementor session, FastSessionServices fastSessionServices) {
 		this.session = session;
 		this.observer = fastSessionServices.getDefaultJdbcObserver();
 		this.eventListenerManager = session.getEventListenerManager();
+		this.statistics = session.getFactory().getStatistics();
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		connectionAcquisitionStart = startTiming();
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
 		observer.physicalConnectionObtained( connection );
+		if ( connectionAcquisitionStart != 0 ) {
+			statistics.connectionAcquisitionTimed( System.nanoTime() - connectionAcquisitionStart );
+			connectionAcquisitionStart = 0;
+		}
 	}
 
 	@Override
@@ -59,23 +71,38 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	@Override
 	public void jdbcExecuteStatementStart() {
 		eventListenerManager.jdbcExecuteStatementStart();
+		executionStart = startTiming();
 	}
 
 	@Override
 	public void jdbcExecuteStatementEnd() {
+		executionTimed();
 		eventListenerManager.jdbcExecuteStatementEnd();
 	}
 
 	@Override
 	public void jdbcExecuteBatchStart() {
 		eventListenerManager.jdbcExecuteBatchStart();
+		executionStart = startTiming();
 	}
 
 	@Override
 	public void jdbcExecuteBatchEnd() {
+		executionTimed();
 		eventListenerManager.jdbcExecuteBatchEnd();
 	}
 
+	private long startTiming() {
+		return statistics.isLatencyHistogramEnabled() ? System.nanoTime() : 0;
+	}
+
+	private void executionTimed() {
+		if ( executionStart != 0 ) {
+			statistics.statementExecutionTimed( System.nanoTime() - executionStart );
+			executionStart = 0;
+		}
+	}
+
 	@Override
 	public void jdbcReleaseRegistryResourcesStart() {
 		session.getJdbcCoordinator().abortBatch();
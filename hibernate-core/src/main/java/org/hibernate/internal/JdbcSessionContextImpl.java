@@ -22,6 +22,7 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 	private final SessionFactoryImplementor sessionFactory;
 	private final StatementInspector statementInspector;
 	private final PhysicalConnectionHandlingMode connectionHandlingMode;
+	private final boolean readOnly;
 
 	private final transient ServiceRegistry serviceRegistry;
 	private final transient JdbcObserver jdbcObserver;
@@ -30,10 +31,12 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 			SharedSessionContractImplementor session,
 			StatementInspector statementInspector,
 			PhysicalConnectionHandlingMode connectionHandlingMode,
+			boolean readOnly,
 			FastSessionServices fastSessionServices) {
 		this.sessionFactory = session.getFactory();
 		this.statementInspector = statementInspector;
 		this.connectionHandlingMode = connectionHandlingMode;
+		this.readOnly = readOnly;
 		this.serviceRegistry = sessionFactory.getServiceRegistry();
 		this.jdbcObserver = new JdbcObserverImpl( session, fastSessionServices );
 
@@ -67,6 +70,11 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().doesConnectionProviderDisableAutoCommit();
 	}
 
+	@Override
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
 	@Override
 	public StatementInspector getStatementInspector() {
 		return statementInspector;
@@ -0,0 +1,384 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ParallelBatchWriteException;
+import org.hibernate.ParallelBatchWriteException.FailedBatch;
+import org.hibernate.ParallelBatchWriter;
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.proxy.HibernateProxy;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Standard implementation of {@link ParallelBatchWriter}.
+ * <p>
+ * Each writer thread lazily opens its own {@link StatelessSession}, with the JDBC batch
+ * size set to the size of the batches of the writer, and keeps it until the writer is
+ * closed. The number of in-flight batches is bounded by a {@link Semaphore}, which the
+ * calling thread acquires before handing a batch over to the writer threads.
+ */
+public class ParallelBatchWriterImpl implements ParallelBatchWriter {
+	private static final Logger LOG = CoreLogging.logger( ParallelBatchWriterImpl.class );
+
+	private enum Operation {
+		INSERT {
+			@Override
+			void execute(StatelessSession session, String entityName, Object entity) {
+				session.insert( entityName, entity );
+			}
+		},
+		UPDATE {
+			@Override
+			void execute(StatelessSession session, String entityName, Object entity) {
+				session.update( entityName, entity );
+			}
+		},
+		DELETE {
+			@Override
+			void execute(StatelessSession session, String entityName, Object entity) {
+				session.delete( entityName, entity );
+			}
+		};
+
+		abstract void execute(StatelessSession session, String entityName, Object entity);
+	}
+
+	private static class PendingBatch {
+		private final String partition;
+		private final Operation operation;
+		private final String entityName;
+		private final List<Object> entities;
+
+		private PendingBatch(String partition, Operation operation, String entityName, int batchSize) {
+			this.partition = partition;
+			this.operation = operation;
+			this.entityName = entityName;
+			this.entities = new ArrayList<>( batchSize );
+		}
+	}
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final StatelessSessionBuilder<?> sessionBuilder;
+	private final int batchSize;
+	private final int maxInFlightBatches;
+	private final Semaphore inFlightBatches;
+	private final ExecutorService executor;
+
+	private final ThreadLocal<StatelessSession> threadSession = new ThreadLocal<>();
+	private final Queue<StatelessSession> sessions = new ConcurrentLinkedQueue<>();
+	private final Queue<FailedBatch> failedBatches = new ConcurrentLinkedQueue<>();
+
+	private final Map<String, PendingBatch> pendingBatches = new HashMap<>();
+	private boolean closed;
+
+	public ParallelBatchWriterImpl(
+			SessionFactoryImplementor sessionFactory,
+			StatelessSessionBuilder<?> sessionBuilder,
+			int parallelism,
+			int batchSize) {
+		this.sessionFactory = sessionFactory;
+		this.sessionBuilder = sessionBuilder;
+		this.batchSize = batchSize;
+		// allow each thread to have one more batch waiting, so that it never starves
+		this.maxInFlightBatches = parallelism * 2;
+		this.inFlightBatches = new Semaphore( maxInFlightBatches );
+		this.executor = Executors.newFixedThreadPool( parallelism, new WriterThreadFactory() );
+	}
+
+	@Override
+	public void insert(Object entity) {
+		schedule( Operation.INSERT, null, entity );
+	}
+
+	@Override
+	public void insert(String entityName, Object entity) {
+		schedule( Operation.INSERT, entityName, entity );
+	}
+
+	@Override
+	public void update(Object entity) {
+		schedule( Operation.UPDATE, null, entity );
+	}
+
+	@Override
+	public void update(String entityName, Object entity) {
+		schedule( Operation.UPDATE, entityName, entity );
+	}
+
+	@Override
+	public void delete(Object entity) {
+		schedule( Operation.DELETE, null, entity );
+	}
+
+	@Override
+	public void delete(String entityName, Object entity) {
+		schedule( Operation.DELETE, entityName, entity );
+	}
+
+	private void schedule(Operation operation, String entityName, Object entity) {
+		checkOpen();
+		final String resolvedEntityName = resolveEntityName( entityName, entity );
+		// the same key as the BatchKey used by the entity persister for its JDBC batches
+		final String partition = resolvedEntityName + '#' + operation.name();
+		PendingBatch batch = pendingBatches.get( partition );
+		if ( batch == null ) {
+			batch = new PendingBatch( partition, operation, resolvedEntityName, batchSize );
+			pendingBatches.put( partition, batch );
+		}
+		batch.entities.add( entity );
+		if ( batch.entities.size() >= batchSize ) {
+			// the batch stays pending if the caller is interrupted while waiting
+			acquireInFlightPermit();
+			pendingBatches.remove( partition );
+			dispatch( batch );
+		}
+	}
+
+	/**
+	 * The name of the entity persister which is going to write the entity,
+	 * resolved the same way as by {@link StatelessSessionImpl#getEntityPersister}.
+	 */
+	private String resolveEntityName(String entityName, Object entity) {
+		final MappingMetamodelImplementor mappingMetamodel = sessionFactory.getRuntimeMetamodels()
+				.getMappingMetamodel();
+		if ( entityName != null ) {
+			return mappingMetamodel.getEntityDescriptor( entityName )
+					.getSubclassEntityPersister( entity, sessionFactory )
+					.getEntityName();
+		}
+		else if ( entity instanceof HibernateProxy ) {
+			return ( (HibernateProxy) entity ).getHibernateLazyInitializer().getEntityName();
+		}
+		else {
+			return mappingMetamodel.getEntityDescriptor( entity.getClass() ).getEntityName();
+		}
+	}
+
+	private void acquireInFlightPermit() {
+		try {
+			// back-pressure: block the caller while too many batches are in flight
+			inFlightBatches.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for an in-flight batch to complete", e );
+		}
+	}
+
+	/**
+	 * Hand the batch over to the writer threads, once a permit was acquired for it
+	 */
+	private void dispatch(PendingBatch batch) {
+		try {
+			executor.execute( new BatchTask( batch ) );
+		}
+		catch (RejectedExecutionException e) {
+			failed( batch, new HibernateException( "Unable to dispatch batch for partition [" + batch.partition + "]", e ) );
+			inFlightBatches.release();
+		}
+	}
+
+	private void failed(PendingBatch batch, RuntimeException e) {
+		LOG.debugf( e, "Batch of %s row(s) for partition [%s] failed", batch.entities.size(), batch.partition );
+		failedBatches.add( new FailedBatch( batch.partition, batch.entities, e ) );
+	}
+
+	private void write(PendingBatch batch) {
+		try {
+			final StatelessSession session = threadSession();
+			final Transaction transaction = session.beginTransaction();
+			try {
+				for ( Object entity : batch.entities ) {
+					batch.operation.execute( session, batch.entityName, entity );
+				}
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					try {
+						transaction.rollback();
+					}
+					catch (RuntimeException re) {
+						e.addSuppressed( re );
+					}
+				}
+				throw e;
+			}
+		}
+		catch (RuntimeException e) {
+			failed( batch, e );
+		}
+		finally {
+			inFlightBatches.release();
+		}
+	}
+
+	private StatelessSession threadSession() {
+		StatelessSession session = threadSession.get();
+		if ( session == null ) {
+			session = sessionBuilder.openStatelessSession();
+			session.setJdbcBatchSize( batchSize );
+			threadSession.set( session );
+			sessions.add( session );
+		}
+		return session;
+	}
+
+	@Override
+	public void flush() {
+		checkOpen();
+		final Iterator<PendingBatch> batches = pendingBatches.values().iterator();
+		while ( batches.hasNext() ) {
+			final PendingBatch batch = batches.next();
+			// the batch stays pending if the caller is interrupted while waiting
+			acquireInFlightPermit();
+			// remove the batch before dispatching it, so that it is never dispatched twice
+			batches.remove();
+			dispatch( batch );
+		}
+
+		// wait for all the in-flight batches to complete
+		inFlightBatches.acquireUninterruptibly( maxInFlightBatches );
+		inFlightBatches.release( maxInFlightBatches );
+
+		final ParallelBatchWriteException failure = drainFailedBatches();
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	private ParallelBatchWriteException drainFailedBatches() {
+		if ( failedBatches.isEmpty() ) {
+			return null;
+		}
+		final List<FailedBatch> failures = new ArrayList<>();
+		FailedBatch failedBatch;
+		while ( ( failedBatch = failedBatches.poll() ) != null ) {
+			failures.add( failedBatch );
+		}
+		return new ParallelBatchWriteException( failures );
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		RuntimeException failure = null;
+		try {
+			flush();
+		}
+		catch (RuntimeException e) {
+			failure = e;
+		}
+		closed = true;
+		executor.shutdown();
+		boolean terminated = awaitTermination();
+		if ( !terminated ) {
+			// cancel the batches which did not start, and interrupt the running ones
+			for ( Runnable task : executor.shutdownNow() ) {
+				final PendingBatch batch = ( (BatchTask) task ).batch;
+				failed( batch, new HibernateException( "Batch for partition [" + batch.partition + "] was cancelled when the writer was closed" ) );
+				inFlightBatches.release();
+			}
+			terminated = awaitTermination();
+		}
+		if ( terminated ) {
+			// the writer threads are gone now, so their sessions may be closed from here
+			for ( StatelessSession session : sessions ) {
+				try {
+					session.close();
+				}
+				catch (RuntimeException e) {
+					LOG.debug( "Unable to close stateless session of parallel batch writer", e );
+				}
+			}
+			sessions.clear();
+		}
+		else {
+			LOG.debug( "Parallel batch writer threads did not terminate in time, their sessions are left open" );
+		}
+
+		final ParallelBatchWriteException cancelled = drainFailedBatches();
+		if ( failure != null ) {
+			if ( cancelled != null ) {
+				failure.addSuppressed( cancelled );
+			}
+			throw failure;
+		}
+		else if ( cancelled != null ) {
+			throw cancelled;
+		}
+	}
+
+	private boolean awaitTermination() {
+		try {
+			return executor.awaitTermination( 1, TimeUnit.MINUTES );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void checkOpen() {
+		if ( closed ) {
+			throw new IllegalStateException( "Parallel batch writer is closed" );
+		}
+	}
+
+	private class BatchTask implements Runnable {
+		private final PendingBatch batch;
+
+		private BatchTask(PendingBatch batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void run() {
+			write( batch );
+		}
+	}
+
+	private static class WriterThreadFactory implements ThreadFactory {
+		private static final AtomicInteger WRITER_COUNT = new AtomicInteger();
+
+		private final int writerNumber = WRITER_COUNT.incrementAndGet();
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread(
+					runnable,
+					"hibernate-batch-writer-" + writerNumber + "-" + threadCount.incrementAndGet()
+			);
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+
+/**
+ * Access to the connections of the read replica, for read-only sessions
+ *
+ * @see ReadReplicaConnectionProvider
+ */
+public class ReadReplicaJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
+	private final SessionEventListener listener;
+	private final ReadReplicaConnectionProvider connectionProvider;
+
+	public ReadReplicaJdbcConnectionAccess(
+			SessionEventListener listener,
+			ReadReplicaConnectionProvider connectionProvider) {
+		Objects.requireNonNull( listener );
+		Objects.requireNonNull( connectionProvider );
+		this.listener = listener;
+		this.connectionProvider = connectionProvider;
+	}
+
+	@Override
+	public Connection obtainConnection() throws SQLException {
+		try {
+			listener.jdbcConnectionAcquisitionStart();
+			return connectionProvider.getReadOnlyConnection();
+		}
+		finally {
+			listener.jdbcConnectionAcquisitionEnd();
+		}
+	}
+
+	@Override
+	public void releaseConnection(Connection connection) throws SQLException {
+		try {
+			listener.jdbcConnectionReleaseStart();
+			connectionProvider.closeReadOnlyConnection( connection );
+		}
+		finally {
+			listener.jdbcConnectionReleaseEnd();
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return connectionProvider.supportsAggressiveRelease();
+	}
+}
@@ -42,6 +42,8 @@ public interface SessionCreationOptions {
 
 	String getTenantIdentifier();
 
+	boolean isReadOnly();
+
 	TimeZone getJdbcTimeZone();
 
 	/**
@@ -39,6 +39,7 @@ import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.MappingException;
+import org.hibernate.ParallelBatchWriter;
 import org.hibernate.Session;
 import org.hibernate.SessionBuilder;
 import org.hibernate.SessionEventListener;
@@ -105,8 +106,10 @@ import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
+import org.hibernate.query.internal.NamedQueryPlanWarmUp;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
+import org.hibernate.query.named.NamedQueryValidationCache;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
@@ -314,7 +317,11 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.queryEngine.prepare( this, bootMetamodel, bootstrapContext );
 
 			if ( options.isNamedQueryStartupCheckingEnabled() ) {
-				final Map<String, HibernateException> errors = queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine );
+				final String validationCacheFile = options.getNamedQueryStartupCheckCache();
+				final Map<String, HibernateException> errors = queryEngine.getNamedObjectRepository().checkNamedQueries(
+						queryEngine,
+						validationCacheFile == null ? null : NamedQueryValidationCache.load( validationCacheFile, this )
+				);
 
 				if ( !errors.isEmpty() ) {
 					StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
@@ -393,6 +400,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			bootstrapContext.getReflectionManager().reset();
 
 			this.entityNameResolver = new CoordinatingEntityNameResolver( this, getInterceptor() );
+
+			if ( options.isQueryPlanWarmUpEnabled() ) {
+				NamedQueryPlanWarmUp.warmUp( this );
+			}
 		}
 		catch (Exception e) {
 			for ( Integrator integrator : serviceRegistry.getService( IntegratorService.class ).getIntegrators() ) {
@@ -1130,6 +1141,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		private boolean autoClose;
 		private boolean autoClear;
 		private String tenantIdentifier;
+		private boolean readOnly;
 		private TimeZone jdbcTimeZone;
 		private boolean explicitNoInterceptor;
 
@@ -1213,6 +1225,11 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			return tenantIdentifier;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return readOnly;
+		}
+
 		@Override
 		public TimeZone getJdbcTimeZone() {
 			return jdbcTimeZone;
@@ -1299,6 +1316,12 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			return getThis();
 		}
 
+		@Override
+		public T readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return getThis();
+		}
+
 		@Override
 		public T eventListeners(SessionEventListener... listeners) {
 			if ( this.listeners == null ) {
@@ -1333,6 +1356,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		private final SessionFactoryImpl sessionFactory;
 		private Connection connection;
 		private String tenantIdentifier;
+		private boolean readOnly;
 
 		public StatelessSessionBuilderImpl(SessionFactoryImpl sessionFactory) {
 			this.sessionFactory = sessionFactory;
@@ -1348,6 +1372,20 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			return new StatelessSessionImpl( sessionFactory, this );
 		}
 
+		@Override
+		public ParallelBatchWriter openParallelBatchWriter(int parallelism, int batchSize) {
+			if ( connection != null ) {
+				throw new IllegalStateException( "A parallel batch writer cannot share a user-supplied Connection" );
+			}
+			if ( readOnly ) {
+				throw new IllegalStateException( "A parallel batch writer cannot be read-only" );
+			}
+			if ( parallelism < 1 || batchSize < 1 ) {
+				throw new IllegalArgumentException( "The parallelism and batch size of a parallel batch writer must be positive" );
+			}
+			return new ParallelBatchWriterImpl( sessionFactory, this, parallelism, batchSize );
+		}
+
 		@Override
 		public StatelessSessionBuilder connection(Connection connection) {
 			this.connection = connection;
@@ -1360,6 +1398,12 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			return this;
 		}
 
+		@Override
+		public StatelessSessionBuilder readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
 		@Override
 		public boolean shouldAutoJoinTransactions() {
 			return true;
@@ -1406,6 +1450,11 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			return tenantIdentifier;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return readOnly;
+		}
+
 		@Override
 		public TimeZone getJdbcTimeZone() {
 			return sessionFactory.getSessionFactoryOptions().getJdbcTimeZone();
@@ -214,6 +214,9 @@ public class SessionImpl
 
 		this.persistenceContext = createPersistenceContext();
 		this.actionQueue = createActionQueue();
+		if ( options.isReadOnly() ) {
+			persistenceContext.setDefaultReadOnly( true );
+		}
 
 		this.autoClear = options.shouldAutoClear();
 		this.autoClose = options.shouldAutoClose();
@@ -6,6 +6,11 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.CacheMode;
@@ -29,6 +34,7 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -54,6 +60,12 @@ import jakarta.transaction.SystemException;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The JDBC batch size used by the {@code xxxMultiple()} operations when
+	 * no batch size has been configured.
+	 */
+	private static final int MULTIPLE_OPERATION_BATCH_SIZE = 50;
+
 	private static final LoadQueryInfluencers NO_INFLUENCERS = new LoadQueryInfluencers( null ) {
 		@Override
 		public String getInternalFetchProfile() {
@@ -161,6 +173,142 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// multiple ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched(
+				entities.size(),
+				() -> {
+					for ( Object entity : entities ) {
+						insert( null, entity );
+					}
+				}
+		);
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched(
+				entities.size(),
+				() -> {
+					for ( Object entity : entities ) {
+						update( null, entity );
+					}
+				}
+		);
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		checkOpen();
+		// look up the existing rows before writing anything, since
+		// executing a query would force execution of the current batch
+		final Set<EntityKey> existingKeys = existingEntityKeys( entities );
+		// group the statements by operation and entity type, since
+		// each change of BatchKey forces execution of the current batch
+		final Map<EntityPersister, List<Object>> updates = new LinkedHashMap<>();
+		final Map<EntityPersister, List<Object>> inserts = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			final EntityPersister persister = getEntityPersister( null, entity );
+			final Object id = persister.getIdentifier( entity, this );
+			final Map<EntityPersister, List<Object>> operation =
+					id != null && existingKeys.contains( generateEntityKey( id, persister ) ) ? updates : inserts;
+			operation.computeIfAbsent( persister, p -> new ArrayList<>() ).add( entity );
+		}
+		executeBatched(
+				entities.size(),
+				() -> {
+					for ( Map.Entry<EntityPersister, List<Object>> entry : updates.entrySet() ) {
+						final String entityName = entry.getKey().getEntityName();
+						for ( Object entity : entry.getValue() ) {
+							update( entityName, entity );
+						}
+					}
+					for ( Map.Entry<EntityPersister, List<Object>> entry : inserts.entrySet() ) {
+						final String entityName = entry.getKey().getEntityName();
+						for ( Object entity : entry.getValue() ) {
+							insert( entityName, entity );
+						}
+					}
+				}
+		);
+	}
+
+	/**
+	 * Run the given work with JDBC batching enabled, even if no batch size was
+	 * configured, and execute the last batch before returning.
+	 */
+	private void executeBatched(int count, Runnable work) {
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final int configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		// always set the batch size on the session, since the BatchBuilder
+		// does not see a default batch size contributed by the Dialect
+		setJdbcBatchSize(
+				configuredJdbcBatchSize > 1
+						? configuredJdbcBatchSize
+						: Math.max( 2, Math.min( count, MULTIPLE_OPERATION_BATCH_SIZE ) )
+		);
+		try {
+			work.run();
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	/**
+	 * Determine which of the given entities already have a row in the database.
+	 * Entities with a single basic identifier are checked using one {@code in}
+	 * query per entity type and chunk of identifiers, others by reading a
+	 * snapshot of each row.
+	 */
+	private Set<EntityKey> existingEntityKeys(List<?> entities) {
+		final Map<EntityPersister, List<Object>> idsByPersister = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			final EntityPersister persister = getEntityPersister( null, entity );
+			final Object id = persister.getIdentifier( entity, this );
+			if ( id != null ) {
+				idsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( id );
+			}
+		}
+
+		final Set<EntityKey> existing = new HashSet<>();
+		final int inLimit = getJdbcServices().getDialect().getInExpressionCountLimit();
+		for ( Map.Entry<EntityPersister, List<Object>> entry : idsByPersister.entrySet() ) {
+			final EntityPersister persister = entry.getKey();
+			final String idName = persister.getIdentifierPropertyName();
+			final List<Object> ids = entry.getValue();
+			if ( idName != null && persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping ) {
+				final String hql = "select e." + idName + " from " + persister.getEntityName()
+						+ " e where e." + idName + " in (:ids)";
+				final int chunkSize = inLimit > 0 ? inLimit : ids.size();
+				for ( int start = 0; start < ids.size(); start += chunkSize ) {
+					final List<Object> chunk = ids.subList( start, Math.min( ids.size(), start + chunkSize ) );
+					for ( Object id : createSelectionQuery( hql, Object.class ).setParameterList( "ids", chunk ).list() ) {
+						existing.add( generateEntityKey( id, persister ) );
+					}
+				}
+			}
+			else {
+				for ( Object id : ids ) {
+					if ( persister.getDatabaseSnapshot( id, this ) != null ) {
+						existing.add( generateEntityKey( id, persister ) );
+					}
+				}
+			}
+		}
+		return existing;
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -43,8 +43,8 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@Message(value = "Connection properties: %s", id = 10001001)
 	void connectionProperties(Properties connectionProps);
 
-	@LogMessage(level = WARN)
-	@Message(value = "Using built-in connection pool (not intended for production use)", id = 10001002)
+	@LogMessage(level = INFO)
+	@Message(value = "Using built-in connection pool", id = 10001002)
 	void usingHibernateBuiltInConnectionPool();
 
 	@LogMessage(level = INFO)
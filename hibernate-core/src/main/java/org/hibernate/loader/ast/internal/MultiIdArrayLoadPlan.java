@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.sql.ast.Clause;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.CallbackImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.results.internal.RowTransformerDatabaseSnapshotImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+/**
+ * A load plan for loading an array of state for up to {@code batchSize}
+ * identifiers in a single select. Each returned row starts with the
+ * identifier, followed by the values of the selected parts.
+ * <p/>
+ * Used to initialize a lazy attribute group of several entity instances
+ * at once.
+ *
+ * @see SingleIdArrayLoadPlan
+ */
+public class MultiIdArrayLoadPlan {
+	private final EntityIdentifierMapping identifierMapping;
+	private final int batchSize;
+	private final JdbcSelect jdbcSelect;
+	private final List<JdbcParameter> jdbcParameters;
+
+	public MultiIdArrayLoadPlan(
+			EntityMappingType entityDescriptor,
+			List<? extends ModelPart> partsToSelect,
+			int batchSize,
+			SessionFactoryImplementor sessionFactory) {
+		this.identifierMapping = entityDescriptor.getIdentifierMapping();
+		this.batchSize = batchSize;
+
+		final List<ModelPart> parts = new ArrayList<>( partsToSelect.size() + 1 );
+		parts.add( identifierMapping );
+		parts.addAll( partsToSelect );
+
+		this.jdbcParameters = new ArrayList<>( batchSize * identifierMapping.getJdbcTypeCount() );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				entityDescriptor,
+				parts,
+				identifierMapping,
+				null,
+				batchSize,
+				LoadQueryInfluencers.NONE,
+				LockOptions.NONE,
+				jdbcParameters::add,
+				sessionFactory
+		);
+		this.jdbcSelect = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public JdbcSelect getJdbcSelect() {
+		return jdbcSelect;
+	}
+
+	/**
+	 * Load the rows for the given identifiers.
+	 *
+	 * @param ids The identifiers to load, padded with trailing nulls if there
+	 * are fewer than the batch size. The first element must not be null.
+	 *
+	 * @return one row per identifier found, in no particular order
+	 */
+	public List<Object[]> load(Object[] ids, SharedSessionContractImplementor session) {
+		assert ids.length == batchSize && ids[0] != null;
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
+				identifierMapping.getJdbcTypeCount() * batchSize
+		);
+		int offset = 0;
+		for ( Object id : ids ) {
+			// unused slots repeat the first identifier, so that the same
+			// SQL can be used no matter how many instances are loaded
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					id == null ? ids[0] : id,
+					Clause.WHERE,
+					offset,
+					identifierMapping,
+					jdbcParameters,
+					session
+			);
+		}
+		assert offset == jdbcParameters.size();
+
+		final Callback callback = new CallbackImpl();
+		return session.getJdbcServices().getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new ExecutionContext() {
+					@Override
+					public SharedSessionContractImplementor getSession() {
+						return session;
+					}
+
+					@Override
+					public QueryOptions getQueryOptions() {
+						return QueryOptions.NONE;
+					}
+
+					@Override
+					public String getQueryIdentifier(String sql) {
+						return sql;
+					}
+
+					@Override
+					public QueryParameterBindings getQueryParameterBindings() {
+						return QueryParameterBindings.NO_PARAM_BINDINGS;
+					}
+
+					@Override
+					public Callback getCallback() {
+						return callback;
+					}
+				},
+				RowTransformerDatabaseSnapshotImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.NONE
+		);
+	}
+}
@@ -27,6 +27,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -118,6 +119,7 @@ import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
+import org.hibernate.loader.ast.internal.MultiIdArrayLoadPlan;
 import org.hibernate.loader.ast.internal.MultiIdLoaderStandard;
 import org.hibernate.loader.ast.internal.Preparable;
 import org.hibernate.loader.ast.internal.SingleIdArrayLoadPlan;
@@ -380,6 +382,7 @@ public abstract class AbstractEntityPersister
 	// SQL strings
 	private String sqlVersionSelectString;
 	private Map<String, SingleIdArrayLoadPlan> sqlLazySelectStringsByFetchGroup;
+	private final Map<String, MultiIdArrayLoadPlan> lazySelectBatchLoadPlansByFetchGroup = new ConcurrentHashMap<>();
 
 	private String sqlIdentityInsertString;
 	private String sqlUpdateByRowIdString;
@@ -1659,47 +1662,90 @@ public abstract class AbstractEntityPersister
 				.getLazyAttributesMetadata()
 				.getFetchGroupAttributeDescriptors( fetchGroup );
 
-		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+		if ( batchSize > 1 ) {
+			final Object[] entities = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getLazyAttributeBatch( this, entity, fieldName, batchSize );
+			if ( entities[1] != null ) {
+				return initializeLazyPropertiesFromDatastore( entities, fieldName, fetchGroup, session );
+			}
+		}
 
 		final SingleIdArrayLoadPlan lazySelect = getSQLLazySelectLoadPlan( fetchGroup );
 
 		try {
-			Object result = null;
 			final Object[] values = lazySelect.load( id, session );
-			int i = 0;
-			for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-				final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
-
-				if ( previousInitialized ) {
-					// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
-					// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
-					// 		we know the selected value (see selectedValue below)
-					//		we can use the attribute Type to tell us if they are the same
-					//
-					//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
-					//			currently considered dirty, and if really not dirty we would do the un-marking
-					//
-					//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
-
-					// its already been initialized (e.g. by a write) so we don't want to overwrite
-					i++;
-					continue;
-				}
+			final Object result = initializeLazyProperties( entity, entry, fieldName, fetchGroupAttributeDescriptors, values, 0, session );
 
-				final Object selectedValue = values[i++];
+			LOG.trace( "Done initializing lazy properties" );
 
-				final boolean set = initializeLazyProperty(
-						fieldName,
+			return result;
+		}
+		catch (JDBCException ex) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					ex.getSQLException(),
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					lazySelect.getJdbcSelect().getSql()
+			);
+		}
+	}
+
+	/**
+	 * Initialize the lazy attribute group containing the given attribute for
+	 * all the given instances, using a single select.
+	 *
+	 * @param entities The instances, starting with the one being accessed,
+	 * and padded with trailing nulls
+	 */
+	private Object initializeLazyPropertiesFromDatastore(
+			final Object[] entities,
+			final String fieldName,
+			final String fetchGroup,
+			final SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors = getEntityMetamodel().getBytecodeEnhancementMetadata()
+				.getLazyAttributesMetadata()
+				.getFetchGroupAttributeDescriptors( fetchGroup );
+
+		final Object[] ids = new Object[entities.length];
+		for ( int i = 0; i < entities.length && entities[i] != null; i++ ) {
+			ids[i] = persistenceContext.getEntry( entities[i] ).getId();
+		}
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "Batch loading lazy group `%s` of entity [%s] : %s", fetchGroup, getEntityName(), Arrays.toString( ids ) );
+		}
+
+		final MultiIdArrayLoadPlan lazySelect = lazySelectBatchLoadPlansByFetchGroup.computeIfAbsent(
+				fetchGroup,
+				group -> new MultiIdArrayLoadPlan(
+						this,
+						lazyGroupParts( fetchGroupAttributeDescriptors ),
+						batchSize,
+						factory
+				)
+		);
+
+		try {
+			Object result = null;
+			for ( Object[] row : lazySelect.load( ids, session ) ) {
+				final Object entity = persistenceContext.getEntity( session.generateEntityKey( row[0], this ) );
+				if ( entity == null ) {
+					// the instance was evicted while loading
+					continue;
+				}
+				final Object value = initializeLazyProperties(
 						entity,
-						entry,
-						fetchGroupAttributeDescriptor.getLazyIndex(),
-						selectedValue
+						persistenceContext.getEntry( entity ),
+						fieldName,
+						fetchGroupAttributeDescriptors,
+						row,
+						1,
+						session
 				);
-				if ( set ) {
-					result = selectedValue;
-					interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+				if ( entity == entities[0] ) {
+					result = value;
 				}
-
 			}
 
 			LOG.trace( "Done initializing lazy properties" );
@@ -1709,12 +1755,85 @@ public abstract class AbstractEntityPersister
 		catch (JDBCException ex) {
 			throw session.getJdbcServices().getSqlExceptionHelper().convert(
 					ex.getSQLException(),
-					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, ids[0], getFactory() ),
 					lazySelect.getJdbcSelect().getSql()
 			);
 		}
 	}
 
+	private List<ModelPart> lazyGroupParts(List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) {
+		final List<ModelPart> parts = new ArrayList<>( fetchGroupAttributeDescriptors.size() );
+		for ( LazyAttributeDescriptor lazyAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			parts.add( getAttributeMappings().get( getSubclassPropertyIndex( lazyAttributeDescriptor.getName() ) ) );
+		}
+		return parts;
+	}
+
+	/**
+	 * Set the selected values of a lazy attribute group on the given instance,
+	 * skipping attributes which were already initialized (e.g. by a write).
+	 *
+	 * @param values The selected values
+	 * @param offset The position of the value of the first attribute of the group
+	 *
+	 * @return The value of the attribute being accessed
+	 */
+	private Object initializeLazyProperties(
+			final Object entity,
+			final EntityEntry entry,
+			final String fieldName,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final Object[] values,
+			final int offset,
+			final SharedSessionContractImplementor session) {
+		final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+
+		Object result = null;
+		int i = offset;
+		for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
+
+			if ( previousInitialized ) {
+				// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
+				// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
+				// 		we know the selected value (see selectedValue below)
+				//		we can use the attribute Type to tell us if they are the same
+				//
+				//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
+				//			currently considered dirty, and if really not dirty we would do the un-marking
+				//
+				//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+
+				// its already been initialized (e.g. by a write) so we don't want to overwrite
+				i++;
+				continue;
+			}
+
+			final Object selectedValue = values[i++];
+
+			final boolean set = initializeLazyProperty(
+					fieldName,
+					entity,
+					entry,
+					fetchGroupAttributeDescriptor.getLazyIndex(),
+					selectedValue
+			);
+			if ( set ) {
+				result = selectedValue;
+				interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+			}
+		}
+		if ( batchSize > 1
+				&& interceptor instanceof BytecodeLazyAttributeInterceptor
+				&& !( (BytecodeLazyAttributeInterceptor) interceptor ).hasAnyUninitializedAttributes() ) {
+			session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.removeLazyAttributeBatchLoadableEntityKey( entry.getEntityKey() );
+		}
+		return result;
+	}
+
 	protected Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -4980,6 +5099,19 @@ public abstract class AbstractEntityPersister
 					interceptor.setSession( session );
 				}
 			}
+			if ( batchSize > 1 && hasLazyProperties() ) {
+				// register the instance for batch loading of its lazy attribute groups
+				final BytecodeLazyAttributeInterceptor lazyInterceptor = getEntityMetamodel().getBytecodeEnhancementMetadata()
+						.extractLazyInterceptor( entity );
+				if ( lazyInterceptor instanceof LazyAttributeLoadingInterceptor
+						&& lazyInterceptor.hasAnyUninitializedAttributes() ) {
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					final EntityEntry entry = persistenceContext.getEntry( entity );
+					if ( entry != null ) {
+						persistenceContext.getBatchFetchQueue().addLazyAttributeBatchLoadableEntityKey( entry.getEntityKey() );
+					}
+				}
+			}
 		}
 
 		// clear the fields that are marked as dirty in the dirtiness tracker
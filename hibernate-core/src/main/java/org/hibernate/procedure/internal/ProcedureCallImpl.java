@@ -23,6 +23,7 @@ import java.util.stream.Stream;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.ReadOnlySessionException;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -568,6 +569,11 @@ public class ProcedureCallImpl<R>
 	}
 
 	private ProcedureOutputsImpl buildOutputs() {
+		if ( getSession().getJdbcSessionContext().isReadOnly() ) {
+			// we can't tell whether the procedure modifies data
+			throw new ReadOnlySessionException( "A read-only session cannot call the procedure [" + procedureName + "]" );
+		}
+
 		// todo : going to need a very specialized Loader for this.
 		// or, might be a good time to look at splitting Loader up into:
 		//		1) building statement objects
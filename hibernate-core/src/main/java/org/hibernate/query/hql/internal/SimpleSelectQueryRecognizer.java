@@ -0,0 +1,405 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.hql.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.metamodel.model.domain.PersistentAttribute;
+import org.hibernate.metamodel.model.domain.SingularPersistentAttribute;
+import org.hibernate.query.hql.spi.SqmCreationOptions;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SortOrder;
+import org.hibernate.query.sqm.spi.SqmCreationContext;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.domain.SqmPolymorphicRootDescriptor;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+
+import jakarta.persistence.metamodel.Attribute;
+
+import static jakarta.persistence.criteria.Predicate.BooleanOperator.AND;
+
+/**
+ * Builds the SQM tree of simple select queries directly from the query string,
+ * without the ANTLR parse tree, producing the same tree as
+ * {@link SemanticQueryBuilder}.
+ * <p>
+ * The recognized subset of HQL is:
+ * <pre>
+ * [select alias] from EntityName [[as] alias]
+ *     [where alias.attribute op :param [and alias.attribute op :param]*]
+ *     [order by alias.attribute [asc|desc] [, alias.attribute [asc|desc]]*]
+ * </pre>
+ * where {@code op} is one of {@code =, <>, !=, <, <=, >, >=} and each attribute
+ * is a basic attribute declared by the entity. Keywords are case-insensitive.
+ * <p>
+ * Anything else, including an unknown entity or attribute, is not recognized,
+ * and left to the full grammar, which also reports the errors.
+ *
+ * @see StandardHqlTranslator
+ */
+public class SimpleSelectQueryRecognizer {
+
+	/**
+	 * Words which may not be used as an alias by a recognized query, since
+	 * they might start a clause of the full grammar.
+	 */
+	private static final Set<String> RESERVED = Set.of(
+			"select", "from", "where", "and", "or", "not", "order", "by", "asc", "desc", "as",
+			"join", "left", "right", "inner", "outer", "full", "cross", "fetch", "on", "with",
+			"group", "having", "limit", "offset", "union", "intersect", "except", "nulls"
+	);
+
+	/**
+	 * Build the SQM tree of the given query, or return {@code null} if it is
+	 * not part of the recognized subset.
+	 */
+	public static <R> SqmSelectStatement<R> recognize(
+			String query,
+			Class<R> expectedResultType,
+			SqmCreationOptions creationOptions,
+			SqmCreationContext creationContext) {
+		if ( creationOptions.useStrictJpaCompliance() ) {
+			// leave the compliance checks to the full grammar
+			return null;
+		}
+		final List<String> tokens = tokenize( query );
+		if ( tokens == null ) {
+			return null;
+		}
+		return new SimpleSelectQueryRecognizer( tokens, expectedResultType, creationContext ).selectStatement();
+	}
+
+	private final List<String> tokens;
+	private final Class<?> expectedResultType;
+	private final SqmCreationContext creationContext;
+	private final NodeBuilder nodeBuilder;
+	private int position;
+
+	private SimpleSelectQueryRecognizer(
+			List<String> tokens,
+			Class<?> expectedResultType,
+			SqmCreationContext creationContext) {
+		this.tokens = tokens;
+		this.expectedResultType = expectedResultType;
+		this.creationContext = creationContext;
+		this.nodeBuilder = creationContext.getNodeBuilder();
+	}
+
+	private <R> SqmSelectStatement<R> selectStatement() {
+		final String selectedAlias;
+		if ( keyword( "select" ) ) {
+			selectedAlias = alias();
+			if ( selectedAlias == null ) {
+				return null;
+			}
+		}
+		else {
+			selectedAlias = null;
+		}
+
+		if ( !keyword( "from" ) ) {
+			return null;
+		}
+		final SqmRoot<?> root = root();
+		if ( root == null ) {
+			return null;
+		}
+		final String alias = root.getExplicitAlias();
+
+		final SqmSelectStatement<R> selectStatement = new SqmSelectStatement<>( nodeBuilder );
+		@SuppressWarnings("unchecked")
+		final SqmQuerySpec<Object> querySpec = (SqmQuerySpec<Object>) selectStatement.getQuerySpec();
+		final SqmFromClause fromClause = new SqmFromClause( 1 );
+		querySpec.setFromClause( fromClause );
+		fromClause.addRoot( root );
+
+		final SqmSelectClause selectClause;
+		if ( selectedAlias != null ) {
+			if ( !selectedAlias.equals( alias ) ) {
+				return null;
+			}
+			selectClause = new SqmSelectClause( false, nodeBuilder );
+			selectClause.addSelection( new SqmSelection<>( root, null, nodeBuilder ) );
+		}
+		else {
+			if ( expectedResultType != null && expectedResultType.isArray() ) {
+				// the legacy interpretation of implicit select clauses
+				return null;
+			}
+			selectClause = new SqmSelectClause( false, 1, nodeBuilder );
+			selectClause.addSelection( new SqmSelection<>( root, root.getAlias(), nodeBuilder ) );
+		}
+		querySpec.setSelectClause( selectClause );
+
+		final SqmWhereClause whereClause = new SqmWhereClause( nodeBuilder );
+		if ( keyword( "where" ) ) {
+			final SqmPredicate predicate = predicate( root, selectStatement );
+			if ( predicate == null ) {
+				return null;
+			}
+			whereClause.setPredicate( predicate );
+		}
+		querySpec.setWhereClause( whereClause );
+
+		if ( keyword( "order" ) ) {
+			final SqmOrderByClause orderByClause = orderByClause( root );
+			if ( orderByClause == null ) {
+				return null;
+			}
+			querySpec.setOrderByClause( orderByClause );
+		}
+
+		if ( position != tokens.size() ) {
+			return null;
+		}
+		querySpec.validateQueryStructureAndFetchOwners();
+		return selectStatement;
+	}
+
+	private SqmRoot<?> root() {
+		final StringBuilder entityName = new StringBuilder();
+		String part = identifier();
+		while ( part != null ) {
+			entityName.append( part );
+			if ( !symbol( "." ) ) {
+				break;
+			}
+			entityName.append( '.' );
+			part = identifier();
+		}
+		if ( part == null ) {
+			return null;
+		}
+
+		final EntityDomainType<?> entityDescriptor = creationContext.getJpaMetamodel()
+				.getHqlEntityReference( entityName.toString() );
+		if ( entityDescriptor == null || entityDescriptor instanceof SqmPolymorphicRootDescriptor ) {
+			return null;
+		}
+
+		final String alias;
+		if ( keyword( "as" ) ) {
+			alias = alias();
+			if ( alias == null ) {
+				return null;
+			}
+		}
+		else {
+			alias = alias();
+		}
+		return new SqmRoot<>( entityDescriptor, alias, true, nodeBuilder );
+	}
+
+	private SqmPredicate predicate(SqmRoot<?> root, SqmSelectStatement<?> selectStatement) {
+		SqmPredicate predicate = null;
+		do {
+			final SqmPath<?> path = path( root );
+			if ( path == null ) {
+				return null;
+			}
+			final ComparisonOperator operator = comparisonOperator();
+			if ( operator == null ) {
+				return null;
+			}
+			final String parameterName = parameterName();
+			if ( parameterName == null ) {
+				return null;
+			}
+			final SqmNamedParameter<?> parameter = new SqmNamedParameter<>(
+					parameterName,
+					false,
+					null,
+					nodeBuilder
+			);
+			selectStatement.addParameter( parameter );
+			final SqmPredicate comparison = new SqmComparisonPredicate( path, operator, parameter, nodeBuilder );
+			if ( predicate == null ) {
+				predicate = comparison;
+			}
+			else if ( predicate instanceof SqmJunctionPredicate ) {
+				( (SqmJunctionPredicate) predicate ).getPredicates().add( comparison );
+			}
+			else {
+				predicate = new SqmJunctionPredicate( AND, predicate, comparison, nodeBuilder );
+			}
+		} while ( keyword( "and" ) );
+		return predicate;
+	}
+
+	private SqmOrderByClause orderByClause(SqmRoot<?> root) {
+		if ( !keyword( "by" ) ) {
+			return null;
+		}
+		final SqmOrderByClause orderByClause = new SqmOrderByClause();
+		do {
+			final SqmPath<?> path = path( root );
+			if ( path == null ) {
+				return null;
+			}
+			final SortOrder sortOrder;
+			if ( keyword( "asc" ) ) {
+				sortOrder = SortOrder.ASCENDING;
+			}
+			else if ( keyword( "desc" ) ) {
+				sortOrder = SortOrder.DESCENDING;
+			}
+			else {
+				sortOrder = null;
+			}
+			orderByClause.addSortSpecification( new SqmSortSpecification( path, sortOrder, null ) );
+		} while ( symbol( "," ) );
+		return orderByClause;
+	}
+
+	private SqmPath<?> path(SqmRoot<?> root) {
+		final String alias = identifier();
+		if ( alias == null || !alias.equals( root.getExplicitAlias() ) || !symbol( "." ) ) {
+			return null;
+		}
+		final String attributeName = identifier();
+		if ( attributeName == null ) {
+			return null;
+		}
+		final PersistentAttribute<?, ?> attribute = root.getModel().findAttribute( attributeName );
+		if ( !( attribute instanceof SingularPersistentAttribute<?, ?> )
+				|| attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC ) {
+			return null;
+		}
+		return root.get( attributeName );
+	}
+
+	private ComparisonOperator comparisonOperator() {
+		if ( position == tokens.size() ) {
+			return null;
+		}
+		final ComparisonOperator operator;
+		switch ( tokens.get( position ) ) {
+			case "=":
+				operator = ComparisonOperator.EQUAL;
+				break;
+			case "<>":
+			case "!=":
+				operator = ComparisonOperator.NOT_EQUAL;
+				break;
+			case "<":
+				operator = ComparisonOperator.LESS_THAN;
+				break;
+			case "<=":
+				operator = ComparisonOperator.LESS_THAN_OR_EQUAL;
+				break;
+			case ">":
+				operator = ComparisonOperator.GREATER_THAN;
+				break;
+			case ">=":
+				operator = ComparisonOperator.GREATER_THAN_OR_EQUAL;
+				break;
+			default:
+				return null;
+		}
+		position++;
+		return operator;
+	}
+
+	private String parameterName() {
+		if ( symbol( ":" ) ) {
+			return identifier();
+		}
+		return null;
+	}
+
+	private String alias() {
+		final String alias = identifier();
+		if ( alias == null || RESERVED.contains( alias.toLowerCase( Locale.ROOT ) ) ) {
+			if ( alias != null ) {
+				position--;
+			}
+			return null;
+		}
+		return alias;
+	}
+
+	private String identifier() {
+		if ( position < tokens.size() && Character.isJavaIdentifierStart( tokens.get( position ).charAt( 0 ) ) ) {
+			return tokens.get( position++ );
+		}
+		return null;
+	}
+
+	private boolean keyword(String keyword) {
+		if ( position < tokens.size() && tokens.get( position ).equalsIgnoreCase( keyword ) ) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private boolean symbol(String symbol) {
+		if ( position < tokens.size() && tokens.get( position ).equals( symbol ) ) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Split the query into identifiers and symbols, or return {@code null} if
+	 * it contains anything else, like literals, quoted identifiers or comments.
+	 */
+	private static List<String> tokenize(String query) {
+		final List<String> tokens = new ArrayList<>();
+		final int length = query.length();
+		int i = 0;
+		while ( i < length ) {
+			final char c = query.charAt( i );
+			if ( Character.isWhitespace( c ) ) {
+				i++;
+			}
+			else if ( Character.isJavaIdentifierStart( c ) ) {
+				final int start = i++;
+				while ( i < length && Character.isJavaIdentifierPart( query.charAt( i ) ) ) {
+					i++;
+				}
+				tokens.add( query.substring( start, i ) );
+			}
+			else if ( c == '.' || c == ',' || c == ':' || c == '=' ) {
+				tokens.add( String.valueOf( c ) );
+				i++;
+			}
+			else if ( c == '<' || c == '>' || c == '!' ) {
+				final int start = i++;
+				if ( i < length && ( query.charAt( i ) == '=' || c == '<' && query.charAt( i ) == '>' ) ) {
+					i++;
+				}
+				else if ( c == '!' ) {
+					return null;
+				}
+				tokens.add( query.substring( start, i ) );
+			}
+			else {
+				return null;
+			}
+		}
+		return tokens;
+	}
+}
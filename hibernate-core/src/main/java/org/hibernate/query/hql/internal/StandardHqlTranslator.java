@@ -20,6 +20,7 @@ import org.hibernate.query.sqm.ParsingException;
 import org.hibernate.query.sqm.internal.SqmTreePrinter;
 import org.hibernate.query.sqm.spi.SqmCreationContext;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -74,6 +75,18 @@ public class StandardHqlTranslator implements HqlTranslator {
 	public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType) {
 		HqlLogging.QUERY_LOGGER.debugf( "HQL : " + query );
 
+		// simple select queries are built without the parse tree
+		final SqmSelectStatement<R> simpleStatement = SimpleSelectQueryRecognizer.recognize(
+				query,
+				expectedResultType,
+				sqmCreationOptions,
+				sqmCreationContext
+		);
+		if ( simpleStatement != null ) {
+			SqmTreePrinter.logTree( simpleStatement );
+			return simpleStatement;
+		}
+
 		final HqlParser.StatementContext hqlParseTree = parseHql( query );
 
 		// then we perform semantic analysis and build the semantic representation...
@@ -19,6 +19,7 @@ import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.named.NamedQueryValidationCache;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
@@ -209,6 +210,13 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	// Named query checking
 
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
+		return checkNamedQueries( queryEngine, null );
+	}
+
+	@Override
+	public Map<String, HibernateException> checkNamedQueries(
+			QueryEngine queryEngine,
+			NamedQueryValidationCache validationCache) {
 		Map<String,HibernateException> errors = new HashMap<>();
 
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
@@ -216,19 +224,30 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
 		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+			final String queryString = hqlMemento.getHqlString();
+			if ( validationCache != null
+					&& validationCache.isValidated( hqlMemento.getRegistrationName(), queryString ) ) {
+				log.debugf( "Skipping named HQL query already validated: %s", hqlMemento.getRegistrationName() );
+				continue;
+			}
 			try {
 				log.debugf( "Checking named HQL query: %s", hqlMemento.getRegistrationName() );
-				String queryString = hqlMemento.getHqlString();
 				interpretationCache.resolveHqlInterpretation(
 						queryString,
 						null,
 						s -> queryEngine.getHqlTranslator().translate( queryString, null )
 				);
+				if ( validationCache != null ) {
+					validationCache.markValidated( hqlMemento.getRegistrationName(), queryString );
+				}
 			}
 			catch ( HibernateException e ) {
 				errors.put( hqlMemento.getRegistrationName(), e );
 			}
 		}
+		if ( validationCache != null ) {
+			validationCache.store();
+		}
 
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", sqlMementoMap.size() );
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Builds the plans of all named queries while the {@code SessionFactory} is
+ * created, so that their first executions find the SQL translation cached.
+ * The named queries are spread over one task per available core.
+ * <p>
+ * HQL select queries are translated as if executed without explicit result
+ * type, and, if they have a single selection, as if executed with the type of
+ * that selection.  For native queries, only the interpretation of the parameters
+ * is cached.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_WARM_UP
+ */
+public class NamedQueryPlanWarmUp {
+	private static final Logger log = Logger.getLogger( NamedQueryPlanWarmUp.class );
+
+	private NamedQueryPlanWarmUp() {
+	}
+
+	/**
+	 * Build the plans of all named queries of the given {@code SessionFactory},
+	 * reporting the number of named queries and the time it took to the
+	 * statistics.
+	 */
+	public static void warmUp(SessionFactoryImplementor sessionFactory) {
+		final long start = System.nanoTime();
+		final NamedObjectRepository repository = sessionFactory.getQueryEngine().getNamedObjectRepository();
+		final List<Consumer<SharedSessionContractImplementor>> queries = new ArrayList<>();
+		repository.visitSqmQueryMementos( memento -> queries.add( session -> prepare( memento, session ) ) );
+		repository.visitNativeQueryMementos( memento -> queries.add( session -> prepare( memento, session ) ) );
+		if ( queries.isEmpty() ) {
+			return;
+		}
+
+		final int parallelism = Math.min( queries.size(), Runtime.getRuntime().availableProcessors() );
+		final List<Callable<Integer>> tasks = new ArrayList<>( parallelism );
+		for ( int i = 0; i < parallelism; i++ ) {
+			final List<Consumer<SharedSessionContractImplementor>> chunk = new ArrayList<>();
+			for ( int j = i; j < queries.size(); j += parallelism ) {
+				chunk.add( queries.get( j ) );
+			}
+			tasks.add( () -> warmUp( chunk, sessionFactory ) );
+		}
+
+		int warmedUp = 0;
+		final ForkJoinPool pool = new ForkJoinPool( parallelism );
+		try {
+			for ( Future<Integer> result : pool.invokeAll( tasks ) ) {
+				warmedUp += result.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			log.debugf( e.getCause(), "Unable to warm up the named query plans" );
+		}
+		finally {
+			pool.shutdownNow();
+		}
+
+		final long milliseconds = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+		log.debugf( "Warmed up the plans of %s named queries in %sms", warmedUp, milliseconds );
+		if ( sessionFactory.getStatistics().isStatisticsEnabled() ) {
+			sessionFactory.getStatistics().namedQueriesWarmedUp( warmedUp, milliseconds );
+		}
+	}
+
+	private static int warmUp(
+			List<Consumer<SharedSessionContractImplementor>> queries,
+			SessionFactoryImplementor sessionFactory) {
+		int warmedUp = 0;
+		try ( Session session = sessionFactory.openTemporarySession() ) {
+			for ( Consumer<SharedSessionContractImplementor> query : queries ) {
+				try {
+					query.accept( (SharedSessionContractImplementor) session );
+					warmedUp++;
+				}
+				catch (RuntimeException e) {
+					// the startup check, if enabled, already reported broken queries
+					log.debugf( e, "Unable to warm up a named query plan" );
+				}
+			}
+		}
+		return warmedUp;
+	}
+
+	private static void prepare(NamedSqmQueryMemento memento, SharedSessionContractImplementor session) {
+		final Object query = memento.toQuery( session );
+		if ( query instanceof QuerySqmImpl ) {
+			final QuerySqmImpl<?> sqmQuery = (QuerySqmImpl<?>) query;
+			sqmQuery.prepareQueryPlan();
+			if ( sqmQuery.getSqmStatement() instanceof SqmSelectStatement ) {
+				final List<SqmSelection<?>> selections = ( (SqmSelectStatement<?>) sqmQuery.getSqmStatement() )
+						.getQuerySpec()
+						.getSelectClause()
+						.getSelections();
+				if ( selections.size() == 1 ) {
+					final Class<?> resultType = selections.get( 0 ).getSelectableNode().getJavaType();
+					if ( resultType != null ) {
+						final Object typedQuery = memento.toQuery( session, resultType );
+						if ( typedQuery instanceof QuerySqmImpl ) {
+							( (QuerySqmImpl<?>) typedQuery ).prepareQueryPlan();
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static void prepare(NamedNativeQueryMemento memento, SharedSessionContractImplementor session) {
+		// interprets, and caches, the parameters of the query
+		memento.toQuery( session );
+	}
+}
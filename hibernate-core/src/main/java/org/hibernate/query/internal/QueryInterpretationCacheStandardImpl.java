@@ -91,12 +91,26 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+
+		final QueryPlan cached = queryPlanCache.get( key );
+		if ( cached instanceof NonSelectQueryPlan ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.nonSelectQueryPlanCacheHit( key.getQueryString() );
+			}
+			return (NonSelectQueryPlan) cached;
+		}
+
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nonSelectQueryPlanCacheMiss( key.getQueryString() );
+		}
 		return null;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		queryPlanCache.put( key.prepareForStore(), plan );
 	}
 
 	@Override
@@ -69,6 +69,17 @@ public interface NamedObjectRepository {
 	 */
 	Map<String, HibernateException> checkNamedQueries(QueryEngine queryPlanCache);
 
+	/**
+	 * Perform a validity check on all named queries, skipping the named HQL
+	 * queries already {@linkplain NamedQueryValidationCache#isValidated recorded}
+	 * as valid, and recording the ones which pass the check.
+	 */
+	default Map<String, HibernateException> checkNamedQueries(
+			QueryEngine queryEngine,
+			NamedQueryValidationCache validationCache) {
+		return checkNamedQueries( queryEngine );
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
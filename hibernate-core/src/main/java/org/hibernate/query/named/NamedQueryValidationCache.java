@@ -0,0 +1,209 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.named;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.Version;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jpa.spi.JpaCompliance;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.query.spi.QueryEngine;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+
+/**
+ * Records the named HQL queries which passed the
+ * {@linkplain NamedObjectRepository#checkNamedQueries startup check} in a file,
+ * so that the next startup of the same application does not have to parse and
+ * analyze them again.
+ * <p>
+ * The recorded queries are only trusted if the file was written for the same
+ * fingerprint of the domain model, the dialect, the JPA query compliance, the
+ * registered functions and the Hibernate version. A query is also checked again
+ * if its text changed.
+ * <p>
+ * Only the outcome of the check is recorded: the named queries are still parsed
+ * when they are first used.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECK_CACHE
+ */
+@Incubating
+public class NamedQueryValidationCache {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( NamedQueryValidationCache.class );
+
+	private static final String FINGERPRINT_KEY = "fingerprint";
+	private static final String QUERY_KEY_PREFIX = "query.";
+
+	private final Path file;
+	private final String fingerprint;
+	private final Map<String, String> previouslyValidated;
+	private final Map<String, String> validated = new TreeMap<>();
+
+	private NamedQueryValidationCache(Path file, String fingerprint, Map<String, String> previouslyValidated) {
+		this.file = file;
+		this.fingerprint = fingerprint;
+		this.previouslyValidated = previouslyValidated;
+	}
+
+	/**
+	 * Load the queries recorded in the given file, if it was written for the
+	 * current fingerprint of the given {@link SessionFactoryImplementor}.
+	 * A missing or unreadable file is treated as empty.
+	 */
+	public static NamedQueryValidationCache load(String fileName, SessionFactoryImplementor sessionFactory) {
+		final Path file = Paths.get( fileName );
+		final String fingerprint = fingerprint( sessionFactory );
+		final Map<String, String> previouslyValidated = new TreeMap<>();
+		if ( Files.isReadable( file ) ) {
+			final Properties properties = new Properties();
+			try ( Reader reader = Files.newBufferedReader( file, StandardCharsets.UTF_8 ) ) {
+				properties.load( reader );
+			}
+			catch (IOException | IllegalArgumentException e) {
+				LOG.debugf( e, "Unable to read the named query validation cache %s", file );
+				properties.clear();
+			}
+			if ( fingerprint.equals( properties.getProperty( FINGERPRINT_KEY ) ) ) {
+				for ( String key : properties.stringPropertyNames() ) {
+					if ( key.startsWith( QUERY_KEY_PREFIX ) ) {
+						previouslyValidated.put( key.substring( QUERY_KEY_PREFIX.length() ), properties.getProperty( key ) );
+					}
+				}
+			}
+			else {
+				LOG.debugf( "Ignoring the named query validation cache %s, the mapping model changed", file );
+			}
+		}
+		return new NamedQueryValidationCache( file, fingerprint, previouslyValidated );
+	}
+
+	/**
+	 * Whether the named query was recorded as valid with the same query string.
+	 * Such a query is carried over to the next {@linkplain #store() stored} file.
+	 */
+	public boolean isValidated(String registrationName, String queryString) {
+		if ( queryString.equals( previouslyValidated.get( registrationName ) ) ) {
+			validated.put( registrationName, queryString );
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Record that the named query passed the check.
+	 */
+	public void markValidated(String registrationName, String queryString) {
+		validated.put( registrationName, queryString );
+	}
+
+	/**
+	 * Write the queries which passed the check, unless they are exactly the
+	 * ones which were loaded. Failing to write the file does not fail the
+	 * startup, it just means the queries will be checked again.
+	 */
+	public void store() {
+		if ( validated.equals( previouslyValidated ) ) {
+			return;
+		}
+		final Properties properties = new Properties();
+		properties.setProperty( FINGERPRINT_KEY, fingerprint );
+		validated.forEach( (name, queryString) -> properties.setProperty( QUERY_KEY_PREFIX + name, queryString ) );
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			final Path temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try {
+				try ( Writer writer = Files.newBufferedWriter( temporaryFile, StandardCharsets.UTF_8 ) ) {
+					properties.store( writer, "Named HQL queries validated by Hibernate ORM " + Version.getVersionString() );
+				}
+				Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+		}
+		catch (IOException | UnsupportedOperationException e) {
+			LOG.warnf( "Unable to write the named query validation cache %s: %s", file, e.getMessage() );
+		}
+	}
+
+	/**
+	 * A hash of everything the validity of an HQL query depends on: the managed
+	 * types and their attributes, the dialect, the JPA query compliance, the
+	 * registered functions and the version of Hibernate.
+	 */
+	private static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		final StringBuilder model = new StringBuilder();
+		model.append( Version.getVersionString() ).append( '\n' );
+		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		final DatabaseVersion version = dialect.getVersion();
+		model.append( dialect.getClass().getName() )
+				.append( ' ' ).append( version.getDatabaseMajorVersion() )
+				.append( '.' ).append( version.getDatabaseMinorVersion() )
+				.append( '.' ).append( version.getDatabaseMicroVersion() )
+				.append( '\n' );
+		final JpaCompliance jpaCompliance = sessionFactory.getSessionFactoryOptions().getJpaCompliance();
+		model.append( "jpaQueryCompliance=" ).append( jpaCompliance.isJpaQueryComplianceEnabled() ).append( '\n' );
+
+		final Map<String, List<String>> managedTypes = new TreeMap<>();
+		for ( ManagedType<?> managedType : sessionFactory.getJpaMetamodel().getManagedTypes() ) {
+			final List<String> attributes = new ArrayList<>();
+			for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+				attributes.add(
+						attribute.getName() + ':' + attribute.getPersistentAttributeType()
+								+ ':' + ( attribute.getJavaType() == null ? null : attribute.getJavaType().getName() )
+				);
+			}
+			attributes.sort( null );
+			managedTypes.put( ( (ManagedDomainType<?>) managedType ).getTypeName(), attributes );
+		}
+		managedTypes.forEach( (name, attributes) -> model.append( name ).append( attributes ).append( '\n' ) );
+
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		queryEngine.getSqmFunctionRegistry().getFunctionsByName()
+				.sorted( Map.Entry.comparingByKey() )
+				.forEach( entry -> model.append( entry.getKey() )
+						.append( '=' )
+						.append( entry.getValue().getClass().getName() )
+						.append( '\n' ) );
+
+		try {
+			final byte[] digest = MessageDigest.getInstance( "SHA-256" )
+					.digest( model.toString().getBytes( StandardCharsets.UTF_8 ) );
+			final StringBuilder hex = new StringBuilder( digest.length * 2 );
+			for ( byte b : digest ) {
+				hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to fingerprint the mapping model", e );
+		}
+	}
+}
@@ -42,4 +42,10 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Prepare whatever the plan would otherwise build on its first execution,
+	 * such as the translation to SQL, without executing the query.
+	 */
+	default void prepare(DomainQueryExecutionContext executionContext) {
+	}
 }
@@ -150,6 +150,9 @@ public class SelfRenderingSqmOrderedSetAggregateFunction<T> extends SelfRenderin
 				i = 2;
 			}
 		}
+		else {
+			arguments.get( 0 ).appendHqlString( sb );
+		}
 		for ( ; i < arguments.size(); i++ ) {
 			sb.append(", ");
 			arguments.get( i ).appendHqlString( sb );
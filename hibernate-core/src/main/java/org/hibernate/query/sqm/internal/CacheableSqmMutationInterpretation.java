@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.spi.JdbcMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * The translation of a simple (single table) mutation statement, kept by its
+ * {@link org.hibernate.query.spi.NonSelectQueryPlan} so that the plan can be
+ * cached and executed concurrently.
+ * <p>
+ * Instances are immutable once published, a plan replaces its interpretation
+ * as a whole if the {@link JdbcMutation} is not compatible with an execution.
+ *
+ * @see SimpleUpdateQueryPlan
+ * @see SimpleDeleteQueryPlan
+ * @see SimpleInsertQueryPlan
+ */
+class CacheableSqmMutationInterpretation<S extends MutationStatement, J extends JdbcMutation> {
+
+	/**
+	 * Translate the SQL AST of the given interpretation, and bind the parameters
+	 * of the execution it is translated for, which are exposed through
+	 * {@link #getFirstParameterBindings()}.
+	 */
+	static <S extends MutationStatement, J extends JdbcMutation> CacheableSqmMutationInterpretation<S, J> create(
+			SqmTranslation<S> sqmInterpretation,
+			SqlAstTranslator<J> sqlAstTranslator,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmInterpretation,
+				jdbcParamsXref,
+				domainParameterXref,
+				executionContext
+		);
+		final J jdbcMutation = sqlAstTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		return new CacheableSqmMutationInterpretation<>(
+				sqmInterpretation,
+				jdbcParamsXref,
+				jdbcMutation,
+				jdbcParameterBindings
+		);
+	}
+
+	private final SqmTranslation<S> sqmInterpretation;
+	private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private final J jdbcMutation;
+	private transient JdbcParameterBindings firstParameterBindings;
+
+	private CacheableSqmMutationInterpretation(
+			SqmTranslation<S> sqmInterpretation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+			J jdbcMutation,
+			JdbcParameterBindings firstParameterBindings) {
+		this.sqmInterpretation = sqmInterpretation;
+		this.jdbcParamsXref = jdbcParamsXref;
+		this.jdbcMutation = jdbcMutation;
+		this.firstParameterBindings = firstParameterBindings;
+	}
+
+	SqmTranslation<S> getSqmInterpretation() {
+		return sqmInterpretation;
+	}
+
+	Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> getJdbcParamsXref() {
+		return jdbcParamsXref;
+	}
+
+	J getJdbcMutation() {
+		return jdbcMutation;
+	}
+
+	/**
+	 * The bindings created for the execution this interpretation was created
+	 * for, which must be consumed (and cleared) before the interpretation is
+	 * published to other executions.
+	 */
+	JdbcParameterBindings getFirstParameterBindings() {
+		return firstParameterBindings;
+	}
+
+	void setFirstParameterBindings(JdbcParameterBindings firstParameterBindings) {
+		this.firstParameterBindings = firstParameterBindings;
+	}
+
+	/**
+	 * Create the bindings for another execution of the {@link JdbcMutation},
+	 * including the values of the filters enabled in the executing session.
+	 */
+	JdbcParameterBindings createJdbcParameterBindings(
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmInterpretation,
+				jdbcParamsXref,
+				domainParameterXref,
+				executionContext
+		);
+		jdbcMutation.bindFilterJdbcParameters(
+				jdbcParameterBindings,
+				executionContext.getSession().getLoadQueryInfluencers().getEnabledFilters()
+		);
+		return jdbcParameterBindings;
+	}
+
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			SqmTranslation<?> sqmInterpretation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				sqmInterpretation.getFromClauseAccess()::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get( parameter );
+					}
+				},
+				session
+		);
+	}
+}
@@ -7,9 +7,11 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -27,6 +29,8 @@ import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -66,13 +70,22 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The maximum number of interpretations kept for distinct cardinalities of
+	 * multi-valued parameter bindings, beyond which executions with a new
+	 * cardinality are interpreted without being cached
+	 */
+	private static final int MAX_EXPANDED_INTERPRETATIONS = 16;
+
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
+	private final QueryParameterImplementor<?>[] multiValuedParameters;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Map<ExpansionKey, CacheableSqmInterpretation> expandedSqmInterpretations;
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -83,89 +96,85 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
 		this.domainParameterXref = domainParameterXref;
+		this.multiValuedParameters = domainParameterXref.getQueryParameters()
+				.keySet()
+				.stream()
+				.filter( QueryParameterImplementor::allowsMultiValuedBinding )
+				.toArray( QueryParameterImplementor<?>[]::new );
+		this.expandedSqmInterpretations = multiValuedParameters.length == 0
+				? Collections.emptyMap()
+				: new ConcurrentHashMap<>();
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						Collections.emptyList(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey, entry );
-							}
-
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					Collections.emptyList(),
+					jdbcParameterBindings
+			);
 
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+						@Override
+						public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+							subSelectFetchKeyHandler.addKey( entityKey, entry );
+						}
+
+						@Override
+						public String getQueryIdentifier(String sql) {
+							if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+								return "[CRITERIA] " + sql;
 							}
-						},
-						rowTransformer,
-						ListResultsConsumer.UniqueSemantic.ALLOW
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+							return hql;
+						}
+
+						@Override
+						public boolean hasQueryExecutionToBeAddedToStatistics() {
+							return true;
+						}
+					},
+					rowTransformer,
+					ListResultsConsumer.UniqueSemantic.ALLOW
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
-			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
-
-				final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
-						.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				return jdbcSelectExecutor.scroll(
-						sqmInterpretation.getJdbcSelect(),
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
-						rowTransformer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+//			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+//					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+//					sqmInterpretation.selectStatement,
+//					Collections.emptyList(),
+//					jdbcParameterBindings
+//			);
+
+			final JdbcSelectExecutor jdbcSelectExecutor = executionContext.getSession()
+					.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			return jdbcSelectExecutor.scroll(
+					sqmInterpretation.getJdbcSelect(),
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, sqmInterpretation.jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		since those are part of the plan cache key.  Multi-valued parameter
+		//		expansion is not part of the key, and is handled by keeping one
+		//		interpretation per cardinality of the multi-valued bindings - see
+		//		`#withCacheableSqmInterpretation`.
 	}
 
 	@SuppressWarnings("unchecked")
@@ -254,27 +263,50 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		if ( cacheableSqmInterpretation == null ) {
+			synchronized ( this ) {
+				if ( cacheableSqmInterpretation == null ) {
+					final CacheableSqmInterpretation sqmInterpretation = buildCacheableSqmInterpretation(
+							sqm,
+							domainParameterXref,
+							executionContext
+					);
+					// the bindings of the first execution are created when it happens
+					sqmInterpretation.firstParameterBindings = null;
+					cacheableSqmInterpretation = sqmInterpretation;
+				}
+			}
+		}
+	}
+
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
 		//		to protect access.  However, synchronized is much simpler here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		// Multi-valued bindings are expanded into one parameter per value during
+		// translation, so each cardinality needs its own interpretation, which also
+		// records the expansions in its own copy of the DomainParameterXref
+		final ExpansionKey expansionKey = resolveExpansionKey( executionContext.getQueryParameterBindings() );
+
+		CacheableSqmInterpretation localCopy = getCachedSqmInterpretation( expansionKey );
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
 			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
+				localCopy = getCachedSqmInterpretation( expansionKey );
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
-							domainParameterXref,
+							expansionKey == null ? domainParameterXref : domainParameterXref.copy(),
 							executionContext
 					);
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+					cacheSqmInterpretation( expansionKey, localCopy );
 				}
 			}
 		}
@@ -289,12 +321,12 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
-						domainParameterXref,
+						expansionKey == null ? domainParameterXref : domainParameterXref.copy(),
 						executionContext
 				);
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				cacheSqmInterpretation( expansionKey, localCopy );
 			}
 		}
 
@@ -305,11 +337,46 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	/**
+	 * Determine the cardinalities of the multi-valued bindings of the parameters
+	 * which allow them.
+	 *
+	 * @return the key, or {@code null} if none of the bindings is multi-valued
+	 */
+	private ExpansionKey resolveExpansionKey(QueryParameterBindings bindings) {
+		int[] cardinalities = null;
+		for ( int i = 0; i < multiValuedParameters.length; i++ ) {
+			final QueryParameterBinding<?> binding = bindings.getBinding( multiValuedParameters[i] );
+			if ( binding.isMultiValued() ) {
+				if ( cardinalities == null ) {
+					cardinalities = new int[multiValuedParameters.length];
+					Arrays.fill( cardinalities, -1 );
+				}
+				cardinalities[i] = binding.getBindValues().size();
+			}
+		}
+		return cardinalities == null ? null : new ExpansionKey( cardinalities );
+	}
+
+	private CacheableSqmInterpretation getCachedSqmInterpretation(ExpansionKey expansionKey) {
+		return expansionKey == null ? cacheableSqmInterpretation : expandedSqmInterpretations.get( expansionKey );
+	}
+
+	private void cacheSqmInterpretation(ExpansionKey expansionKey, CacheableSqmInterpretation sqmInterpretation) {
+		if ( expansionKey == null ) {
+			cacheableSqmInterpretation = sqmInterpretation;
+		}
+		else if ( expandedSqmInterpretations.size() < MAX_EXPANDED_INTERPRETATIONS
+				|| expandedSqmInterpretations.containsKey( expansionKey ) ) {
+			expandedSqmInterpretations.put( expansionKey, sqmInterpretation );
+		}
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -322,7 +389,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				},
 				session
 		);
-		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters( jdbcParameterBindings );
+		// the plan may be shared between sessions with different filter values
+		sqmInterpretation.getJdbcSelect().bindFilterJdbcParameters(
+				jdbcParameterBindings,
+				session.getLoadQueryInfluencers().getEnabledFilters()
+		);
 		return jdbcParameterBindings;
 	}
 
@@ -379,6 +450,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
+				domainParameterXref,
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -386,6 +458,30 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 	}
 
+	/**
+	 * The cardinalities of the multi-valued bindings an interpretation was built
+	 * for, with {@code -1} for single-valued bindings
+	 */
+	private static final class ExpansionKey {
+		private final int[] cardinalities;
+		private final int hashCode;
+
+		private ExpansionKey(int[] cardinalities) {
+			this.cardinalities = cardinalities;
+			this.hashCode = Arrays.hashCode( cardinalities );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ExpansionKey && Arrays.equals( cardinalities, ( (ExpansionKey) o ).cardinalities );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -397,6 +493,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private static class CacheableSqmInterpretation {
 		private final SelectStatement selectStatement;
 		private final JdbcSelect jdbcSelect;
+		private final DomainParameterXref domainParameterXref;
 		private final FromClauseAccess tableGroupAccess;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
@@ -405,12 +502,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcSelect jdbcSelect,
+				DomainParameterXref domainParameterXref,
 				FromClauseAccess tableGroupAccess,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
+			this.domainParameterXref = domainParameterXref;
 			this.tableGroupAccess = tableGroupAccess;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
@@ -425,6 +524,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return jdbcSelect;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		FromClauseAccess getTableGroupAccess() {
 			return tableGroupAccess;
 		}
@@ -135,6 +135,9 @@ public class QuerySqmImpl<R>
 	private final Class<R> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private SqmCriteriaStructure criteriaStructure;
+	private boolean criteriaStructureDetermined;
+
 	/**
 	 * Creates a Query instance from a named HQL memento
 	 */
@@ -614,10 +617,37 @@ public class QuerySqmImpl<R>
 	}
 
 
+	/**
+	 * Resolve the query plan, and let it prepare its translation, without
+	 * executing the query. Parameters which are not bound yet are assumed to
+	 * be bound to single values.
+	 */
+	public void prepareQueryPlan() {
+		if ( getSqmStatement() instanceof SqmSelectStatement ) {
+			resolveSelectQueryPlan().prepare( this );
+		}
+		else {
+			resolveNonSelectQueryPlan();
+		}
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
+		if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+			final SelectQueryPlan<R> sharedPlan = SharedCriteriaSelectQueryPlan.resolve(
+					this::getCriteriaStructure,
+					this,
+					getSession(),
+					this::buildSelectQueryPlan
+			);
+			if ( sharedPlan != null ) {
+				return sharedPlan;
+			}
+		}
+
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
 			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
@@ -630,21 +660,46 @@ public class QuerySqmImpl<R>
 		}
 	}
 
+	/**
+	 * The structure of a criteria query, determined once since the statement
+	 * of the query does not change
+	 */
+	private SqmCriteriaStructure getCriteriaStructure() {
+		if ( !criteriaStructureDetermined ) {
+			criteriaStructure = SqmCriteriaStructure.from( (SqmSelectStatement<?>) getSqmStatement() );
+			criteriaStructureDetermined = true;
+		}
+		return criteriaStructure;
+	}
+
 	private SelectQueryPlan<R> buildSelectQueryPlan() {
+		return buildSelectQueryPlan( (SqmSelectStatement<?>) getSqmStatement(), getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildSelectQueryPlan(
+			SqmSelectStatement<?> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<R>) getSqmStatement(),
+				(SqmSelectStatement<R>) sqmStatement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedSelectQueryPlan( concreteSqmStatements );
+			return buildAggregatedSelectQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteSelectQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteSelectQueryPlan(
+					concreteSqmStatements[0],
+					domainParameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedSelectQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -653,6 +708,7 @@ public class QuerySqmImpl<R>
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteSelectQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -663,12 +719,13 @@ public class QuerySqmImpl<R>
 
 	private <T> SelectQueryPlan<T> buildConcreteSelectQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
@@ -731,7 +788,7 @@ public class QuerySqmImpl<R>
 
 		if ( queryPlan == null ) {
 			queryPlan = buildNonSelectQueryPlan();
-			if ( cacheKey != null ) {
+			if ( cacheKey != null && isCacheable( queryPlan ) ) {
 				getSession().getFactory().getQueryEngine().getInterpretationCache().cacheNonSelectQueryPlan( cacheKey, queryPlan );
 			}
 		}
@@ -739,6 +796,25 @@ public class QuerySqmImpl<R>
 		return queryPlan;
 	}
 
+	/**
+	 * Only plans for single table statements keep their translation in a form
+	 * which is safe to share between executions, the multi-table strategies
+	 * build their statements for each execution.
+	 */
+	private static boolean isCacheable(NonSelectQueryPlan queryPlan) {
+		if ( queryPlan instanceof AggregatedNonSelectQueryPlanImpl ) {
+			for ( NonSelectQueryPlan aggregatedQueryPlan : ( (AggregatedNonSelectQueryPlanImpl) queryPlan ).getAggregatedQueryPlans() ) {
+				if ( !isCacheable( aggregatedQueryPlan ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return queryPlan instanceof SimpleUpdateQueryPlan
+				|| queryPlan instanceof SimpleDeleteQueryPlan
+				|| queryPlan instanceof SimpleInsertQueryPlan;
+	}
+
 	private NonSelectQueryPlan buildNonSelectQueryPlan() {
 		// to get here the SQM statement has already been validated to be
 		// a non-select variety...
@@ -0,0 +1,236 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * A {@link SelectQueryPlan} for a Criteria-based query, cached by the
+ * {@linkplain SqmCriteriaStructure structure} of the statement and shared by
+ * all Criteria queries of that structure.
+ * <p>
+ * The wrapped plan is built for a {@linkplain SqmCriteriaStructure#copyForSharedPlan copy}
+ * of the statement of the first such query, with parameters of its own. When
+ * executed for a query, the bindings of the parameters of that query are looked
+ * up by position in place of the parameters of the copy.
+ */
+public class SharedCriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+
+	/**
+	 * Resolve the plan for a Criteria-based select query through the
+	 * {@link QueryInterpretationCache}, if the structure of the query allows it.
+	 *
+	 * @param structure supplies the structure of the query, which is expected to
+	 * be determined once per query
+	 * @param creator builds a plan for the given statement and parameters
+	 *
+	 * @return the plan, or {@code null} if the plan of the query cannot be shared
+	 */
+	public static <R> SelectQueryPlan<R> resolve(
+			Supplier<SqmCriteriaStructure> structure,
+			SqmInterpretationsKey.InterpretationsKeySource keySource,
+			SharedSessionContractImplementor session,
+			BiFunction<SqmSelectStatement<?>, DomainParameterXref, SelectQueryPlan<R>> creator) {
+		final QueryInterpretationCache interpretationCache = session.getFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		if ( !interpretationCache.isEnabled()
+				// the tuple metadata refers to the selections of the query itself
+				|| keySource.getResultType() != null && Tuple.class.isAssignableFrom( keySource.getResultType() ) ) {
+			return null;
+		}
+
+		final SqmCriteriaStructure criteriaStructure = structure.get();
+		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( keySource, criteriaStructure );
+		if ( cacheKey == null ) {
+			return null;
+		}
+
+		final SelectQueryPlan<R> plan = interpretationCache.resolveSelectQueryPlan(
+				cacheKey,
+				() -> {
+					final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>( criteriaStructure.getParameters().size() );
+					final SqmSelectStatement<?> statement = criteriaStructure.copyForSharedPlan( parameters );
+					return new SharedCriteriaSelectQueryPlan<>(
+							creator.apply( statement, DomainParameterXref.from( statement ) ),
+							parameters
+					);
+				}
+		);
+		if ( plan instanceof SharedCriteriaSelectQueryPlan<?> ) {
+			return ( (SharedCriteriaSelectQueryPlan<R>) plan ).forParameters( criteriaStructure.getParameters() );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private final SelectQueryPlan<R> delegate;
+	private final List<JpaCriteriaParameter<?>> parameters;
+
+	public SharedCriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, List<JpaCriteriaParameter<?>> parameters) {
+		this.delegate = delegate;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Obtain a plan which executes this plan using the bindings of the given
+	 * parameters, which are matched to the parameters of this plan by position.
+	 */
+	public SelectQueryPlan<R> forParameters(List<JpaCriteriaParameter<?>> parameters) {
+		assert parameters.size() == this.parameters.size();
+		if ( parameters.isEmpty() ) {
+			return delegate;
+		}
+
+		final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> mapping = new IdentityHashMap<>( parameters.size() );
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			mapping.put( this.parameters.get( i ), parameters.get( i ) );
+		}
+		return new SelectQueryPlan<R>() {
+			@Override
+			public List<R> performList(DomainQueryExecutionContext executionContext) {
+				return delegate.performList( remap( executionContext, mapping ) );
+			}
+
+			@Override
+			public ScrollableResultsImplementor<R> performScroll(
+					ScrollMode scrollMode,
+					DomainQueryExecutionContext executionContext) {
+				return delegate.performScroll( scrollMode, remap( executionContext, mapping ) );
+			}
+
+			@Override
+			public void prepare(DomainQueryExecutionContext executionContext) {
+				delegate.prepare( remap( executionContext, mapping ) );
+			}
+		};
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		delegate.prepare( executionContext );
+	}
+
+	private static DomainQueryExecutionContext remap(
+			DomainQueryExecutionContext executionContext,
+			Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> mapping) {
+		final QueryParameterBindings bindings = new RemappedQueryParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				mapping
+		);
+		return new DelegatingDomainQueryExecutionContext( executionContext ) {
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return bindings;
+			}
+		};
+	}
+
+	/**
+	 * The bindings of a query, seen through the parameters of the shared plan
+	 */
+	private static class RemappedQueryParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings delegate;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> mapping;
+		private final Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> inverseMapping;
+
+		RemappedQueryParameterBindings(
+				QueryParameterBindings delegate,
+				Map<QueryParameterImplementor<?>, QueryParameterImplementor<?>> mapping) {
+			this.delegate = delegate;
+			this.mapping = mapping;
+			this.inverseMapping = new IdentityHashMap<>( mapping.size() );
+			mapping.forEach( (planParameter, queryParameter) -> inverseMapping.put( queryParameter, planParameter ) );
+		}
+
+		@SuppressWarnings("unchecked")
+		private <P> QueryParameterImplementor<P> map(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> mapped = mapping.get( parameter );
+			return mapped == null ? parameter : (QueryParameterImplementor<P>) mapped;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return delegate.isBound( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return delegate.getBinding( map( parameter ) );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return delegate.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return delegate.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			delegate.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return delegate.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return delegate.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			delegate.visitBindings(
+					(parameter, binding) -> {
+						final QueryParameterImplementor<?> planParameter = inverseMapping.get( parameter );
+						action.accept( planParameter == null ? parameter : planParameter, binding );
+					}
+			);
+		}
+	}
+}
@@ -6,33 +6,25 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.List;
-import java.util.Map;
-
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.MappingModelHelper;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.mutation.internal.SqmMutationStrategyHelper;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.Expression;
-import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.from.MutatingTableReferenceGroupWrapper;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
@@ -48,9 +40,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcDelete jdbcDelete;
-	private SqmTranslation<DeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private volatile CacheableSqmMutationInterpretation<DeleteStatement, JdbcDelete> interpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -63,7 +53,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<JdbcDelete> createDeleteTranslator(DomainQueryExecutionContext executionContext) {
+	private CacheableSqmMutationInterpretation<DeleteStatement, JdbcDelete> interpret(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -77,15 +67,19 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 
-		sqmInterpretation = translator.translate();
+		final SqmTranslation<DeleteStatement> sqmInterpretation = translator.translate();
+
+		final SqlAstTranslator<JdbcDelete> deleteTranslator = factory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildDeleteTranslator( factory, sqmInterpretation.getSqlAst() );
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
+		return CacheableSqmMutationInterpretation.create(
+				sqmInterpretation,
+				deleteTranslator,
 				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
+				executionContext
 		);
-
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildDeleteTranslator( factory, sqmInterpretation.getSqlAst() );
 	}
 
 	@Override
@@ -94,43 +88,28 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcDelete> deleteTranslator = null;
-		if ( jdbcDelete == null ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				sqmInterpretation.getFromClauseAccess()::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-					}
-				},
-				session
-		);
-
-		if ( jdbcDelete != null
-				&& ! jdbcDelete.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			deleteTranslator = createDeleteTranslator( executionContext );
-		}
 
-		if ( deleteTranslator != null ) {
-			jdbcDelete = deleteTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		CacheableSqmMutationInterpretation<DeleteStatement, JdbcDelete> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( localCopy != null ) {
+			jdbcParameterBindings = localCopy.createJdbcParameterBindings( domainParameterXref, executionContext );
+			if ( !localCopy.getJdbcMutation().isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				localCopy = null;
+			}
 		}
-		else {
-			jdbcDelete.bindFilterJdbcParameters( jdbcParameterBindings );
+		if ( localCopy == null ) {
+			localCopy = interpret( executionContext );
+			jdbcParameterBindings = localCopy.getFirstParameterBindings();
+			localCopy.setFirstParameterBindings( null );
+			interpretation = localCopy;
 		}
+		final SqmTranslation<DeleteStatement> sqmInterpretation = localCopy.getSqmInterpretation();
 
 		final boolean missingRestriction = sqmDelete.getWhereClause() == null
 				|| sqmDelete.getWhereClause().getPredicate() == null;
 		if ( missingRestriction ) {
 			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert localCopy.getJdbcParamsXref().isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -177,7 +156,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		);
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcDelete,
+				localCopy.getJdbcMutation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -6,27 +6,18 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import java.util.List;
-import java.util.Map;
-
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryParameterImplementor;
-import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
-import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
 import org.hibernate.sql.ast.SqlAstTranslator;
-import org.hibernate.sql.ast.spi.FromClauseAccess;
-import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.insert.InsertStatement;
 import org.hibernate.sql.exec.spi.JdbcInsert;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -37,11 +28,8 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 	private final SqmInsertStatement<?> sqmInsert;
 	private final DomainParameterXref domainParameterXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
 
-	private JdbcInsert jdbcInsert;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+	private volatile CacheableSqmMutationInterpretation<InsertStatement, JdbcInsert> interpretation;
 
 	public SimpleInsertQueryPlan(
 			SqmInsertStatement<?> sqmInsert,
@@ -50,7 +38,7 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<JdbcInsert> createInsertTranslator(DomainQueryExecutionContext executionContext) {
+	private CacheableSqmMutationInterpretation<InsertStatement, JdbcInsert> interpret(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final QueryEngine queryEngine = factory.getQueryEngine();
 
@@ -66,19 +54,17 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 
 		final SqmTranslation<InsertStatement> sqmInterpretation = translator.translate();
 
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		this.paramTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices()
+		final SqlAstTranslator<JdbcInsert> insertTranslator = factory.getJdbcServices()
 				.getJdbcEnvironment()
 				.getSqlAstTranslatorFactory()
 				.buildInsertTranslator( factory, sqmInterpretation.getSqlAst() );
+
+		return CacheableSqmMutationInterpretation.create(
+				sqmInterpretation,
+				insertTranslator,
+				domainParameterXref,
+				executionContext
+		);
 	}
 
 	@Override
@@ -87,42 +73,24 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<JdbcInsert> insertTranslator = null;
-		if ( jdbcInsert == null ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
-
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) paramTypeResolutions.get(parameter);
-					}
-				},
-				session
-		);
-
-		if ( jdbcInsert != null && !jdbcInsert.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
 
-		if ( insertTranslator != null ) {
-			jdbcInsert = insertTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		CacheableSqmMutationInterpretation<InsertStatement, JdbcInsert> localCopy = interpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( localCopy != null ) {
+			jdbcParameterBindings = localCopy.createJdbcParameterBindings( domainParameterXref, executionContext );
+			if ( !localCopy.getJdbcMutation().isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				localCopy = null;
+			}
 		}
-		else {
-			jdbcInsert.bindFilterJdbcParameters( jdbcParameterBindings );
+		if ( localCopy == null ) {
+			localCopy = interpret( executionContext );
+			jdbcParameterBindings = localCopy.getFirstParameterBindings();
+			localCopy.setFirstParameterBindings( null );
+			interpretation = localCopy;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcInsert,
+				localCopy.getJdbcMutation(),
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
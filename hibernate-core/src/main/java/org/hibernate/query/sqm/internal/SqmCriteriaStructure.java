@@ -0,0 +1,348 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.BindableType;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmFromClause;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.service.ServiceRegistry;
+
+import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
+
+/**
+ * The structure of a criteria query with its parameters abstracted out, used
+ * to share query plans between criteria queries of the same shape.
+ * <p>
+ * The structure is the HQL rendering of a copy of the statement, in which the
+ * aliases generated for from-elements are replaced by canonical ones and values
+ * bound through the criteria builder by placeholders, followed by the pattern in
+ * which parameters occur in the statement. The canonical aliases and placeholders
+ * cannot be written in HQL, so they never clash with user-supplied aliases or
+ * literals. The parameters themselves are matched by position when a plan is
+ * shared. The types of parameters and literals are not captured by the rendering,
+ * and are exposed separately as part of the key.
+ * <p>
+ * A plan shared by the criteria queries of a structure is built for a
+ * {@linkplain #copyForSharedPlan copy} of the statement of the first such query,
+ * with new parameters which are not bound to any value, so that the plan does
+ * not keep that query alive.
+ *
+ * @see SqmInterpretationsKey#createInterpretationsKey(SqmInterpretationsKey.InterpretationsKeySource, SqmCriteriaStructure)
+ */
+public final class SqmCriteriaStructure {
+	/**
+	 * Determine the structure of the given criteria statement.
+	 *
+	 * @return the structure, or {@code null} if the statement cannot be
+	 * described structurally
+	 */
+	public static SqmCriteriaStructure from(SqmSelectStatement<?> statement) {
+		final ValueCollector collector = new ValueCollector( statement.nodeBuilder().getServiceRegistry() );
+		final StringBuilder hql = new StringBuilder( CRITERIA_HQL_STRING ).append( ' ' );
+		try {
+			statement.accept( collector );
+			if ( !collector.criteriaParametersOnly ) {
+				return null;
+			}
+			// render a copy, since rendering assigns aliases to the from-elements
+			final StructureCopyContext copyContext = new StructureCopyContext();
+			for ( JpaCriteriaParameter<?> parameter : collector.parameterOccurrences ) {
+				if ( parameter instanceof ValueBindJpaCriteriaParameter<?> ) {
+					copyContext.replace( parameter, new ValuePlaceholder<>( parameter.getAnticipatedType(), parameter.nodeBuilder() ) );
+				}
+			}
+			final SqmStatement<?> copy = statement.copy( copyContext );
+			copy.accept( new AliasCanonicalizer( copyContext, statement.nodeBuilder().getServiceRegistry() ) );
+			copy.appendHqlString( hql );
+		}
+		catch (RuntimeException e) {
+			// not every node supports rendering
+			return null;
+		}
+
+		final StringBuilder structure = new StringBuilder( hql.length() + collector.parameterOccurrences.size() * 3 )
+				.append( hql );
+
+		final List<JpaCriteriaParameter<?>> occurrences = collector.parameterOccurrences;
+		if ( occurrences.isEmpty() ) {
+			return new SqmCriteriaStructure( statement, structure.toString(), Collections.emptyList(), collector.literalTypes );
+		}
+
+		// literal types first, since the rendering of literals does not capture their type
+		final List<SqmExpressible<?>> types = new ArrayList<>( collector.literalTypes );
+		final Map<JpaCriteriaParameter<?>, Integer> positions = new IdentityHashMap<>( occurrences.size() );
+		final List<JpaCriteriaParameter<?>> parameters = new ArrayList<>( occurrences.size() );
+		structure.append( " parameters" );
+		for ( JpaCriteriaParameter<?> parameter : occurrences ) {
+			Integer position = positions.get( parameter );
+			if ( position == null ) {
+				position = parameters.size();
+				positions.put( parameter, position );
+				parameters.add( parameter );
+				types.add( canonicalType( parameter.getNodeType() ) );
+			}
+			structure.append( ' ' ).append( position );
+			if ( parameter instanceof ValueBindJpaCriteriaParameter<?> ) {
+				appendValueSize( ( (ValueBindJpaCriteriaParameter<?>) parameter ).getValue(), structure );
+			}
+		}
+		return new SqmCriteriaStructure( statement, structure.toString(), parameters, types );
+	}
+
+	/**
+	 * The precision and scale of a numeric value determine the size of the
+	 * casts rendered for its parameter, see
+	 * {@link org.hibernate.query.sqm.sql.BaseSqmToSqlAstConverter}, so they
+	 * are part of the structure. The values bound through the criteria builder
+	 * cannot change once the query is created.
+	 */
+	private static void appendValueSize(Object value, StringBuilder structure) {
+		if ( value instanceof BigDecimal ) {
+			final BigDecimal bigDecimal = (BigDecimal) value;
+			structure.append( '(' ).append( bigDecimal.precision() )
+					.append( ',' ).append( bigDecimal.scale() ).append( ')' );
+		}
+		else if ( value instanceof BigInteger ) {
+			structure.append( '(' ).append( ( (BigInteger) value ).abs().toString().length() ).append( ')' );
+		}
+	}
+
+	private static SqmExpressible<?> canonicalType(SqmExpressible<?> type) {
+		// a value may be typed by the expression it is compared with, in
+		// which case only the type of that expression is relevant
+		return type instanceof SqmExpression<?>
+				? canonicalType( ( (SqmExpression<?>) type ).getNodeType() )
+				: type;
+	}
+
+	/**
+	 * Copies the statement with the given replacements of its parameters, and
+	 * remembers the original of each copied node.
+	 */
+	private static class StructureCopyContext implements SqmCopyContext {
+		private final Map<Object, Object> copies = new IdentityHashMap<>();
+		private final Map<Object, Object> originals = new IdentityHashMap<>();
+
+		private void replace(JpaCriteriaParameter<?> parameter, JpaCriteriaParameter<?> replacement) {
+			copies.putIfAbsent( parameter, replacement );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getCopy(T original) {
+			return (T) copies.get( original );
+		}
+
+		@Override
+		public <T> T registerCopy(T original, T copy) {
+			final Object old = copies.put( original, copy );
+			if ( old != null ) {
+				throw new IllegalArgumentException( "Already registered a copy: " + old );
+			}
+			originals.put( copy, original );
+			return copy;
+		}
+
+		private Object getOriginal(Object copy) {
+			return originals.get( copy );
+		}
+	}
+
+	/**
+	 * Renders a value bound through the criteria builder as a placeholder
+	 */
+	private static class ValuePlaceholder<T> extends ValueBindJpaCriteriaParameter<T> {
+		private ValuePlaceholder(BindableType<T> type, NodeBuilder nodeBuilder) {
+			super( type, null, nodeBuilder );
+		}
+
+		@Override
+		public void appendHqlString(StringBuilder sb) {
+			sb.append( ":{value}" );
+		}
+	}
+
+	/**
+	 * Replaces the aliases Hibernate generated for the from-elements of the
+	 * copied statement by canonical ones, numbered in the order in which the
+	 * from-elements are visited
+	 */
+	private static class AliasCanonicalizer extends BaseSemanticQueryWalker {
+		private final StructureCopyContext copyContext;
+		private int aliasCount;
+
+		private AliasCanonicalizer(StructureCopyContext copyContext, ServiceRegistry serviceRegistry) {
+			super( serviceRegistry );
+			this.copyContext = copyContext;
+		}
+
+		@Override
+		public Object visitFromClause(SqmFromClause fromClause) {
+			for ( SqmFrom<?, ?> root : fromClause.getRoots() ) {
+				canonicalizeAliases( root );
+			}
+			return super.visitFromClause( fromClause );
+		}
+
+		private void canonicalizeAliases(SqmFrom<?, ?> from) {
+			if ( isGeneratedAlias( from ) ) {
+				from.setExplicitAlias( "{alias" + aliasCount++ + "}" );
+			}
+			for ( SqmFrom<?, ?> join : from.getSqmJoins() ) {
+				canonicalizeAliases( join );
+			}
+			for ( SqmFrom<?, ?> treat : from.getSqmTreats() ) {
+				canonicalizeAliases( treat );
+			}
+		}
+
+		private boolean isGeneratedAlias(SqmFrom<?, ?> from) {
+			final String alias = from.getExplicitAlias();
+			if ( alias == null ) {
+				return true;
+			}
+			// the original may have been rendered already, which assigned it an alias
+			final Object original = copyContext.getOriginal( from );
+			return original != null && alias.equals( "alias_" + System.identityHashCode( original ) );
+		}
+	}
+
+	/**
+	 * Collects the parameter occurrences and the literal types of a statement,
+	 * in a deterministic order
+	 */
+	private static class ValueCollector extends BaseSemanticQueryWalker {
+		private final List<JpaCriteriaParameter<?>> parameterOccurrences = new ArrayList<>();
+		private final List<SqmExpressible<?>> literalTypes = new ArrayList<>();
+		private boolean criteriaParametersOnly = true;
+
+		private ValueCollector(ServiceRegistry serviceRegistry) {
+			super( serviceRegistry );
+		}
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			parameterOccurrences.add( expression );
+			return expression;
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> expression) {
+			criteriaParametersOnly = false;
+			return expression;
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> expression) {
+			criteriaParametersOnly = false;
+			return expression;
+		}
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			literalTypes.add( canonicalType( literal.getNodeType() ) );
+			return literal;
+		}
+	}
+
+	private final SqmSelectStatement<?> statement;
+	private final String structure;
+	private final List<JpaCriteriaParameter<?>> parameters;
+	private final List<SqmExpressible<?>> valueTypes;
+
+	private SqmCriteriaStructure(
+			SqmSelectStatement<?> statement,
+			String structure,
+			List<JpaCriteriaParameter<?>> parameters,
+			List<SqmExpressible<?>> valueTypes) {
+		this.statement = statement;
+		this.structure = structure;
+		this.parameters = parameters;
+		this.valueTypes = valueTypes;
+	}
+
+	/**
+	 * The canonical rendering of the statement, used in place of the query string
+	 */
+	public String getStructure() {
+		return structure;
+	}
+
+	/**
+	 * The distinct parameters of the statement, in the order of their first occurrence
+	 */
+	public List<JpaCriteriaParameter<?>> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * The types of the literals of the statement, followed by the types of the
+	 * {@linkplain #getParameters() parameters} at the time the structure was
+	 * determined
+	 */
+	public List<SqmExpressible<?>> getValueTypes() {
+		return valueTypes;
+	}
+
+	/**
+	 * Copy the statement for a plan shared by the criteria queries of this
+	 * structure. The parameters of the copy are new ones, which are not bound
+	 * to any value.
+	 *
+	 * @param copiedParameters receives the parameters of the copy, in the order
+	 * of their originals in {@link #getParameters()}
+	 */
+	public SqmSelectStatement<?> copyForSharedPlan(List<JpaCriteriaParameter<?>> copiedParameters) {
+		final StructureCopyContext copyContext = new StructureCopyContext();
+		for ( JpaCriteriaParameter<?> parameter : parameters ) {
+			final JpaCriteriaParameter<?> copy = detachedCopy( parameter );
+			copyContext.replace( parameter, copy );
+			copiedParameters.add( copy );
+		}
+		return statement.copy( copyContext );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> JpaCriteriaParameter<T> detachedCopy(JpaCriteriaParameter<T> parameter) {
+		// the type may be an expression of the statement, which must not be kept
+		final BindableType<T> type = (BindableType<T>) canonicalType( parameter.getNodeType() );
+		if ( parameter instanceof ValueBindJpaCriteriaParameter<?> ) {
+			return new ValuePlaceholder<>( type, parameter.nodeBuilder() );
+		}
+		return new JpaCriteriaParameter<>(
+				parameter.getName(),
+				type,
+				parameter.allowsMultiValuedBinding(),
+				parameter.nodeBuilder()
+		);
+	}
+
+	@Override
+	public String toString() {
+		return structure;
+	}
+}
@@ -6,14 +6,29 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.SqmExpressible;
 
 import static java.lang.Boolean.TRUE;
 
@@ -42,48 +57,161 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				keySource.getResultType(),
 				keySource.getQueryOptions().getLockOptions(),
 				keySource.getQueryOptions().getTupleTransformer(),
-				keySource.getQueryOptions().getResultListTransformer()
+				keySource.getQueryOptions().getResultListTransformer(),
+				Collections.emptyList(),
+				influencersFingerprint( keySource )
 		);
 	}
-	@SuppressWarnings("RedundantIfStatement")
+
+	/**
+	 * Create the key for a Criteria-based query, using the structure of the
+	 * statement in place of the query string.
+	 *
+	 * @return the key, or {@code null} if the plan should not be cached
+	 */
+	public static SqmInterpretationsKey createInterpretationsKey(
+			InterpretationsKeySource keySource,
+			SqmCriteriaStructure structure) {
+		if ( structure == null ) {
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				structure.getStructure(),
+				keySource.getResultType(),
+				keySource.getQueryOptions().getLockOptions(),
+				keySource.getQueryOptions().getTupleTransformer(),
+				keySource.getQueryOptions().getResultListTransformer(),
+				structure.getValueTypes(),
+				influencersFingerprint( keySource )
+		);
+	}
+
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
-		assert keySource.getQueryOptions().getAppliedGraph() != null;
+		// Criteria-based plans are keyed by the structure of the statement,
+		// since their parameters are not part of the query string.
+		// Enabled filters and the applied graph are part of the key, see
+		// #influencersFingerprint, and multi-valued parameters are expanded
+		// per execution, see ConcreteSqmSelectQueryPlan
+		return !QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() );
+	}
 
-		if ( QuerySqmImpl.CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
-			// for now at least, skip caching Criteria-based plans
-			//		- especially wrt parameters atm; this works with HQL because the parameters
-			//			are part of the query string; with Criteria, they are not.
-			return false;
+	/**
+	 * A canonical rendering of the enabled filters and the applied graph, which
+	 * both influence the generated SQL.
+	 * <p>
+	 * Only the names of the filters and their parameters are included, since the
+	 * filter parameter values are bound as JDBC parameters at execution time.
+	 * The exception is the number of values of a multi-valued filter parameter,
+	 * which determines the number of parameter markers.
+	 *
+	 * @return the fingerprint, or {@code null} if neither influences the query
+	 */
+	private static String influencersFingerprint(InterpretationsKeySource keySource) {
+		final LoadQueryInfluencers loadQueryInfluencers = keySource.getLoadQueryInfluencers();
+		final AppliedGraph appliedGraph = keySource.getQueryOptions().getAppliedGraph();
+		final boolean hasEnabledFilters = loadQueryInfluencers != null && loadQueryInfluencers.hasEnabledFilters();
+		final boolean hasAppliedGraph = appliedGraph.getSemantic() != null && appliedGraph.getGraph() != null;
+		if ( !hasEnabledFilters && !hasAppliedGraph ) {
+			return null;
 		}
 
-		if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
-			// At the moment we cannot cache query plan if there is filter enabled.
-			return false;
+		final StringBuilder fingerprint = new StringBuilder();
+		if ( hasEnabledFilters ) {
+			fingerprint.append( "filters" );
+			final Map<String, Filter> enabledFilters = new TreeMap<>( loadQueryInfluencers.getEnabledFilters() );
+			for ( Filter filter : enabledFilters.values() ) {
+				fingerprint.append( ' ' ).append( filter.getName() ).append( '(' );
+				final FilterImpl filterImpl = (FilterImpl) filter;
+				final Map<String, ?> parameters = new TreeMap<>( filterImpl.getParameters() );
+				for ( Map.Entry<String, ?> parameter : parameters.entrySet() ) {
+					fingerprint.append( parameter.getKey() );
+					final Object value = parameter.getValue();
+					final JdbcMapping jdbcMapping = filterImpl.getFilterDefinition()
+							.getParameterJdbcMapping( parameter.getKey() );
+					if ( value instanceof Iterable
+							&& ( jdbcMapping == null || !jdbcMapping.getJavaTypeDescriptor().isInstance( value ) ) ) {
+						fingerprint.append( '[' ).append( size( (Iterable<?>) value ) ).append( ']' );
+					}
+					fingerprint.append( ',' );
+				}
+				fingerprint.append( ')' );
+			}
 		}
+		if ( hasAppliedGraph ) {
+			fingerprint.append( ' ' ).append( appliedGraph.getSemantic().name() ).append( ' ' );
+			appendGraph( appliedGraph.getGraph(), fingerprint );
+		}
+		return fingerprint.toString();
+	}
 
-		if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
-			// At the moment we cannot cache query plan if there is an
-			// EntityGraph enabled.
-			return false;
+	private static int size(Iterable<?> values) {
+		if ( values instanceof Collection ) {
+			return ( (Collection<?>) values ).size();
+		}
+		int size = 0;
+		for ( Object ignored : values ) {
+			size++;
 		}
+		return size;
+	}
 
-		if ( keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
-			// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-			//		- the expansion is done per-execution based on the "static" SQM
-			//  - Note from Christian: The call to domainParameterXref.clearExpansions() in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-			//  - This could be solved by using a method-local clone of domainParameterXref when multi-valued params exist
-			return false;
+	/**
+	 * Render the graph with attribute nodes and subgraphs in a deterministic
+	 * order, since graphs do not implement {@code equals()}
+	 */
+	private static void appendGraph(GraphImplementor<?> graph, StringBuilder fingerprint) {
+		final List<AttributeNodeImplementor<?>> attributeNodes = new ArrayList<>( graph.getAttributeNodeImplementors() );
+		attributeNodes.sort( Comparator.comparing( AttributeNodeImplementor::getAttributeName ) );
+		fingerprint.append( '{' );
+		for ( AttributeNodeImplementor<?> attributeNode : attributeNodes ) {
+			fingerprint.append( attributeNode.getAttributeName() );
+			appendSubGraphs( attributeNode.getSubGraphMap(), "", fingerprint );
+			appendSubGraphs( attributeNode.getKeySubGraphMap(), "key ", fingerprint );
+			fingerprint.append( ',' );
 		}
+		fingerprint.append( '}' );
+	}
 
-		return true;
+	private static void appendSubGraphs(
+			Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphs,
+			String prefix,
+			StringBuilder fingerprint) {
+		if ( subGraphs.isEmpty() ) {
+			return;
+		}
+		final Map<String, SubGraphImplementor<?>> sorted = new TreeMap<>();
+		subGraphs.forEach( (type, subGraph) -> sorted.put( type.getName(), subGraph ) );
+		sorted.forEach( (typeName, subGraph) -> {
+			fingerprint.append( ' ' ).append( prefix ).append( typeName );
+			appendGraph( subGraph, fingerprint );
+		} );
 	}
 
-	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+	/**
+	 * Create the key for the plan of a non-select statement.
+	 * <p>
+	 * Multi-valued parameters are expanded into the
+	 * {@link DomainParameterXref} shared by the plan, so statements with
+	 * multi-valued parameters are not cached.
+	 *
+	 * @return the key, or {@code null} if the plan should not be cached
+	 */
+	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keySource) {
+		if ( !isCacheable( keySource ) || keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
+			return null;
+		}
+
+		return new SqmInterpretationsKey(
+				keySource.getQueryString(),
+				null,
+				// lock options do not apply to mutations
+				LockOptions.NONE,
+				null,
+				null,
+				Collections.emptyList(),
+				influencersFingerprint( keySource )
+		);
 	}
 
 
@@ -92,18 +220,24 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 	private final LockOptions lockOptions;
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer resultListTransformer;
+	private final List<SqmExpressible<?>> valueTypes;
+	private final String influencers;
 
 	private SqmInterpretationsKey(
 			String query,
 			Class<?> resultType,
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
-			ResultListTransformer resultListTransformer) {
+			ResultListTransformer resultListTransformer,
+			List<SqmExpressible<?>> valueTypes,
+			String influencers) {
 		this.query = query;
 		this.resultType = resultType;
 		this.lockOptions = lockOptions;
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
+		this.valueTypes = valueTypes;
+		this.influencers = influencers;
 	}
 
 	@Override
@@ -114,7 +248,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				// Since lock options are mutable, we need a copy for the cache key
 				lockOptions.makeCopy(),
 				tupleTransformer,
-				resultListTransformer
+				resultListTransformer,
+				valueTypes,
+				influencers
 		);
 	}
 
@@ -137,7 +273,9 @@ public class SqmInterpretationsKey implements QueryInterpretationCache.Key {
 				&& areEqual( resultType, that.resultType )
 				&& areEqual( lockOptions, that.lockOptions )
 				&& areEqual( tupleTransformer, that.tupleTransformer )
-				&& areEqual( resultListTransformer, that.resultListTransformer );
+				&& areEqual( resultListTransformer, that.resultListTransformer )
+				&& valueTypes.equals( that.valueTypes )
+				&& areEqual( influencers, that.influencers );
 	}
 
 	private <T> boolean areEqual(T o1, T o2) {
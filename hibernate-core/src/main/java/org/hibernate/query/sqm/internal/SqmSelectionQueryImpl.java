@@ -89,6 +89,9 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	private final Class<R> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private SqmCriteriaStructure criteriaStructure;
+	private boolean criteriaStructureDetermined;
+
 	public SqmSelectionQueryImpl(
 			String hql,
 			HqlInterpretation hqlInterpretation,
@@ -336,6 +339,18 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
+		if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+			final SelectQueryPlan<R> sharedPlan = SharedCriteriaSelectQueryPlan.resolve(
+					this::getCriteriaStructure,
+					this,
+					getSession(),
+					this::buildQueryPlan
+			);
+			if ( sharedPlan != null ) {
+				return sharedPlan;
+			}
+		}
+
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
 			return getSession().getFactory().getQueryEngine().getInterpretationCache().resolveSelectQueryPlan(
@@ -348,21 +363,46 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		}
 	}
 
+	/**
+	 * The structure of a criteria query, determined once since the statement
+	 * of the query does not change
+	 */
+	private SqmCriteriaStructure getCriteriaStructure() {
+		if ( !criteriaStructureDetermined ) {
+			criteriaStructure = SqmCriteriaStructure.from( (SqmSelectStatement<?>) getSqmStatement() );
+			criteriaStructureDetermined = true;
+		}
+		return criteriaStructure;
+	}
+
 	private SelectQueryPlan<R> buildQueryPlan() {
+		return buildQueryPlan( (SqmSelectStatement<?>) getSqmStatement(), getDomainParameterXref() );
+	}
+
+	private SelectQueryPlan<R> buildQueryPlan(
+			SqmSelectStatement<?> sqmStatement,
+			DomainParameterXref domainParameterXref) {
 		final SqmSelectStatement<?>[] concreteSqmStatements = QuerySplitter.split(
-				(SqmSelectStatement<?>) getSqmStatement(),
+				sqmStatement,
 				getSession().getFactory()
 		);
 
 		if ( concreteSqmStatements.length > 1 ) {
-			return buildAggregatedQueryPlan( concreteSqmStatements );
+			return buildAggregatedQueryPlan( concreteSqmStatements, domainParameterXref );
 		}
 		else {
-			return buildConcreteQueryPlan( concreteSqmStatements[0], getResultType(), getQueryOptions() );
+			return buildConcreteQueryPlan(
+					concreteSqmStatements[0],
+					domainParameterXref,
+					getResultType(),
+					getQueryOptions()
+			);
 		}
 	}
 
-	private SelectQueryPlan<R> buildAggregatedQueryPlan(SqmSelectStatement<?>[] concreteSqmStatements) {
+	private SelectQueryPlan<R> buildAggregatedQueryPlan(
+			SqmSelectStatement<?>[] concreteSqmStatements,
+			DomainParameterXref domainParameterXref) {
 		//noinspection unchecked
 		final SelectQueryPlan<R>[] aggregatedQueryPlans = new SelectQueryPlan[ concreteSqmStatements.length ];
 
@@ -371,6 +411,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		for ( int i = 0, x = concreteSqmStatements.length; i < x; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteQueryPlan(
 					concreteSqmStatements[i],
+					domainParameterXref,
 					getResultType(),
 					getQueryOptions()
 			);
@@ -381,12 +422,13 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 
 	private <T> SelectQueryPlan<T> buildConcreteQueryPlan(
 			SqmSelectStatement<?> concreteSqmStatement,
+			DomainParameterXref domainParameterXref,
 			Class<T> resultType,
 			QueryOptions queryOptions) {
 		return new ConcreteSqmSelectQueryPlan<>(
 				concreteSqmStatement,
 				getQueryString(),
-				getDomainParameterXref(),
+				domainParameterXref,
 				resultType,
 				tupleMetadata,
 				queryOptions
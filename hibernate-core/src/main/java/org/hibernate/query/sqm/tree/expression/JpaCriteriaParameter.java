@@ -61,8 +61,10 @@ public class JpaCriteriaParameter<T>
 
 	@Override
 	public JpaCriteriaParameter<T> copy(SqmCopyContext context) {
-		// Don't create a copy of regular parameters because identity is important here
-		return this;
+		// Don't create a copy of regular parameters because identity is important here,
+		// unless the context was explicitly given a replacement for the parameter
+		final JpaCriteriaParameter<T> replacement = context.getCopy( this );
+		return replacement == null ? this : replacement;
 	}
 
 	@Override
@@ -129,11 +129,24 @@ public class SqmBinaryArithmetic<T> extends AbstractSqmExpression<T> implements
 
 	@Override
 	public void appendHqlString(StringBuilder sb) {
-		lhsOperand.appendHqlString( sb );
+		appendOperandHqlString( lhsOperand, sb );
 		sb.append( ' ' );
 		sb.append( operator.getOperatorSqlText() );
 		sb.append( ' ' );
-		rhsOperand.appendHqlString( sb );
+		appendOperandHqlString( rhsOperand, sb );
+	}
+
+	private static void appendOperandHqlString(SqmExpression<?> operand, StringBuilder sb) {
+		// Parenthesize nested operations, since the tree does not record
+		// whether they were grouped, e.g. `(a + b) * c` vs `a + b * c`
+		if ( operand instanceof SqmBinaryArithmetic<?> || operand instanceof SqmUnaryOperation<?> ) {
+			sb.append( '(' );
+			operand.appendHqlString( sb );
+			sb.append( ')' );
+		}
+		else {
+			operand.appendHqlString( sb );
+		}
 	}
 
 }
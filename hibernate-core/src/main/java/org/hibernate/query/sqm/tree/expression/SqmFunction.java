@@ -125,7 +125,7 @@ public abstract class SqmFunction<T> extends AbstractSqmExpression<T>
 						sb.append( ' ' );
 						arguments.get( 1 ).appendHqlString( sb );
 						sb.append( " from " );
-						arguments.get( 3 ).appendHqlString( sb );
+						arguments.get( 2 ).appendHqlString( sb );
 						break;
 				}
 				sb.append( ')' );
@@ -159,6 +159,7 @@ public abstract class SqmFunction<T> extends AbstractSqmExpression<T>
 					return;
 				}
 				sb.append( '(' );
+				arguments.get( 0 ).appendHqlString( sb );
 				for ( int i = 1; i < arguments.size(); i++ ) {
 					sb.append( ", " );
 					arguments.get( i ).appendHqlString( sb );
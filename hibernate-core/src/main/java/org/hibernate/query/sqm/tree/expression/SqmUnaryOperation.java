@@ -72,6 +72,13 @@ public class SqmUnaryOperation<T> extends AbstractSqmExpression<T> implements Sq
 	@Override
 	public void appendHqlString(StringBuilder sb) {
 		sb.append( operation == UnaryArithmeticOperator.UNARY_MINUS ? '-' : '+' );
-		operand.appendHqlString( sb );
+		if ( operand instanceof SqmBinaryArithmetic<?> || operand instanceof SqmUnaryOperation<?> ) {
+			sb.append( '(' );
+			operand.appendHqlString( sb );
+			sb.append( ')' );
+		}
+		else {
+			operand.appendHqlString( sb );
+		}
 	}
 }
@@ -79,6 +79,9 @@ public class SqmBooleanExpressionPredicate extends AbstractNegatableSqmPredicate
 
 	@Override
 	public void appendHqlString(StringBuilder sb) {
+		if ( isNegated() ) {
+			sb.append( "not " );
+		}
 		booleanExpression.appendHqlString( sb );
 	}
 
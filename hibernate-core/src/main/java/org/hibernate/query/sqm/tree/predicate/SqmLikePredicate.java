@@ -126,7 +126,12 @@ public class SqmLikePredicate extends AbstractNegatableSqmPredicate {
 		if ( isNegated() ) {
 			sb.append( " not" );
 		}
-		sb.append( " like " );
+		if ( isCaseSensitive ) {
+			sb.append( " like " );
+		}
+		else {
+			sb.append( " ilike " );
+		}
 		pattern.appendHqlString( sb );
 		if ( escapeCharacter != null ) {
 			sb.append( " escape " );
@@ -181,15 +181,14 @@ public abstract class SqmQueryPart<T> implements SqmVisitableNode, JpaQueryPart<
 	public abstract void validateQueryStructureAndFetchOwners();
 
 	public void appendHqlString(StringBuilder sb) {
-		if ( orderByClause == null || orderByClause.getSortSpecifications().isEmpty() ) {
-			return;
-		}
-		sb.append( " order by " );
-		final List<SqmSortSpecification> sortSpecifications = orderByClause.getSortSpecifications();
-		sortSpecifications.get( 0 ).appendHqlString( sb );
-		for ( int i = 1; i < sortSpecifications.size(); i++ ) {
-			sb.append( ", " );
-			sortSpecifications.get( i ).appendHqlString( sb );
+		if ( orderByClause != null && !orderByClause.getSortSpecifications().isEmpty() ) {
+			sb.append( " order by " );
+			final List<SqmSortSpecification> sortSpecifications = orderByClause.getSortSpecifications();
+			sortSpecifications.get( 0 ).appendHqlString( sb );
+			for ( int i = 1; i < sortSpecifications.size(); i++ ) {
+				sb.append( ", " );
+				sortSpecifications.get( i ).appendHqlString( sb );
+			}
 		}
 
 		if ( offsetExpression != null ) {
@@ -595,6 +595,9 @@ public class SqmQuerySpec<T> extends SqmQueryPart<T>
 			}
 			if ( sqmJoin instanceof SqmAttributeJoin<?, ?> ) {
 				final SqmAttributeJoin<?, ?> attributeJoin = (SqmAttributeJoin<?, ?>) sqmJoin;
+				if ( attributeJoin.isFetched() ) {
+					sb.append( "fetch " );
+				}
 				sb.append( sqmFrom.resolveAlias() ).append( '.' );
 				sb.append( (attributeJoin).getAttribute().getName() );
 				sb.append( ' ' ).append( sqmJoin.resolveAlias() );
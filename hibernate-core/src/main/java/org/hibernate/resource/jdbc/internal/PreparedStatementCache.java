@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A bounded, least-recently-used cache of the prepared statements of one JDBC
+ * connection, so that executing the same SQL again while the connection is held
+ * does not prepare it again.  Statements are keyed by their SQL and result set
+ * type.
+ * <p>
+ * A statement is removed from the cache while it is in use, and offered back
+ * when {@linkplain ResourceRegistryStandardImpl#release(Statement) released},
+ * after resetting its parameters, max rows, query timeout and fetch size.
+ * All cached statements are closed when the registry
+ * {@linkplain ResourceRegistryStandardImpl#releaseResources() releases its resources},
+ * which {@link LogicalConnectionManagedImpl} does before releasing the
+ * physical connection.
+ * <p>
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+public final class PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final StatisticsImplementor statistics;
+
+	private final LinkedHashMap<Key, CachedStatement> idleStatements;
+	private final IdentityHashMap<Statement, CachedStatement> statementsInUse = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize, StatisticsImplementor statistics) {
+		this.maxSize = maxSize;
+		this.statistics = statistics != null && statistics.isStatisticsEnabled() ? statistics : null;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * Take the cached statement for the given SQL and result set type, if any.
+	 * The statement is not handed out again until released.
+	 *
+	 * @return The cached statement, or {@code null}
+	 */
+	public PreparedStatement take(String sql, int resultSetType) {
+		final CachedStatement cached = idleStatements.remove( new Key( sql, resultSetType ) );
+		if ( cached == null ) {
+			if ( statistics != null ) {
+				statistics.preparedStatementCacheMiss();
+			}
+			return null;
+		}
+		statementsInUse.put( cached.statement, cached );
+		if ( statistics != null ) {
+			statistics.preparedStatementCacheHit();
+		}
+		return cached.statement;
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it is cached once released.
+	 */
+	public void track(PreparedStatement statement, String sql, int resultSetType) throws SQLException {
+		statementsInUse.put(
+				statement,
+				new CachedStatement( new Key( sql, resultSetType ), statement, statement.getFetchSize() )
+		);
+	}
+
+	/**
+	 * Offer a released statement back to the cache.
+	 *
+	 * @return {@code true} if the statement was cached, {@code false} if it
+	 * should be closed by the caller
+	 */
+	public boolean release(Statement statement) {
+		final CachedStatement cached = statementsInUse.remove( statement );
+		if ( cached == null ) {
+			return false;
+		}
+		try {
+			cached.reset();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		final CachedStatement displaced = idleStatements.put( cached.key, cached );
+		if ( displaced != null ) {
+			// the same SQL was executed by two statements at once
+			ResourceRegistryStandardImpl.close( displaced.statement );
+		}
+		if ( idleStatements.size() > maxSize ) {
+			final Iterator<CachedStatement> eldest = idleStatements.values().iterator();
+			ResourceRegistryStandardImpl.close( eldest.next().statement );
+			eldest.remove();
+		}
+		return true;
+	}
+
+	/**
+	 * Close all cached statements, and forget the statements in use, which
+	 * are closed by the registry.
+	 */
+	public void clear() {
+		if ( !idleStatements.isEmpty() ) {
+			log.tracef( "Closing %s cached prepared statements", idleStatements.size() );
+			idleStatements.forEach( (key, cached) -> ResourceRegistryStandardImpl.close( cached.statement ) );
+			idleStatements.clear();
+		}
+		statementsInUse.clear();
+	}
+
+	private static final class CachedStatement {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int defaultFetchSize;
+
+		private CachedStatement(Key key, PreparedStatement statement, int defaultFetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.defaultFetchSize = defaultFetchSize;
+		}
+
+		private void reset() throws SQLException {
+			statement.clearParameters();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != defaultFetchSize ) {
+				statement.setFetchSize( defaultFetchSize );
+			}
+		}
+	}
+
+	private static final class Key {
+		private final String sql;
+		private final int resultSetType;
+
+		private Key(String sql, int resultSetType) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return resultSetType == key.resultSetType && sql.equals( key.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * sql.hashCode() + resultSetType;
+		}
+	}
+}
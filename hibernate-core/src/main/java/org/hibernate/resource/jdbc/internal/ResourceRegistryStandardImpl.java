@@ -34,6 +34,10 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
  *
+ * Almost every JDBC operation registers a single statement, with at most
+ * a single result set, so that first statement and its result set are kept
+ * in fields, and the maps are only allocated when more need to be tracked.
+ *
  * @author Steve Ebersole
  * @author Sanne Grinovero
  */
@@ -50,8 +54,12 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
+
+	private Statement singleStatement;
+	private ResultSet singleResultSet;
 
-	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
+	private HashMap<Statement, HashMap<ResultSet,Object>> xref;
 	private HashMap<ResultSet,Object> unassociatedResultSets;
 
 	private ArrayList<Blob> blobs;
@@ -65,27 +73,48 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param statementCache The cache to which released prepared statements are
+	 * offered instead of being closed, if any
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, PreparedStatementCache statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
 	}
 
 	@Override
 	public boolean hasRegisteredResources() {
-		return hasRegistered( xref )
+		return singleStatement != null
+				|| hasRegistered( xref )
 				|| hasRegistered( unassociatedResultSets )
 				|| hasRegistered( blobs )
 				|| hasRegistered( clobs )
 				|| hasRegistered( nclobs );
 	}
 
+	private HashMap<Statement, HashMap<ResultSet,Object>> xref() {
+		if ( xref == null ) {
+			xref = new HashMap<>();
+		}
+		return xref;
+	}
+
 	@Override
-	@SuppressWarnings("unchecked")
 	public void register(Statement statement, boolean cancelable) {
 		log.tracef( "Registering statement [%s]", statement );
 
-		HashMap<ResultSet,Object> previousValue = xref.putIfAbsent( statement, EMPTY );
-		if ( previousValue != null ) {
+		if ( statement == singleStatement || xref != null && xref.containsKey( statement ) ) {
 			throw new HibernateException( "JDBC Statement already registered" );
 		}
+		if ( singleStatement == null ) {
+			singleStatement = statement;
+		}
+		else {
+			xref().put( statement, EMPTY );
+		}
 
 		if ( cancelable ) {
 			lastQuery = statement;
@@ -96,17 +125,28 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
 
-		final HashMap<ResultSet,Object> resultSets = xref.remove( statement );
-		if ( resultSets != null ) {
-			closeAll( resultSets );
+		if ( statement == singleStatement ) {
+			if ( singleResultSet != null ) {
+				close( singleResultSet );
+				singleResultSet = null;
+			}
+			singleStatement = null;
 		}
 		else {
-			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
-			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
-			log.unregisteredStatement();
+			final HashMap<ResultSet,Object> resultSets = xref == null ? null : xref.remove( statement );
+			if ( resultSets != null ) {
+				closeAll( resultSets );
+			}
+			else {
+				// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
+				// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
+				log.unregisteredStatement();
+			}
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -125,22 +165,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 				throw convert( e, "unable to access Statement from ResultSet" );
 			}
 		}
-		if ( statement != null ) {
-			final HashMap<ResultSet,Object> resultSets = xref.get( statement );
+		if ( statement == singleStatement && statement != null ) {
+			if ( singleResultSet == resultSet ) {
+				singleResultSet = null;
+			}
+			if ( singleResultSet == null && isClosed( statement ) ) {
+				singleStatement = null;
+			}
+		}
+		else if ( statement != null ) {
+			final HashMap<ResultSet,Object> resultSets = xref == null ? null : xref.get( statement );
 			if ( resultSets == null ) {
 				log.unregisteredStatement();
 			}
 			else {
 				resultSets.remove( resultSet );
-				if ( resultSets.isEmpty() ) {
-					try {
-						if ( statement.isClosed() ) {
-							xref.remove( statement );
-						}
-					}
-					catch (SQLException e) {
-						log.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
-					}
+				if ( resultSets.isEmpty() && isClosed( statement ) ) {
+					xref.remove( statement );
 				}
 			}
 		}
@@ -153,6 +194,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		close( resultSet );
 	}
 
+	private static boolean isClosed(Statement statement) {
+		try {
+			return statement.isClosed();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
 	private static void closeAll(final HashMap<ResultSet,Object> resultSets) {
 		if ( resultSets == null ) {
 			return;
@@ -228,18 +279,37 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 				throw convert( e, "unable to access Statement from ResultSet" );
 			}
 		}
-		if ( statement != null ) {
-			HashMap<ResultSet,Object> resultSets = xref.get( statement );
+		if ( statement == singleStatement && statement != null ) {
+			if ( singleResultSet == null || singleResultSet == resultSet ) {
+				singleResultSet = resultSet;
+			}
+			else {
+				// a second result set for the statement, so track them in a map
+				final HashMap<ResultSet,Object> resultSets = new HashMap<>();
+				resultSets.put( singleResultSet, PRESENT );
+				resultSets.put( resultSet, PRESENT );
+				xref().put( statement, resultSets );
+				singleStatement = null;
+				singleResultSet = null;
+			}
+		}
+		else if ( statement != null ) {
+			HashMap<ResultSet,Object> resultSets = xref == null ? null : xref.get( statement );
 
 			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
 			if ( resultSets == null ) {
 				log.debug( "ResultSet statement was not registered (on register)" );
+				if ( singleStatement == null ) {
+					singleStatement = statement;
+					singleResultSet = resultSet;
+					return;
+				}
 			}
 
 			if ( resultSets == null || resultSets == EMPTY ) {
 				resultSets = new HashMap<>();
-				xref.put( statement, resultSets );
+				xref().put( statement, resultSets );
 			}
 			resultSets.put( resultSet, PRESENT );
 		}
@@ -332,8 +402,23 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
-		xref.clear();
+		if ( singleStatement != null ) {
+			if ( singleResultSet != null ) {
+				close( singleResultSet );
+				singleResultSet = null;
+			}
+			close( singleStatement );
+			singleStatement = null;
+		}
+
+		if ( xref != null ) {
+			xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+			xref.clear();
+		}
+
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
 
 		closeAll( unassociatedResultSets );
 
@@ -23,6 +23,14 @@ public interface JdbcSessionContext {
 
 	boolean doesConnectionProviderDisableAutoCommit();
 
+	/**
+	 * Is the session {@linkplain org.hibernate.SessionBuilder#readOnly(boolean) read-only},
+	 * that is, may it not write to the database?
+	 */
+	default boolean isReadOnly() {
+		return false;
+	}
+
 	StatementInspector getStatementInspector();
 
 	JdbcObserver getObserver();
@@ -193,12 +193,14 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	private final SessionFactoryImplementor sessionFactory;
 
 	// In-flight state
-	private final StringBuilder sqlBuffer = new StringBuilder();
+	private final SqlBufferSizeHint sqlBufferSizeHint;
+	private final StringBuilder sqlBuffer;
 
 	private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
 	private final JdbcParametersImpl jdbcParameters = new JdbcParametersImpl();
 
-	private final Set<FilterJdbcParameter> filterJdbcParameters = new HashSet<>();
+	// most statements have no filter parameters, so the set is created on demand
+	private Set<FilterJdbcParameter> filterJdbcParameters;
 
 	private final Stack<Clause> clauseStack = new StandardStack<>();
 	private final Stack<QueryPart> queryPartStack = new StandardStack<>();
@@ -242,6 +244,8 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		this.sessionFactory = sessionFactory;
 		this.statement = statement;
 		this.dialect = sessionFactory.getJdbcServices().getDialect();
+		this.sqlBufferSizeHint = sessionFactory.getJdbcServices().getSqlBufferSizeHint();
+		this.sqlBuffer = new StringBuilder( sqlBufferSizeHint.getSizeHint() );
 	}
 
 	public SessionFactoryImplementor getSessionFactory() {
@@ -341,7 +345,9 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// for tests, for now
 	public String getSql() {
-		return sqlBuffer.toString();
+		final String sql = sqlBuffer.toString();
+		sqlBufferSizeHint.recordSqlLength( sql.length() );
+		return sql;
 	}
 
 	protected void cleanup() {
@@ -362,7 +368,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	public Set<FilterJdbcParameter> getFilterJdbcParameters() {
-		return filterJdbcParameters;
+		return filterJdbcParameters == null ? Collections.emptySet() : filterJdbcParameters;
 	}
 
 	@SuppressWarnings("unused")
@@ -4823,6 +4829,9 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			for ( FilterJdbcParameter filterJdbcParameter : parameters ) {
 				parameterBinders.add( filterJdbcParameter.getBinder() );
 				jdbcParameters.addParameter( filterJdbcParameter.getParameter() );
+				if ( filterJdbcParameters == null ) {
+					filterJdbcParameters = new HashSet<>();
+				}
 				filterJdbcParameters.add( filterJdbcParameter );
 			}
 		}
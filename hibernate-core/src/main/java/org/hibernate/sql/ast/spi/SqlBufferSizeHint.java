@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.ast.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * The initial capacity of the SQL buffer of an {@link AbstractSqlAstTranslator},
+ * following the length of the SQL rendered by recent translations so that the
+ * buffer does not have to grow repeatedly while rendering.
+ * <p>
+ * It grows to the length of a longer SQL right away, up to {@link #MAX_SIZE_HINT},
+ * and shrinks slowly towards the length of shorter ones. It is only a hint, so
+ * racy updates are fine.
+ *
+ * @see org.hibernate.engine.jdbc.spi.JdbcServices#getSqlBufferSizeHint()
+ *
+ * @since 6.2
+ */
+@Incubating
+public class SqlBufferSizeHint {
+	public static final int INITIAL_SIZE_HINT = 256;
+	public static final int MAX_SIZE_HINT = 16_384;
+
+	private volatile int sizeHint = INITIAL_SIZE_HINT;
+
+	/**
+	 * The capacity to use for a new SQL buffer
+	 */
+	public int getSizeHint() {
+		return sizeHint;
+	}
+
+	/**
+	 * Adapt the hint to the length of a rendered SQL
+	 */
+	public void recordSqlLength(int length) {
+		final int hint = sizeHint;
+		final int newHint = length > hint
+				? Math.min( length, MAX_SIZE_HINT )
+				: hint - ( ( hint - length ) >> 3 );
+		if ( newHint != hint ) {
+			sizeHint = newHint;
+		}
+	}
+}
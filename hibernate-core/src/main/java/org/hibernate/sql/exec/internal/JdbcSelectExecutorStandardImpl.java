@@ -63,6 +63,7 @@ import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
+import org.hibernate.stat.internal.SlowQueryImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -419,15 +420,16 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext::registerLoadingEntityEntry
 		);
 
+		// If follow on locking is used, we must omit the lock options here,
+		// because these lock options are only for Initializers.
+		// If we wouldn't omit this, the follow on lock requests would be no-ops,
+		// because the EntityEntrys would already have the desired lock mode
+		final LockOptions lockOptions = deferredResultSetAccess.usesFollowOnLocking()
+				? LockOptions.NONE
+				: executionContext.getQueryOptions().getLockOptions();
 		final RowReader<R> rowReader = ResultsHelper.createRowReader(
 				executionContext,
-				// If follow on locking is used, we must omit the lock options here,
-				// because these lock options are only for Initializers.
-				// If we wouldn't omit this, the follow on lock requests would be no-ops,
-				// because the EntityEntrys would already have the desired lock mode
-				deferredResultSetAccess.usesFollowOnLocking()
-						? LockOptions.NONE
-						: executionContext.getQueryOptions().getLockOptions(),
+				lockOptions,
 				rowTransformer,
 				domainResultType,
 				jdbcValues
@@ -448,20 +450,74 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowProcessingState,
 				rowReader
 		);
+		if ( resultsConsumer instanceof ListResultsConsumer ) {
+			// all rows were processed, the initializers are ready for the next execution
+			ResultsHelper.releaseRowReader( rowReader, executionContext, lockOptions, jdbcValues );
+			if ( jdbcValues instanceof JdbcValuesResultSetImpl ) {
+				deferredResultSetAccess.rowsRead( ( (JdbcValuesResultSetImpl) jdbcValues ).getRowCount() );
+			}
+		}
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSql() ),
-					getResultSize( result ),
-					milliseconds
-			);
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSql() );
+			statistics.queryExecuted( queryIdentifier, getResultSize( result ), milliseconds );
+			if ( statistics.isLatencyHistogramEnabled() ) {
+				statistics.queryExecutionTimed( queryIdentifier, endTime - startTime );
+				if ( deferredResultSetAccess.getExecutionEndTime() != 0 ) {
+					statistics.rowProcessingTimed( endTime - deferredResultSetAccess.getExecutionEndTime() );
+				}
+			}
+			final long slowQueryThreshold = statistics.getSlowQueryThreshold();
+			if ( slowQueryThreshold >= 0 ) {
+				recordSlowQuery(
+						queryIdentifier,
+						deferredResultSetAccess,
+						( (JdbcValuesResultSetImpl) jdbcValues ).getRowCount(),
+						startTime,
+						endTime,
+						slowQueryThreshold,
+						executionContext.getSession().getFactory().getSessionFactoryOptions()
+								.isStatisticsSlowQueryLogParametersEnabled(),
+						statistics
+				);
+			}
 		}
 
 		return result;
 	}
 
+	private static void recordSlowQuery(
+			String queryIdentifier,
+			DeferredResultSetAccess deferredResultSetAccess,
+			int rowCount,
+			long startTime,
+			long endTime,
+			long slowQueryThreshold,
+			boolean includeParameterValues,
+			StatisticsImplementor statistics) {
+		final long prepareStartTime = deferredResultSetAccess.getPrepareStartTime();
+		final long executionStartTime = deferredResultSetAccess.getExecutionStartTime();
+		final long executionEndTime = deferredResultSetAccess.getExecutionEndTime();
+		// the statement may have been executed while resolving the result set mapping
+		final long totalTime = endTime - ( prepareStartTime != 0 ? Math.min( startTime, prepareStartTime ) : startTime );
+		if ( totalTime >= slowQueryThreshold ) {
+			statistics.slowQueryExecuted(
+					new SlowQueryImpl(
+							deferredResultSetAccess.getFinalSql(),
+							queryIdentifier,
+							deferredResultSetAccess.getParameterSummary( includeParameterValues ),
+							rowCount,
+							executionStartTime != 0 ? executionStartTime - prepareStartTime : 0,
+							executionEndTime != 0 ? executionEndTime - executionStartTime : 0,
+							executionEndTime != 0 ? endTime - executionEndTime : 0,
+							totalTime
+					)
+			);
+		}
+	}
+
 	private <T> int getResultSize(T result) {
 		if ( result instanceof List ) {
 			return ( (List<?>) result ).size();
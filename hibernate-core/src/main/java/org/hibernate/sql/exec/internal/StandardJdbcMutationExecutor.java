@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import org.hibernate.ReadOnlySessionException;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -39,6 +40,9 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 			BiConsumer<Integer, PreparedStatement> expectationCheck,
 			ExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
+		if ( session.getJdbcSessionContext().isReadOnly() ) {
+			throw new ReadOnlySessionException( "A read-only session cannot execute [" + jdbcMutation.getSql() + "]" );
+		}
 		session.autoFlushIfRequired( jdbcMutation.getAffectedTableNames() );
 
 		final LogicalConnectionImplementor logicalConnection = session
@@ -79,14 +83,14 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
-				session.getEventListenerManager().jdbcExecuteStatementStart();
+				session.getJdbcSessionContext().getObserver().jdbcExecuteStatementStart();
 				try {
 					int rows = preparedStatement.executeUpdate();
 					expectationCheck.accept( rows, preparedStatement );
 					return rows;
 				}
 				finally {
-					session.getEventListenerManager().jdbcExecuteStatementEnd();
+					session.getJdbcSessionContext().getObserver().jdbcExecuteStatementEnd();
 				}
 			}
 			finally {
@@ -7,8 +7,10 @@
 package org.hibernate.sql.exec.spi;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.Filter;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.query.spi.QueryOptions;
@@ -49,4 +51,21 @@ public interface JdbcOperation {
 			}
 		}
 	}
+
+	/**
+	 * Bind the filter parameters using the values of the given enabled filters,
+	 * rather than the values the SQL was generated for.
+	 */
+	default void bindFilterJdbcParameters(
+			JdbcParameterBindings jdbcParameterBindings,
+			Map<String, Filter> enabledFilters) {
+		if ( CollectionHelper.isNotEmpty( getFilterJdbcParameters() ) ) {
+			for ( FilterJdbcParameter filterJdbcParameter : getFilterJdbcParameters() ) {
+				jdbcParameterBindings.addBinding(
+						filterJdbcParameter.getParameter(),
+						filterJdbcParameter.getBinding( enabledFilters )
+				);
+			}
+		}
+	}
 }
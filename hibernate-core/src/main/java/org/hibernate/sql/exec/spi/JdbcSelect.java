@@ -30,6 +30,8 @@ public class JdbcSelect extends AbstractJdbcOperation {
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
 
+	private volatile int estimatedRowCount = -1;
+
 	public JdbcSelect(
 			String sql,
 			List<JdbcParameterBinder> parameterBinders,
@@ -100,6 +102,29 @@ public class JdbcSelect extends AbstractJdbcOperation {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * A moving estimate of the number of rows read by the executions of this
+	 * select, or {@code -1} if none was recorded.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+	 */
+	public int getEstimatedRowCount() {
+		return estimatedRowCount;
+	}
+
+	/**
+	 * Record the number of rows read by an execution of this select, whose
+	 * number of rows was not limited.
+	 */
+	public void rowsRead(int rowCount) {
+		final int estimate = estimatedRowCount;
+		// an update lost to a concurrent execution does not matter to an estimate
+		estimatedRowCount = estimate < 0
+				? rowCount
+				// weigh the new count by a quarter, rounding up
+				: (int) ( ( 3L * estimate + rowCount + 3 ) / 4 );
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
@@ -70,4 +70,13 @@ public interface Initializer {
 	default void endLoading(ExecutionContext context) {
 		// by default - nothing to do
 	}
+
+	/**
+	 * Whether all the state this initializer keeps while processing a row is
+	 * reset by {@link #finishUpRow}, so that it may be used again by a later
+	 * execution of the same query once the previous one completed.
+	 */
+	default boolean isReusable() {
+		return false;
+	}
 }
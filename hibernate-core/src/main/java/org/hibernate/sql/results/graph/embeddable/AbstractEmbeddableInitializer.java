@@ -6,6 +6,7 @@
  */
 package org.hibernate.sql.results.graph.embeddable;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -427,11 +428,18 @@ public abstract class AbstractEmbeddableInitializer extends AbstractFetchParentA
 		throw new NotYetImplementedFor6Exception( getClass() );
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		compositeInstance = null;
 		stateAllNull = null;
 		stateInjected = null;
+		// don't keep the values of the last row reachable from a reused initializer
+		Arrays.fill( rowState, null );
 
 		clearResolutionListeners();
 	}
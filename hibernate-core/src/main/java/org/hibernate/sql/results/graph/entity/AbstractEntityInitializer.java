@@ -957,6 +957,11 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		return concreteDescriptor;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		// reset row state
@@ -238,6 +238,11 @@ public class EntitySelectFetchInitializer extends AbstractFetchParentAccess impl
 		return true;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public void finishUpRow(RowProcessingState rowProcessingState) {
 		entityInstance = null;
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+
+/**
+ * The assemblers and initializers created for the domain results of a
+ * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping}, kept once an
+ * execution completed so that the next execution of the same mapping does not
+ * have to create them again.
+ * <p>
+ * A graph is only ever used by one execution at a time, and only kept if all
+ * its initializers are {@linkplain Initializer#isReusable() reusable}.
+ *
+ * @see ResultsHelper#createRowReader
+ */
+public class InitializerGraph {
+	private final List<DomainResultAssembler<?>> assemblers;
+	private final List<Initializer> initializers;
+	private final LockMode lockMode;
+
+	InitializerGraph(List<DomainResultAssembler<?>> assemblers, List<Initializer> initializers, LockMode lockMode) {
+		this.assemblers = assemblers;
+		this.initializers = initializers;
+		this.lockMode = lockMode;
+	}
+
+	List<DomainResultAssembler<?>> getAssemblers() {
+		return assemblers;
+	}
+
+	List<Initializer> getInitializers() {
+		return initializers;
+	}
+
+	/**
+	 * The lock mode the initializers were created for
+	 */
+	public LockMode getLockMode() {
+		return lockMode;
+	}
+}
@@ -41,7 +41,9 @@ import org.hibernate.sql.results.ResultsLogger;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.internal.StandardJdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -59,6 +61,20 @@ public class ResultsHelper {
 			RowTransformer<R> rowTransformer,
 			Class<R> transformedResultJavaType,
 			JdbcValues jdbcValues) {
+		final JdbcValuesMapping valuesMapping = jdbcValues.getValuesMapping();
+		if ( valuesMapping instanceof StandardJdbcValuesMapping && canReuseInitializers( executionContext, lockOptions ) ) {
+			final InitializerGraph graph = ( (StandardJdbcValuesMapping) valuesMapping )
+					.takeInitializerGraph( lockOptions.getLockMode() );
+			if ( graph != null ) {
+				return new StandardRowReader<>(
+						graph.getAssemblers(),
+						graph.getInitializers(),
+						rowTransformer,
+						transformedResultJavaType
+				);
+			}
+		}
+
 		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
 
 		final Map<NavigablePath, Initializer> initializerMap = new LinkedHashMap<>();
@@ -118,6 +134,46 @@ public class ResultsHelper {
 		return new StandardRowReader<>( assemblers, initializers, rowTransformer, transformedResultJavaType );
 	}
 
+	/**
+	 * Keep the assemblers and initializers of the given {@link RowReader}, for
+	 * the next execution with the same {@link JdbcValuesMapping}.  Must only be
+	 * called once all the rows were processed without error, so that the state
+	 * of the initializers was reset.
+	 */
+	public static void releaseRowReader(
+			RowReader<?> rowReader,
+			ExecutionContext executionContext,
+			LockOptions lockOptions,
+			JdbcValues jdbcValues) {
+		final JdbcValuesMapping valuesMapping = jdbcValues.getValuesMapping();
+		if ( !( rowReader instanceof StandardRowReader )
+				|| !( valuesMapping instanceof StandardJdbcValuesMapping )
+				|| !canReuseInitializers( executionContext, lockOptions ) ) {
+			return;
+		}
+		final List<Initializer> initializers = rowReader.getInitializers();
+		for ( int i = 0; i < initializers.size(); i++ ) {
+			if ( !initializers.get( i ).isReusable() ) {
+				return;
+			}
+		}
+		( (StandardJdbcValuesMapping) valuesMapping ).releaseInitializerGraph(
+				new InitializerGraph(
+						( (StandardRowReader<?>) rowReader ).getResultAssemblers(),
+						initializers,
+						lockOptions.getLockMode()
+				)
+		);
+	}
+
+	/**
+	 * Scrolled results keep their initializers until closed, and lock modes
+	 * per alias would have to be part of the key of the graph
+	 */
+	private static boolean canReuseInitializers(ExecutionContext executionContext, LockOptions lockOptions) {
+		return !executionContext.isScrollResult() && lockOptions != null && !lockOptions.hasAliasSpecificLockModes();
+	}
+
 	private static void logInitializers(Map<NavigablePath, Initializer> initializerMap) {
 		if ( ! ResultsLogger.DEBUG_ENABLED ) {
 			return;
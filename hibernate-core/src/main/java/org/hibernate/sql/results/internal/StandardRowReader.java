@@ -35,6 +35,8 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final Class<T> domainResultJavaType;
 
 	private final int assemblerCount;
+	// whether the transformer would just return the single element of the row
+	private final boolean singleResult;
 
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
@@ -47,6 +49,9 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		this.singleResult = assemblerCount == 1
+				&& ( rowTransformer instanceof RowTransformerSingularReturnImpl
+						|| rowTransformer instanceof RowTransformerStandardImpl );
 
 		logDebugInfo();
 	}
@@ -86,22 +91,38 @@ public class StandardRowReader<T> implements RowReader<T> {
 		return javaTypes;
 	}
 
+	List<DomainResultAssembler<?>> getResultAssemblers() {
+		return resultAssemblers;
+	}
+
 	@Override
 	public List<Initializer> getInitializers() {
 		return initializers;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
-		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
+		if ( LoadingLogger.TRACE_ENABLED ) {
+			LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
+		}
 
 		coordinateInitializers( rowProcessingState );
 
+		if ( singleResult ) {
+			// no need for a row array which the transformer would just unwrap
+			final Object result = resultAssemblers.get( 0 ).assemble( rowProcessingState, options );
+			afterRow( rowProcessingState );
+			return (T) result;
+		}
+
 		final Object[] resultRow = new Object[ assemblerCount ];
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
 			final DomainResultAssembler assembler = resultAssemblers.get( i );
-			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			if ( LoadingLogger.DEBUG_ENABLED ) {
+				LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			}
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
@@ -111,9 +132,13 @@ public class StandardRowReader<T> implements RowReader<T> {
 	}
 
 	private void afterRow(RowProcessingState rowProcessingState) {
-		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
+		if ( LoadingLogger.TRACE_ENABLED ) {
+			LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
+		}
 
-		initializers.forEach( initializer -> initializer.finishUpRow( rowProcessingState ) );
+		for ( int i = 0; i < initializers.size(); i++ ) {
+			initializers.get( i ).finishUpRow( rowProcessingState );
+		}
 	}
 
 	@SuppressWarnings("ForLoopReplaceableByForEach")
@@ -14,23 +14,30 @@ import java.util.function.Function;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.ReadOnlySessionException;
 import org.hibernate.Session;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
-import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.engine.jdbc.internal.ResultSetReturnImpl.isMutationOrCall;
 
 /**
  * @author Steve Ebersole
@@ -40,6 +47,9 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			DeferredResultSetAccess.class
 	);
 
+	private static final int MAX_SUMMARIZED_PARAMETERS = 20;
+	private static final int MAX_SUMMARIZED_PARAMETER_LENGTH = 50;
+
 	private final JdbcSelect jdbcSelect;
 	private final JdbcParameterBindings jdbcParameterBindings;
 	private final ExecutionContext executionContext;
@@ -52,6 +62,9 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
+	private long prepareStartTime;
+	private long executionStartTime;
+	private long executionEndTime;
 
 	public DeferredResultSetAccess(
 			JdbcSelect jdbcSelect,
@@ -161,12 +174,91 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		return usesFollowOnLocking;
 	}
 
+	/**
+	 * The {@link System#nanoTime()} at which the statement started being
+	 * prepared, or {@code 0} if the query was not executed, or neither
+	 * latency histograms nor the slow query log are enabled.
+	 */
+	public long getPrepareStartTime() {
+		return prepareStartTime;
+	}
+
+	/**
+	 * The {@link System#nanoTime()} at which the query started executing,
+	 * once prepared and bound, or {@code 0} if it was not executed, or
+	 * neither latency histograms nor the slow query log are enabled.
+	 */
+	public long getExecutionStartTime() {
+		return executionStartTime;
+	}
+
+	/**
+	 * The {@link System#nanoTime()} at which the query finished executing,
+	 * or {@code 0} if it was not executed, or neither latency histograms
+	 * nor the slow query log are enabled.
+	 *
+	 * @see StatisticsImplementor#isLatencyHistogramEnabled()
+	 * @see StatisticsImplementor#getSlowQueryThreshold()
+	 */
+	public long getExecutionEndTime() {
+		return executionEndTime;
+	}
+
+	/**
+	 * A summary of the parameters of the select, for the slow query log.
+	 * It lists the types of the bound values, or the values themselves,
+	 * abbreviated if they are long, when {@code includeValues} is set.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_LOG_PARAMETERS
+	 */
+	public String getParameterSummary(boolean includeValues) {
+		final StringBuilder summary = new StringBuilder( "[" );
+		int count = 0;
+		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+			if ( count > 0 ) {
+				summary.append( ", " );
+			}
+			if ( count++ == MAX_SUMMARIZED_PARAMETERS ) {
+				summary.append( "..." );
+				break;
+			}
+			if ( parameterBinder instanceof JdbcParameter ) {
+				final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( (JdbcParameter) parameterBinder );
+				if ( binding != null && includeValues ) {
+					final String value = String.valueOf( binding.getBindValue() );
+					if ( value.length() > MAX_SUMMARIZED_PARAMETER_LENGTH ) {
+						summary.append( value, 0, MAX_SUMMARIZED_PARAMETER_LENGTH ).append( "..." );
+					}
+					else {
+						summary.append( value );
+					}
+					continue;
+				}
+				else if ( binding != null && binding.getBindType() != null ) {
+					summary.append( binding.getBindType().getJavaTypeDescriptor().getJavaTypeClass().getSimpleName() );
+					continue;
+				}
+			}
+			summary.append( '?' );
+		}
+		return summary.append( ']' ).toString();
+	}
+
 	private void executeQuery() {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final StatisticsImplementor statistics = getFactory().getStatistics();
+		final boolean timed = statistics.isLatencyHistogramEnabled() || statistics.getSlowQueryThreshold() >= 0;
+
+		if ( executionContext.getSession().getJdbcSessionContext().isReadOnly() && isMutationOrCall( finalSql ) ) {
+			throw new ReadOnlySessionException( "A read-only session cannot execute [" + finalSql + "]" );
+		}
 
 		try {
 			LOG.tracef( "Executing query to retrieve ResultSet : %s", finalSql );
+			if ( timed ) {
+				prepareStartTime = System.nanoTime();
+			}
 			// prepare the query
 			preparedStatement = statementCreator.apply( finalSql );
 
@@ -175,6 +267,12 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				if ( queryOptions.getFetchSize() != null ) {
 					preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 				}
+				else {
+					final int fetchSize = adaptiveFetchSize();
+					if ( fetchSize > 0 ) {
+						preparedStatement.setFetchSize( fetchSize );
+					}
+				}
 				if ( queryOptions.getTimeout() != null ) {
 					preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 				}
@@ -205,21 +303,26 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				}
 			}
 
-			final SessionEventListenerManager eventListenerManager = executionContext.getSession()
-					.getEventListenerManager();
+			final JdbcObserver observer = executionContext.getSession().getJdbcSessionContext().getObserver();
 
 			long executeStartNanos = 0;
 			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 				executeStartNanos = System.nanoTime();
 			}
+			if ( timed ) {
+				executionStartTime = System.nanoTime();
+			}
 			try {
-				eventListenerManager.jdbcExecuteStatementStart();
+				observer.jdbcExecuteStatementStart();
 				resultSet = wrapResultSet( preparedStatement.executeQuery() );
 			}
 			finally {
-				eventListenerManager.jdbcExecuteStatementEnd();
+				observer.jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos );
 			}
+			if ( timed ) {
+				executionEndTime = System.nanoTime();
+			}
 
 			// For dialects that don't support an offset clause
 			final int rowsToSkip;
@@ -260,6 +363,46 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	/**
+	 * The fetch size derived from the maximum number of rows of the query, or
+	 * from the number of rows read by the previous executions of the select,
+	 * or {@code 0} if the fetch size is not adapted.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_FETCH_SIZE
+	 */
+	private int adaptiveFetchSize() {
+		final SessionFactoryOptions options = getFactory().getSessionFactoryOptions();
+		if ( !options.isAdaptiveJdbcFetchSizeEnabled() ) {
+			return 0;
+		}
+		final int maxFetchSize = options.getMaxAdaptiveJdbcFetchSize();
+		final int maxRows = getMaxRows();
+		if ( maxRows != Integer.MAX_VALUE ) {
+			return Math.max( 1, Math.min( maxRows, maxFetchSize ) );
+		}
+		final int estimate = jdbcSelect.getEstimatedRowCount();
+		if ( estimate < 0 ) {
+			return options.getMinAdaptiveJdbcFetchSize();
+		}
+		// one row more than expected, to find the end of the results in a single round trip
+		return Math.max( options.getMinAdaptiveJdbcFetchSize(), (int) Math.min( estimate + 1L, maxFetchSize ) );
+	}
+
+	private int getMaxRows() {
+		return limit != null && limit.getMaxRows() != null ? limit.getMaxRows() : jdbcSelect.getMaxRows();
+	}
+
+	/**
+	 * Record the number of rows read from the result set, to adapt the fetch
+	 * size of the next executions of the select.
+	 */
+	public void rowsRead(int rowCount) {
+		if ( getMaxRows() == Integer.MAX_VALUE
+				&& getFactory().getSessionFactoryOptions().isAdaptiveJdbcFetchSizeEnabled() ) {
+			jdbcSelect.rowsRead( rowCount );
+		}
+	}
+
 	protected ResultSet wrapResultSet(ResultSet resultSet) throws SQLException {
 		return resultSet;
 	}
@@ -25,6 +25,7 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.ValueExtractor;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -37,9 +38,14 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
 
-	private final SqlSelection[] sqlSelections;
+	// resolved once, rather than for every column of every row
+	private final ValueExtractor<?>[] valueExtractors;
+	private final int[] resultSetIndexes;
+	private final int[] valuesArrayPositions;
 	private final Object[] currentRowJdbcValues;
 
+	private int rowCount;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -53,7 +59,15 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
 
-		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
+		final SqlSelection[] sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
+		this.valueExtractors = new ValueExtractor<?>[sqlSelections.length];
+		this.resultSetIndexes = new int[sqlSelections.length];
+		this.valuesArrayPositions = new int[sqlSelections.length];
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			valueExtractors[i] = sqlSelections[i].getJdbcValueExtractor();
+			resultSetIndexes[i] = sqlSelections[i].getJdbcResultSetIndex();
+			valuesArrayPositions[i] = sqlSelections[i].getValuesArrayPosition();
+		}
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
 	}
 
@@ -90,6 +104,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 							return false;
 						}
 
+						rowCount++;
 						return true;
 					}
 					catch (SQLException e) {
@@ -136,6 +151,13 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		);
 	}
 
+	/**
+	 * The number of rows read by advancing to the next row.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
 	@Override
 	public int getPosition() {
 		try {
@@ -293,17 +315,17 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private void readCurrentRowValues() {
 		final ResultSet resultSet = resultSetAccess.getResultSet();
 		final SharedSessionContractImplementor session = executionContext.getSession();
-		for ( final SqlSelection sqlSelection : sqlSelections ) {
+		for ( int i = 0; i < valueExtractors.length; i++ ) {
 			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
+				currentRowJdbcValues[ valuesArrayPositions[i] ] = valueExtractors[i].extract(
 						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
+						resultSetIndexes[i],
 						session
 				);
 			}
 			catch (Exception e) {
 				throw new HibernateException(
-						"Unable to extract JDBC value for position `" + sqlSelection.getJdbcResultSetIndex() + "`",
+						"Unable to extract JDBC value for position `" + resultSetIndexes[i] + "`",
 						e
 				);
 			}
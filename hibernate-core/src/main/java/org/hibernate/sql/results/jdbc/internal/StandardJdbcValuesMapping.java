@@ -7,12 +7,16 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.LockMode;
 
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.InitializerGraph;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 
 /**
@@ -22,6 +26,8 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 	private final List<SqlSelection> sqlSelections;
 	private final List<DomainResult<?>> domainResults;
 
+	private final AtomicReference<InitializerGraph> idleInitializerGraph = new AtomicReference<>();
+
 	public StandardJdbcValuesMapping(
 			List<SqlSelection> sqlSelections,
 			List<DomainResult<?>> domainResults) {
@@ -57,4 +63,24 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 
 		return assemblers;
 	}
+
+	/**
+	 * Take the graph of assemblers and initializers left by a completed
+	 * execution, if it was created for the given lock mode.  The caller
+	 * owns the graph until it {@linkplain #releaseInitializerGraph releases} it.
+	 *
+	 * @return the graph, or {@code null} if there is none to reuse
+	 */
+	public InitializerGraph takeInitializerGraph(LockMode lockMode) {
+		final InitializerGraph graph = idleInitializerGraph.getAndSet( null );
+		return graph == null || graph.getLockMode() != lockMode ? null : graph;
+	}
+
+	/**
+	 * Hand over the graph of assemblers and initializers of a completed
+	 * execution to the next execution.
+	 */
+	public void releaseInitializerGraph(InitializerGraph graph) {
+		idleInitializerGraph.set( graph );
+	}
 }
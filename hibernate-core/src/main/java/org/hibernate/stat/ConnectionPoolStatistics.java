@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * The state of the pool of JDBC connections, for a
+ * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+ * which {@linkplain org.hibernate.service.spi.Wrapped#isUnwrappableAs unwraps}
+ * as this type, such as the built-in connection pool.
+ *
+ * @see Statistics#getConnectionPoolStatistics()
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface ConnectionPoolStatistics {
+	/**
+	 * The number of connections currently borrowed from the pool.
+	 */
+	int getActiveConnectionCount();
+
+	/**
+	 * The number of open connections currently waiting in the pool.
+	 */
+	int getIdleConnectionCount();
+
+	/**
+	 * The number of threads currently waiting for a connection.
+	 */
+	int getPendingAcquisitionCount();
+
+	/**
+	 * The maximum number of connections borrowed at once.
+	 */
+	int getMaxPoolSize();
+
+	/**
+	 * The number of times a thread gave up waiting for a connection.
+	 */
+	long getAcquisitionTimeoutCount();
+
+	/**
+	 * The number of connections held longer than the leak detection
+	 * threshold.
+	 */
+	long getLeakedConnectionCount();
+}
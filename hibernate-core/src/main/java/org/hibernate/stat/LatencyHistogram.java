@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the latencies of some operation, in nanoseconds.
+ * <p>
+ * Latencies are counted in buckets whose width grows with the latency,
+ * so that percentiles are reported with a relative error of at most
+ * about 6%, whatever their magnitude.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of recorded latencies.
+	 */
+	long getCount();
+
+	/**
+	 * The sum of the recorded latencies, in nanoseconds.
+	 */
+	long getTotalTime();
+
+	/**
+	 * The highest recorded latency, in nanoseconds.
+	 */
+	long getMaxTime();
+
+	/**
+	 * The latency, in nanoseconds, below which the given percentage of the
+	 * recorded latencies fall, or {@code 0} if no latency was recorded.
+	 *
+	 * @param percentile A percentage between {@code 0} and {@code 100},
+	 * for example {@code 99.9}
+	 */
+	long getTimeAtPercentile(double percentile);
+}
@@ -105,4 +105,17 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The distribution of the execution times of this query, or
+	 * {@code null} if latency histograms are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getExecutionLatencyHistogram() {
+		//For backward compatibility
+		return null;
+	}
 }
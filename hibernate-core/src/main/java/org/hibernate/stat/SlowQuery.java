@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import org.hibernate.Incubating;
+
+/**
+ * An execution of a query which took at least the slow query threshold,
+ * as recorded in the {@linkplain Statistics#getSlowQueries() slow query log}.
+ * Times are in nanoseconds.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_LOG_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_THRESHOLD
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface SlowQuery extends Serializable {
+	/**
+	 * The SQL which was executed.
+	 */
+	String getSql();
+
+	/**
+	 * The HQL, or native SQL, of the query which was executed.
+	 */
+	String getQuery();
+
+	/**
+	 * A summary of the parameters of the SQL, in order: the types of the
+	 * bound values or, if
+	 * {@value org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_LOG_PARAMETERS}
+	 * is enabled, the values themselves, where long values are abbreviated.
+	 */
+	String getParameters();
+
+	/**
+	 * The number of rows read from the result set.
+	 */
+	int getRowCount();
+
+	/**
+	 * The time spent preparing the JDBC statement and binding its parameters.
+	 */
+	long getPrepareTime();
+
+	/**
+	 * The time spent executing the JDBC statement.
+	 */
+	long getExecutionTime();
+
+	/**
+	 * The time spent reading and processing the result set.
+	 */
+	long getFetchTime();
+
+	/**
+	 * The time the whole execution of the query took.
+	 */
+	long getTotalTime();
+
+	/**
+	 * When the execution of the query ended.
+	 */
+	Instant getTimestamp();
+}
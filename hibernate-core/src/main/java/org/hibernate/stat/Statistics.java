@@ -7,6 +7,8 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Exposes statistics collected from all sessions belonging to a
@@ -364,6 +366,28 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements reused from the cache of their JDBC
+	 * connection instead of being prepared again.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of prepared statements looked up but <em>not</em> found in
+	 * the cache of their JDBC connection.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -379,4 +403,126 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of plans for non-select queries (insert, update and
+	 * delete statements) successfully retrieved from cache.
+	 */
+	default long getNonSelectQueryPlanCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The global number of plans for non-select queries (insert, update and
+	 * delete statements) looked up but <em>not</em> found in cache.
+	 */
+	default long getNonSelectQueryPlanCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of named queries whose plans were built while the
+	 * {@code SessionFactory} was created.  Not affected by {@link #clear()}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_WARM_UP
+	 */
+	default long getNamedQueryWarmUpCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The time in milliseconds it took to build the plans of the named
+	 * queries while the {@code SessionFactory} was created.  Not affected
+	 * by {@link #clear()}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_WARM_UP
+	 */
+	default long getNamedQueryWarmUpTime() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The distribution of the execution times of all queries, including
+	 * the processing of their results, or {@code null} if latency
+	 * histograms are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getQueryExecutionLatencyHistogram() {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The distribution of the execution times of JDBC statements and
+	 * batches, or {@code null} if latency histograms are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getStatementExecutionLatencyHistogram() {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The distribution of the times spent reading the JDBC result sets of
+	 * queries, once executed, or {@code null} if latency histograms are not
+	 * enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getRowProcessingLatencyHistogram() {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The distribution of the times spent obtaining JDBC connections, or
+	 * {@code null} if latency histograms are not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 6.2
+	 */
+	default LatencyHistogram getConnectionAcquisitionLatencyHistogram() {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The state of the pool of JDBC connections, or {@code null} if the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * does not report it.
+	 *
+	 * @since 6.2
+	 */
+	default ConnectionPoolStatistics getConnectionPoolStatistics() {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The most recent query executions which took at least the slow query
+	 * threshold, the most recent first, or an empty list if the slow query
+	 * log is not enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_LOG_SIZE
+	 * @see org.hibernate.cfg.AvailableSettings#STATISTICS_SLOW_QUERY_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	default List<SlowQuery> getSlowQueries() {
+		//For backward compatibility
+		return Collections.emptyList();
+	}
 }
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A lock-free, log-linear {@link LatencyHistogram}: each power of two is
+ * divided into {@value #SUB_BUCKET_HALF_COUNT} buckets of equal width, and
+ * latencies below {@value #SUB_BUCKET_COUNT} nanoseconds get one bucket each.
+ * Latencies above about 73 minutes are counted in the last bucket.
+ *
+ * @see StatisticsImpl
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+
+	private static final long HIGHEST_TRACKABLE_VALUE = ( 1L << 42 ) - 1;
+	private static final int BUCKET_COUNT = bucketIndex( HIGHEST_TRACKABLE_VALUE ) + 1;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	/**
+	 * Record a latency, in nanoseconds.
+	 */
+	public void record(long nanoseconds) {
+		final long value = Math.max( 0, nanoseconds );
+		buckets.incrementAndGet( bucketIndex( Math.min( value, HIGHEST_TRACKABLE_VALUE ) ) );
+		count.increment();
+		totalTime.add( value );
+		//noinspection StatementWithEmptyBody
+		for ( long old = maxTime.get(); value > old && !maxTime.compareAndSet( old, value ); old = maxTime.get() ) {
+		}
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getTimeAtPercentile(double percentile) {
+		// read the buckets once, since they may be updated concurrently
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		final double fraction = Math.min( Math.max( percentile, 0 ), 100 ) / 100;
+		final long rank = Math.max( 1, (long) Math.ceil( fraction * total ) );
+		long cumulativeCount = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulativeCount += counts[i];
+			if ( cumulativeCount >= rank ) {
+				return Math.min( highestValueInBucket( i ), getMaxTime() );
+			}
+		}
+		return getMaxTime();
+	}
+
+	/**
+	 * Reset the histogram.  Latencies recorded concurrently may be lost.
+	 */
+	public void clear() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			buckets.set( i, 0 );
+		}
+		count.reset();
+		totalTime.reset();
+		maxTime.set( 0 );
+	}
+
+	static int bucketIndex(long value) {
+		final int magnitude = Math.max( 0, 64 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS );
+		return magnitude * SUB_BUCKET_HALF_COUNT + (int) ( value >>> magnitude );
+	}
+
+	static long highestValueInBucket(int index) {
+		final int magnitude = Math.max( 0, index / SUB_BUCKET_HALF_COUNT - 1 );
+		final long subBucket = index - (long) magnitude * SUB_BUCKET_HALF_COUNT;
+		return ( ( subBucket + 1 ) << magnitude ) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",p50=" + getTimeAtPercentile( 50 )
+				+ ",p99=" + getTimeAtPercentile( 99 )
+				+ ",max=" + getMaxTime()
+				+ ']';
+	}
+}
@@ -38,12 +38,18 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final LatencyHistogramImpl executionLatencyHistogram;
 
 	private final Lock readLock;
 	private final Lock writeLock;
 
 	public QueryStatisticsImpl(String query) {
+		this( query, false );
+	}
+
+	public QueryStatisticsImpl(String query, boolean latencyHistogramEnabled) {
 		this.query = query;
+		this.executionLatencyHistogram = latencyHistogramEnabled ? new LatencyHistogramImpl() : null;
 		ReadWriteLock lock = new ReentrantReadWriteLock();
 		this.readLock = lock.readLock();
 		this.writeLock = lock.writeLock();
@@ -177,6 +183,22 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		}
 	}
 
+	@Override
+	public LatencyHistogramImpl getExecutionLatencyHistogram() {
+		return executionLatencyHistogram;
+	}
+
+	/**
+	 * add the execution time of a DB query to the latency histogram
+	 *
+	 * @param nanoseconds time taken
+	 */
+	void timed(long nanoseconds) {
+		if ( executionLatencyHistogram != null ) {
+			executionLatencyHistogram.record( nanoseconds );
+		}
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.time.Instant;
+
+import org.hibernate.stat.SlowQuery;
+
+/**
+ * Immutable {@link SlowQuery}.
+ *
+ * @see SlowQueryLog
+ */
+public final class SlowQueryImpl implements SlowQuery {
+	private final String sql;
+	private final String query;
+	private final String parameters;
+	private final int rowCount;
+	private final long prepareTime;
+	private final long executionTime;
+	private final long fetchTime;
+	private final long totalTime;
+	private final Instant timestamp;
+
+	public SlowQueryImpl(
+			String sql,
+			String query,
+			String parameters,
+			int rowCount,
+			long prepareTime,
+			long executionTime,
+			long fetchTime,
+			long totalTime) {
+		this.sql = sql;
+		this.query = query;
+		this.parameters = parameters;
+		this.rowCount = rowCount;
+		this.prepareTime = prepareTime;
+		this.executionTime = executionTime;
+		this.fetchTime = fetchTime;
+		this.totalTime = totalTime;
+		this.timestamp = Instant.now();
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public String getQuery() {
+		return query;
+	}
+
+	@Override
+	public String getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public long getPrepareTime() {
+		return prepareTime;
+	}
+
+	@Override
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	@Override
+	public long getFetchTime() {
+		return fetchTime;
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime;
+	}
+
+	@Override
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	@Override
+	public String toString() {
+		return "SlowQuery[sql=" + sql
+				+ ",query=" + query
+				+ ",parameters=" + parameters
+				+ ",rowCount=" + rowCount
+				+ ",prepareTime=" + prepareTime
+				+ ",executionTime=" + executionTime
+				+ ",fetchTime=" + fetchTime
+				+ ",totalTime=" + totalTime
+				+ ",timestamp=" + timestamp
+				+ ']';
+	}
+}
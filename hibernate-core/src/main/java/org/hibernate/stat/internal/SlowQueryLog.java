@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.stat.SlowQuery;
+
+/**
+ * A lock-free ring buffer of the most recent {@link SlowQuery slow queries}:
+ * once it is full, each recorded query replaces the oldest one.
+ *
+ * @see StatisticsImpl
+ */
+public class SlowQueryLog {
+	private final AtomicReferenceArray<SlowQuery> queries;
+	private final AtomicLong next = new AtomicLong();
+
+	public SlowQueryLog(int size) {
+		queries = new AtomicReferenceArray<>( size );
+	}
+
+	public void record(SlowQuery query) {
+		queries.set( (int) ( next.getAndIncrement() % queries.length() ), query );
+	}
+
+	/**
+	 * The recorded queries, the most recent first.
+	 */
+	public List<SlowQuery> getQueries() {
+		final int size = queries.length();
+		final long last = next.get();
+		final List<SlowQuery> result = new ArrayList<>( (int) Math.min( last, size ) );
+		for ( long i = last - 1; i >= 0 && i >= last - size; i-- ) {
+			final SlowQuery query = queries.get( (int) ( i % size ) );
+			if ( query != null ) {
+				result.add( query );
+			}
+		}
+		return result;
+	}
+
+	public void clear() {
+		for ( int i = 0; i < queries.length(); i++ ) {
+			queries.set( i, null );
+		}
+	}
+}
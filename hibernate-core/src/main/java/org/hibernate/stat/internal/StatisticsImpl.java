@@ -8,8 +8,10 @@ package org.hibernate.stat.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -18,12 +20,16 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.ConnectionPoolStatistics;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.SlowQuery;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -58,6 +64,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -91,6 +99,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder nonSelectQueryPlanCacheHitCount = new LongAdder();
+	private final LongAdder nonSelectQueryPlanCacheMissCount = new LongAdder();
+	private volatile long namedQueryWarmUpCount;
+	private volatile long namedQueryWarmUpTime;
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -101,6 +113,17 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
+	private final boolean latencyHistogramEnabled;
+	private final LatencyHistogramImpl queryExecutionLatencyHistogram;
+	private final LatencyHistogramImpl statementExecutionLatencyHistogram;
+	private final LatencyHistogramImpl rowProcessingLatencyHistogram;
+	private final LatencyHistogramImpl connectionAcquisitionLatencyHistogram;
+
+	private final SlowQueryLog slowQueryLog;
+	private final long slowQueryThreshold;
+
+	private final ConnectionPoolStatistics connectionPoolStatistics;
+
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
@@ -128,6 +151,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
 
+		latencyHistogramEnabled = sessionFactoryOptions.isStatisticsLatencyHistogramsEnabled();
+		queryExecutionLatencyHistogram = latencyHistogramEnabled ? new LatencyHistogramImpl() : null;
+		statementExecutionLatencyHistogram = latencyHistogramEnabled ? new LatencyHistogramImpl() : null;
+		rowProcessingLatencyHistogram = latencyHistogramEnabled ? new LatencyHistogramImpl() : null;
+		connectionAcquisitionLatencyHistogram = latencyHistogramEnabled ? new LatencyHistogramImpl() : null;
+
+		final int slowQueryLogSize = sessionFactoryOptions.getStatisticsSlowQueryLogSize();
+		slowQueryLog = slowQueryLogSize > 0 ? new SlowQueryLog( slowQueryLogSize ) : null;
+		slowQueryThreshold = TimeUnit.MILLISECONDS.toNanos( sessionFactoryOptions.getStatisticsSlowQueryThreshold() );
+
+		connectionPoolStatistics = sessionFactoryOptions.isMultiTenancyEnabled()
+				? null
+				: connectionPoolStatistics( sessionFactory.getServiceRegistry().getService( ConnectionProvider.class ) );
+
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
 		this.allEntityNames = entityNames.toArray( new String[0] );
@@ -160,6 +197,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -197,6 +236,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		nonSelectQueryPlanCacheHitCount.reset();
+		nonSelectQueryPlanCacheMissCount.reset();
+
+		if ( latencyHistogramEnabled ) {
+			queryExecutionLatencyHistogram.clear();
+			statementExecutionLatencyHistogram.clear();
+			rowProcessingLatencyHistogram.clear();
+			connectionAcquisitionLatencyHistogram.clear();
+		}
+		if ( slowQueryLog != null ) {
+			slowQueryLog.clear();
+		}
 
 		resetStart();
 	}
@@ -632,7 +683,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public QueryStatisticsImpl getQueryStatistics(String queryString) {
 		return queryStatsMap.getOrCompute(
 				queryString,
-				QueryStatisticsImpl::new
+				query -> new QueryStatisticsImpl( query, latencyHistogramEnabled )
 		);
 	}
 
@@ -688,6 +739,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryExecutionTimed(String hql, long nanoseconds) {
+		if ( latencyHistogramEnabled ) {
+			queryExecutionLatencyHistogram.record( nanoseconds );
+			if ( hql != null ) {
+				getQueryStatistics( hql ).timed( nanoseconds );
+			}
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -737,6 +798,32 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getNonSelectQueryPlanCacheHitCount() {
+		return nonSelectQueryPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getNonSelectQueryPlanCacheMissCount() {
+		return nonSelectQueryPlanCacheMissCount.sum();
+	}
+
+	@Override
+	public long getNamedQueryWarmUpCount() {
+		return namedQueryWarmUpCount;
+	}
+
+	@Override
+	public long getNamedQueryWarmUpTime() {
+		return namedQueryWarmUpTime;
+	}
+
+	@Override
+	public void namedQueriesWarmedUp(int count, long milliseconds) {
+		namedQueryWarmUpCount = count;
+		namedQueryWarmUpTime = milliseconds;
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -764,6 +851,24 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void nonSelectQueryPlanCacheHit(String query) {
+		nonSelectQueryPlanCacheHitCount.increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementPlanCacheHitCount();
+		}
+	}
+
+	@Override
+	public void nonSelectQueryPlanCacheMiss(String query) {
+		nonSelectQueryPlanCacheMissCount.increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementPlanCacheMissCount();
+		}
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -814,6 +919,90 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
+	@Override
+	public LatencyHistogram getQueryExecutionLatencyHistogram() {
+		return queryExecutionLatencyHistogram;
+	}
+
+	@Override
+	public LatencyHistogram getStatementExecutionLatencyHistogram() {
+		return statementExecutionLatencyHistogram;
+	}
+
+	@Override
+	public LatencyHistogram getRowProcessingLatencyHistogram() {
+		return rowProcessingLatencyHistogram;
+	}
+
+	@Override
+	public LatencyHistogram getConnectionAcquisitionLatencyHistogram() {
+		return connectionAcquisitionLatencyHistogram;
+	}
+
+	@Override
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return connectionPoolStatistics;
+	}
+
+	@Override
+	public List<SlowQuery> getSlowQueries() {
+		return slowQueryLog == null ? Collections.emptyList() : slowQueryLog.getQueries();
+	}
+
+	private static ConnectionPoolStatistics connectionPoolStatistics(ConnectionProvider connectionProvider) {
+		return connectionProvider != null && connectionProvider.isUnwrappableAs( ConnectionPoolStatistics.class )
+				? connectionProvider.unwrap( ConnectionPoolStatistics.class )
+				: null;
+	}
+
+	@Override
+	public boolean isLatencyHistogramEnabled() {
+		return latencyHistogramEnabled && isStatisticsEnabled;
+	}
+
+	@Override
+	public void statementExecutionTimed(long nanoseconds) {
+		if ( latencyHistogramEnabled ) {
+			statementExecutionLatencyHistogram.record( nanoseconds );
+		}
+	}
+
+	@Override
+	public void rowProcessingTimed(long nanoseconds) {
+		if ( latencyHistogramEnabled ) {
+			rowProcessingLatencyHistogram.record( nanoseconds );
+		}
+	}
+
+	@Override
+	public void connectionAcquisitionTimed(long nanoseconds) {
+		if ( latencyHistogramEnabled ) {
+			connectionAcquisitionLatencyHistogram.record( nanoseconds );
+		}
+	}
+
+	@Override
+	public long getSlowQueryThreshold() {
+		return slowQueryLog != null && isStatisticsEnabled ? slowQueryThreshold : -1;
+	}
+
+	@Override
+	public void slowQueryExecuted(SlowQuery slowQuery) {
+		if ( slowQueryLog != null ) {
+			slowQueryLog.record( slowQuery );
+		}
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -844,6 +1033,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -908,6 +1107,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",prepared statement cache hits=" + preparedStatementCacheHitCount +
+				",prepared statement cache misses=" + preparedStatementCacheMissCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -936,6 +1137,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",non-select query plan cache hits=" + nonSelectQueryPlanCacheHitCount +
+				",non-select query plan cache misses=" + nonSelectQueryPlanCacheMissCount +
+				",named queries warmed up=" + namedQueryWarmUpCount +
+				",named query warm-up time=" + namedQueryWarmUpTime +
+				( latencyHistogramEnabled
+						? ",query execution latency=" + queryExecutionLatencyHistogram
+						+ ",statement execution latency=" + statementExecutionLatencyHistogram
+						+ ",row processing latency=" + rowProcessingLatencyHistogram
+						+ ",connection acquisition latency=" + connectionAcquisitionLatencyHistogram
+						: "" ) +
 				']';
 	}
 
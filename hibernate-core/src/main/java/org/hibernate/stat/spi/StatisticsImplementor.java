@@ -8,6 +8,7 @@ package org.hibernate.stat.spi;
 
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.SlowQuery;
 import org.hibernate.stat.Statistics;
 
 /**
@@ -47,6 +48,22 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a prepared statement being reused from the cache of its
+	 * connection.
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a prepared statement not found in the cache of its
+	 * connection.
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -266,6 +283,26 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a get of a non-select query plan from the query plan
+	 * cache resulted in a hit.
+	 *
+	 * @param query The query
+	 */
+	default void nonSelectQueryPlanCacheHit(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get of a non-select query plan from the query plan
+	 * cache resulted in a miss.
+	 *
+	 * @param query The query
+	 */
+	default void nonSelectQueryPlanCacheMiss(String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -275,4 +312,83 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating the plans of the named queries were built while
+	 * the SessionFactory was created
+	 *
+	 * @param count The number of named queries
+	 * @param milliseconds The time it took
+	 */
+	default void namedQueriesWarmedUp(int count, long milliseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Are latency histograms recorded?  The timing callbacks below need
+	 * not be called otherwise.
+	 */
+	default boolean isLatencyHistogramEnabled() {
+		//For backward compatibility
+		return false;
+	}
+
+	/**
+	 * Callback indicating the time a sql/hql query took to execute,
+	 * including the processing of its results
+	 *
+	 * @param hql The query
+	 * @param nanoseconds The time it took
+	 */
+	default void queryExecutionTimed(String hql, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time a JDBC statement or batch took to execute
+	 *
+	 * @param nanoseconds The time it took
+	 */
+	default void statementExecutionTimed(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time spent reading the result set of a query
+	 *
+	 * @param nanoseconds The time it took
+	 */
+	default void rowProcessingTimed(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the time it took to obtain a JDBC connection
+	 *
+	 * @param nanoseconds The time it took
+	 */
+	default void connectionAcquisitionTimed(long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * The time, in nanoseconds, from which a query execution is recorded
+	 * by the slow query log, or a negative value if the slow query log is
+	 * not enabled, in which case {@link #slowQueryExecuted} need not be
+	 * called.
+	 */
+	default long getSlowQueryThreshold() {
+		//For backward compatibility
+		return -1;
+	}
+
+	/**
+	 * Callback indicating that a query execution took at least the
+	 * {@linkplain #getSlowQueryThreshold() slow query threshold}
+	 *
+	 * @param slowQuery The query execution
+	 */
+	default void slowQueryExecuted(SlowQuery slowQuery) {
+		//For backward compatibility
+	}
 }
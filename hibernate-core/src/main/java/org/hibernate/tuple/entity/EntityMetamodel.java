@@ -26,6 +26,7 @@ import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -118,6 +119,7 @@ public class EntityMetamodel implements Serializable {
 	private final boolean dynamicUpdate;
 	private final boolean dynamicInsert;
 	private final OptimisticLockStyle optimisticLockStyle;
+	private final boolean snapshotFreeLoading;
 
 	private final boolean polymorphic;
 	private final String superclass;  // superclass entity-name
@@ -214,6 +216,7 @@ public class EntityMetamodel implements Serializable {
 
 		int tempVersionProperty = NO_VERSION_INDX;
 		boolean foundCascade = false;
+		boolean foundOrphanDelete = false;
 		boolean foundCollection = false;
 		BitSet mutableIndexes = new BitSet();
 		boolean foundNonIdentifierPropertyNamedId = false;
@@ -328,6 +331,9 @@ public class EntityMetamodel implements Serializable {
 
 			if ( attribute.getCascadeStyle() != CascadeStyles.NONE ) {
 				foundCascade = true;
+				if ( attribute.getCascadeStyle().hasOrphanDelete() ) {
+					foundOrphanDelete = true;
+				}
 			}
 
 			if ( indicatesCollection( attribute.getType() ) ) {
@@ -411,6 +417,19 @@ public class EntityMetamodel implements Serializable {
 		hasCollections = foundCollection;
 		mutablePropertiesIndexes = mutableIndexes;
 
+		// the loaded state may only be discarded if nothing needs to consult it at flush time
+		snapshotFreeLoading = sessionFactoryOptions.isSnapshotFreeLoadingEnabled()
+				&& persistentClass.hasPojoRepresentation()
+				&& SelfDirtinessTracker.class.isAssignableFrom( persistentClass.getMappedClass() )
+				&& mutable
+				&& versioned
+				&& optimisticLockStyle == OptimisticLockStyle.VERSION
+				&& !selectBeforeUpdate
+				&& !foundCollection
+				&& !foundOrphanDelete
+				&& mutableIndexes.isEmpty()
+				&& naturalIdPropertyNumbers == null;
+
 		final Set<String> subclassEntityNamesLocal = new HashSet<>();
 		for ( Subclass subclass : persistentClass.getSubclasses() ) {
 			subclassEntityNamesLocal.add( subclass.getEntityName() );
@@ -885,6 +904,16 @@ public class EntityMetamodel implements Serializable {
 		return !mutablePropertiesIndexes.isEmpty();
 	}
 
+	/**
+	 * Whether managed instances of this entity may drop their loaded state snapshot,
+	 * relying on the enhanced dirty tracking and the version instead.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SNAPSHOT_FREE_LOADING
+	 */
+	public boolean isSnapshotFreeLoading() {
+		return snapshotFreeLoading;
+	}
+
 	public BitSet getMutablePropertiesIndexes() {
 		return mutablePropertiesIndexes;
 	}
@@ -19,7 +19,7 @@ import org.hibernate.engine.jdbc.BinaryStream;
 import org.hibernate.engine.jdbc.BlobImplementer;
 import org.hibernate.engine.jdbc.BlobProxy;
 import org.hibernate.engine.jdbc.WrappedBlob;
-import org.hibernate.engine.jdbc.internal.BinaryStreamImpl;
+import org.hibernate.engine.jdbc.internal.StreamBackedBinaryStream;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
@@ -71,14 +71,7 @@ public class BlobJavaType extends AbstractClassJavaType<Blob> {
 
 	@Override
 	public String toString(Blob value) {
-		final byte[] bytes;
-		try {
-			bytes = DataHelper.extractBytes( value.getBinaryStream() );
-		}
-		catch ( SQLException e ) {
-			throw new HibernateException( "Unable to access blob stream", e );
-		}
-		return PrimitiveByteArrayJavaType.INSTANCE.toString( bytes );
+		return PrimitiveByteArrayJavaType.INSTANCE.toString( DataHelper.extractBytes( value ) );
 	}
 
 	@Override
@@ -115,8 +108,8 @@ public class BlobJavaType extends AbstractClassJavaType<Blob> {
 					return (X) ( (BlobImplementer) value ).getUnderlyingStream();
 				}
 				else {
-					// otherwise we need to build a BinaryStream...
-					return (X) new BinaryStreamImpl( DataHelper.extractBytes( value.getBinaryStream() ) );
+					// otherwise we need to build a BinaryStream, reading the Blob lazily...
+					return (X) new StreamBackedBinaryStream( value.getBinaryStream(), value.length() );
 				}
 			}
 			else if ( byte[].class.isAssignableFrom( type )) {
@@ -126,7 +119,7 @@ public class BlobJavaType extends AbstractClassJavaType<Blob> {
 				}
 				else {
 					// otherwise extract the bytes from the stream manually
-					return (X) DataHelper.extractBytes( value.getBinaryStream() );
+					return (X) DataHelper.extractBytes( value );
 				}
 			}
 			else if (Blob.class.isAssignableFrom( type )) {
@@ -92,8 +92,8 @@ public class ClobJavaType extends AbstractClassJavaType<Clob> {
 					return (X) ( (ClobImplementer) value ).getUnderlyingStream();
 				}
 				else {
-					// otherwise we need to build a CharacterStream...
-					return (X) new CharacterStreamImpl( DataHelper.extractString( value.getCharacterStream() ) );
+					// otherwise we need to build a CharacterStream, reading the Clob lazily...
+					return (X) new CharacterStreamImpl( value.getCharacterStream(), value.length() );
 				}
 			}
 			else if ( String.class.isAssignableFrom( type ) ) {
@@ -103,7 +103,7 @@ public class ClobJavaType extends AbstractClassJavaType<Clob> {
 				}
 				else {
 					// otherwise extract the bytes from the stream manually
-					return (X) LobStreamDataHelper.extractString( value.getCharacterStream() );
+					return (X) DataHelper.extractString( value );
 				}
 			}
 			else if (Clob.class.isAssignableFrom( type )) {
@@ -119,7 +119,7 @@ public class ClobJavaType extends AbstractClassJavaType<Clob> {
 				}
 				else {
 					// otherwise we need to extract the String.
-					return (X) DataHelper.extractString( value.getCharacterStream() );
+					return (X) DataHelper.extractString( value );
 				}
 			}
 		}
@@ -11,9 +11,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.BinaryStream;
@@ -64,7 +66,10 @@ public final class DataHelper {
 	public static String extractString(Reader reader, int lengthHint) {
 		// read the Reader contents into a buffer and return the complete string
 		final int bufferSize = getSuggestedBufferSize( lengthHint );
-		final StringBuilder stringBuilder = new StringBuilder( bufferSize );
+		// size the builder for the whole value up front, rather than growing it chunk by chunk
+		final StringBuilder stringBuilder = new StringBuilder(
+				lengthHint >= 0 && lengthHint < Integer.MAX_VALUE ? lengthHint : bufferSize
+		);
 		try {
 			char[] buffer = new char[bufferSize];
 			while (true) {
@@ -190,6 +195,54 @@ public final class DataHelper {
 		return outputStream.toByteArray();
 	}
 
+	/**
+	 * Extract the bytes from the given stream, whose length is known in advance.
+	 * The stream will be closed.
+	 * <p>
+	 * The bytes are read directly into an array of the given length, instead of
+	 * into a growing buffer which is copied once complete, so that reading a large
+	 * value needs no more memory than the value itself.
+	 *
+	 * @param inputStream The stream of bytes.
+	 * @param length The number of bytes in the stream, or a negative number if unknown
+	 *
+	 * @return The contents as a {@code byte[]}
+	 */
+	public static byte[] extractBytes(InputStream inputStream, long length) {
+		if ( inputStream instanceof BinaryStream || length < 0 || length >= Integer.MAX_VALUE ) {
+			return extractBytes( inputStream );
+		}
+
+		final byte[] bytes = new byte[(int) length];
+		try {
+			final int amountRead = inputStream.readNBytes( bytes, 0, bytes.length );
+			if ( amountRead < bytes.length ) {
+				return Arrays.copyOf( bytes, amountRead );
+			}
+			final int next = inputStream.read();
+			if ( next == -1 ) {
+				return bytes;
+			}
+			// the stream is longer than we were told, so buffer the remainder
+			final ByteArrayOutputStream outputStream = new ByteArrayOutputStream( bytes.length + BUFFER_SIZE );
+			outputStream.write( bytes );
+			outputStream.write( next );
+			inputStream.transferTo( outputStream );
+			return outputStream.toByteArray();
+		}
+		catch ( IOException ioe ) {
+			throw new HibernateException( "IOException occurred reading a binary value", ioe );
+		}
+		finally {
+			try {
+				inputStream.close();
+			}
+			catch ( IOException e ) {
+				LOG.unableToCloseInputStream( e );
+			}
+		}
+	}
+
 	/**
 	 * Extract a portion of the bytes from the given stream.
 	 *
@@ -271,6 +324,38 @@ public final class DataHelper {
 		}
 	}
 
+	/**
+	 * Extract the contents of the given Blob as a {@code byte[]}.
+	 *
+	 * @param value The blob to to be extracted from
+	 *
+	 * @return The contents as a {@code byte[]}
+	 */
+	public static byte[] extractBytes(final Blob value) {
+		try {
+			return extractBytes( value.getBinaryStream(), determineLength( value ) );
+		}
+		catch ( SQLException e ) {
+			throw new HibernateException( "Unable to access lob stream", e );
+		}
+	}
+
+	/**
+	 * Determine the length of the given Blob, if the driver supports it.
+	 *
+	 * @param value The Blob value
+	 *
+	 * @return {@link Blob#length()}, or -1 if it is not supported
+	 */
+	private static long determineLength(Blob value) throws SQLException {
+		try {
+			return value.length();
+		}
+		catch ( SQLFeatureNotSupportedException e ) {
+			return -1;
+		}
+	}
+
 	/**
 	 * Determine a buffer size for reading the underlying character stream.
 	 *
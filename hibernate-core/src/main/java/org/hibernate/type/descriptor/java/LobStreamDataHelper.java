@@ -6,37 +6,23 @@
  */
 package org.hibernate.type.descriptor.java;
 
-import org.hibernate.HibernateException;
-import org.hibernate.engine.jdbc.BinaryStream;
-import org.hibernate.engine.jdbc.internal.BinaryStreamImpl;
-import org.hibernate.internal.CoreMessageLogger;
-import org.jboss.logging.Logger;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.io.StringReader;
 import java.sql.Clob;
-import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
 
 /**
  * A help for dealing with BLOB and CLOB data
  *
  * @author Steve Ebersole
+ * @deprecated Use {@link DataHelper} instead
  */
+@Deprecated(since = "6.2")
 public final class LobStreamDataHelper {
 	private LobStreamDataHelper() {
 	}
 
-	/** The size of the buffer we will use to deserialize larger streams */
-	private static final int BUFFER_SIZE = 1024 * 4;
-
-	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, LobStreamDataHelper.class.getName() );
-
 	public static boolean isNClob(final Class type) {
-		return java.sql.NClob.class.isAssignableFrom( type );
+		return DataHelper.isNClob( type );
 	}
 
 	/**
@@ -48,7 +34,7 @@ public final class LobStreamDataHelper {
 	 * @return The content as string
 	 */
 	public static String extractString(Reader reader) {
-		return extractString( reader, BUFFER_SIZE );
+		return DataHelper.extractString( reader );
 	}
 
 	/**
@@ -61,75 +47,7 @@ public final class LobStreamDataHelper {
 	 * @return The content as string
 	 */
 	public static String extractString(Reader reader, int lengthHint) {
-		// read the Reader contents into a buffer and return the complete string
-		final int bufferSize = getSuggestedBufferSize( lengthHint );
-		final StringBuilder stringBuilder = new StringBuilder( bufferSize );
-		try {
-			char[] buffer = new char[bufferSize];
-			while (true) {
-				int amountRead = reader.read( buffer, 0, bufferSize );
-				if ( amountRead == -1 ) {
-					break;
-				}
-				stringBuilder.append( buffer, 0, amountRead );
-			}
-		}
-		catch ( IOException ioe ) {
-			throw new HibernateException( "IOException occurred reading text", ioe );
-		}
-		finally {
-			try {
-				reader.close();
-			}
-			catch (IOException e) {
-				LOG.unableToCloseStream( e );
-			}
-		}
-		return stringBuilder.toString();
-	}
-
-	/**
-	 * Extracts a portion of the contents of the given reader/stream as a string.
-	 *
-	 * @param characterStream The reader for the content
-	 * @param start The start position/offset (0-based, per general stream/reader contracts).
-	 * @param length The amount to extract
-	 *
-	 * @return The content as string
-	 */
-	private static String extractString(Reader characterStream, long start, int length) {
-		if ( length == 0 ) {
-			return "";
-		}
-		StringBuilder stringBuilder = new StringBuilder( length );
-		try {
-			long skipped = characterStream.skip( start );
-			if ( skipped != start ) {
-				throw new HibernateException( "Unable to skip needed bytes" );
-			}
-			final int bufferSize = getSuggestedBufferSize( length );
-			char[] buffer = new char[bufferSize];
-			int charsRead = 0;
-			while ( true ) {
-				int amountRead = characterStream.read( buffer, 0, bufferSize );
-				if ( amountRead == -1 ) {
-					break;
-				}
-				stringBuilder.append( buffer, 0, amountRead );
-				if ( amountRead < bufferSize ) {
-					// we have read up to the end of stream
-					break;
-				}
-				charsRead += amountRead;
-				if ( charsRead >= length ) {
-					break;
-				}
-			}
-		}
-		catch ( IOException ioe ) {
-			throw new HibernateException( "IOException occurred reading a binary value", ioe );
-		}
-		return stringBuilder.toString();
+		return DataHelper.extractString( reader, lengthHint );
 	}
 
 	/**
@@ -142,7 +60,7 @@ public final class LobStreamDataHelper {
 	 * @return The content portion as a reader
 	 */
 	public static Object subStream(Reader characterStream, long start, int length) {
-		return new StringReader( extractString( characterStream, start, length ) );
+		return DataHelper.subStream( characterStream, start, length );
 	}
 
 	/**
@@ -153,40 +71,7 @@ public final class LobStreamDataHelper {
 	 * @return The contents as a {@code byte[]}
 	 */
 	public static byte[] extractBytes(InputStream inputStream) {
-		if ( inputStream instanceof BinaryStream ) {
-			return ( (BinaryStream) inputStream ).getBytes();
-		}
-
-		// read the stream contents into a buffer and return the complete byte[]
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
-		try {
-			byte[] buffer = new byte[BUFFER_SIZE];
-			while (true) {
-				int amountRead = inputStream.read( buffer );
-				if ( amountRead == -1 ) {
-					break;
-				}
-				outputStream.write( buffer, 0, amountRead );
-			}
-		}
-		catch ( IOException ioe ) {
-			throw new HibernateException( "IOException occurred reading a binary value", ioe );
-		}
-		finally {
-			try {
-				inputStream.close();
-			}
-			catch ( IOException e ) {
-				LOG.unableToCloseInputStream( e );
-			}
-			try {
-				outputStream.close();
-			}
-			catch ( IOException e ) {
-				LOG.unableToCloseOutputStream( e );
-			}
-		}
-		return outputStream.toByteArray();
+		return DataHelper.extractBytes( inputStream );
 	}
 
 	/**
@@ -199,42 +84,7 @@ public final class LobStreamDataHelper {
 	 * @return The extracted bytes
 	 */
 	public static byte[] extractBytes(InputStream inputStream, long start, int length) {
-		if ( inputStream instanceof BinaryStream && Integer.MAX_VALUE > start ) {
-			byte[] data = ( (BinaryStream) inputStream ).getBytes();
-			int size = Math.min( length, data.length );
-			byte[] result = new byte[size];
-			System.arraycopy( data, (int) start, result, 0, size );
-			return result;
-		}
-
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream( length );
-		try {
-			long skipped = inputStream.skip( start );
-			if ( skipped != start ) {
-				throw new HibernateException( "Unable to skip needed bytes" );
-			}
-			byte[] buffer = new byte[BUFFER_SIZE];
-			int bytesRead = 0;
-			while ( true ) {
-				int amountRead = inputStream.read( buffer );
-				if ( amountRead == -1 ) {
-					break;
-				}
-				outputStream.write( buffer, 0, amountRead );
-				if ( amountRead < buffer.length ) {
-					// we have read up to the end of stream
-					break;
-				}
-				bytesRead += amountRead;
-				if ( bytesRead >= length ) {
-					break;
-				}
-			}
-		}
-		catch ( IOException ioe ) {
-			throw new HibernateException( "IOException occurred reading a binary value", ioe );
-		}
-		return outputStream.toByteArray();
+		return DataHelper.extractBytes( inputStream, start, length );
 	}
 
 	/**
@@ -247,7 +97,7 @@ public final class LobStreamDataHelper {
 	 * @return The extracted bytes as a stream
 	 */
 	public static InputStream subStream(InputStream inputStream, long start, int length) {
-		return new BinaryStreamImpl( extractBytes( inputStream, start, length ) );
+		return DataHelper.subStream( inputStream, start, length );
 	}
 
 	/**
@@ -258,43 +108,6 @@ public final class LobStreamDataHelper {
 	 * @return The content as string
 	 */
 	public static String extractString(final Clob value) {
-		try {
-			final Reader characterStream = value.getCharacterStream();
-			final long length = determineLengthForBufferSizing( value );
-			return length > Integer.MAX_VALUE
-					? extractString( characterStream, Integer.MAX_VALUE )
-					: extractString( characterStream, (int) length );
-		}
-		catch ( SQLException e ) {
-			throw new HibernateException( "Unable to access lob stream", e );
-		}
-	}
-
-	/**
-	 * Determine a buffer size for reading the underlying character stream.
-	 *
-	 * @param value The Clob value
-	 *
-	 * @return The appropriate buffer size ({@link Clob#length()} by default.
-	 *
-	 */
-	private static long determineLengthForBufferSizing(Clob value) throws SQLException {
-		try {
-			return value.length();
-		}
-		catch ( SQLFeatureNotSupportedException e ) {
-			return BUFFER_SIZE;
-		}
-	}
-
-	/**
-	 * Make sure we allocate a buffer sized not bigger than 2048,
-	 * not higher than what is actually needed, and at least one.
-	 * 
-	 * @param lengthHint the expected size of the full value
-	 * @return the buffer size
-	 */
-	private static int getSuggestedBufferSize(final int lengthHint) {
-		return Math.max( 1, Math.min( lengthHint , BUFFER_SIZE ) );
+		return DataHelper.extractString( value );
 	}
 }
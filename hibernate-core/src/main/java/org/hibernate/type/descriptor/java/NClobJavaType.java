@@ -97,8 +97,8 @@ public class NClobJavaType extends AbstractClassJavaType<NClob> {
 					return (X) ( (NClobImplementer) value ).getUnderlyingStream();
 				}
 				else {
-					// otherwise we need to build a BinaryStream...
-					return (X) new CharacterStreamImpl( DataHelper.extractString( value.getCharacterStream() ) );
+					// otherwise we need to build a CharacterStream, reading the NClob lazily...
+					return (X) new CharacterStreamImpl( value.getCharacterStream(), value.length() );
 				}
 			}
 			else if (NClob.class.isAssignableFrom( type )) {
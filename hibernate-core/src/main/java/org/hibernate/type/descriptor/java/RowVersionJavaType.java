@@ -9,10 +9,8 @@ package org.hibernate.type.descriptor.java;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.sql.Blob;
-import java.sql.SQLException;
 import java.util.Arrays;
 
-import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.BinaryStream;
 import org.hibernate.engine.jdbc.internal.BinaryStreamImpl;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -113,12 +111,7 @@ public class RowVersionJavaType extends AbstractClassJavaType<byte[]>
 			return DataHelper.extractBytes( (InputStream) value );
 		}
 		if ( value instanceof Blob || DataHelper.isNClob( value.getClass() ) ) {
-			try {
-				return DataHelper.extractBytes( ( (Blob) value ).getBinaryStream() );
-			}
-			catch ( SQLException e ) {
-				throw new HibernateException( "Unable to access lob stream", e );
-			}
+			return DataHelper.extractBytes( (Blob) value );
 		}
 
 		throw unknownWrap( value.getClass() );
@@ -10,11 +10,9 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.sql.Blob;
-import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Arrays;
 
-import org.hibernate.HibernateException;
 import org.hibernate.annotations.Immutable;
 import org.hibernate.engine.jdbc.BinaryStream;
 import org.hibernate.engine.jdbc.internal.BinaryStreamImpl;
@@ -130,12 +128,7 @@ public class SerializableJavaType<T extends Serializable> extends AbstractClassJ
 			return fromBytes( DataHelper.extractBytes( (InputStream) value ) );
 		}
 		else if (value instanceof Blob) {
-			try {
-				return fromBytes( DataHelper.extractBytes( ((Blob) value).getBinaryStream() ) );
-			}
-			catch ( SQLException e ) {
-				throw new HibernateException( e );
-			}
+			return fromBytes( DataHelper.extractBytes( (Blob) value ) );
 		}
 		else if ( getJavaTypeClass().isInstance( value ) ) {
 			return (T) value;
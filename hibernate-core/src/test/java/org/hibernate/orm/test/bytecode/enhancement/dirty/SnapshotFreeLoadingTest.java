@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Version;
+
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PreUpdateEventListener;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link AvailableSettings#SNAPSHOT_FREE_LOADING}
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class SnapshotFreeLoadingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { VersionedDocument.class, UnversionedDocument.class };
+	}
+
+	@Override
+	protected void addSettings(Map<String,Object> settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.SNAPSHOT_FREE_LOADING, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction( session -> {
+			session.persist( new VersionedDocument( 1L, "first" ) );
+			session.persist( new UnversionedDocument( 1L, "first" ) );
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testLoadedStateIsDiscarded() {
+		inTransaction( session -> {
+			final VersionedDocument document = session.get( VersionedDocument.class, 1L );
+			assertNull( entry( session, document ).getLoadedState() );
+
+			final UnversionedDocument unversioned = session.get( UnversionedDocument.class, 1L );
+			assertNotNull( entry( session, unversioned ).getLoadedState() );
+
+			document.setTitle( "second" );
+		} );
+
+		inTransaction( session -> {
+			final VersionedDocument document = session.get( VersionedDocument.class, 1L );
+			assertEquals( "second", document.getTitle() );
+			assertEquals( 1, document.getVersion() );
+
+			// an unmodified entity must not be updated
+			session.flush();
+			assertEquals( 1, document.getVersion() );
+			assertNull( entry( session, document ).getLoadedState() );
+		} );
+	}
+
+	@Test
+	public void testLoadedStateIsRetainedWithInterceptor() {
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory().withOptions()
+				.interceptor( new Interceptor() {} )
+				.openSession() ) {
+			final VersionedDocument document = session.get( VersionedDocument.class, 1L );
+			assertNotNull( entry( session, document ).getLoadedState() );
+		}
+	}
+
+	@Test
+	public void testLoadedStateIsRetainedWithUpdateListener() {
+		final List<Object[]> oldStates = new ArrayList<>();
+		final EventListenerGroup<PreUpdateEventListener> listeners = sessionFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.PRE_UPDATE );
+		listeners.appendListener( event -> {
+			oldStates.add( event.getOldState() );
+			return false;
+		} );
+		try {
+			inTransaction( session -> {
+				final VersionedDocument document = session.get( VersionedDocument.class, 1L );
+				assertNotNull( entry( session, document ).getLoadedState() );
+				document.setTitle( "second" );
+			} );
+		}
+		finally {
+			listeners.clearListeners();
+		}
+
+		assertEquals( 1, oldStates.size() );
+		assertNotNull( oldStates.get( 0 ) );
+		assertTrue( Arrays.asList( oldStates.get( 0 ) ).contains( "first" ) );
+	}
+
+	@Test
+	public void testVersionIsUsedForOptimisticLocking() {
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory().openSession() ) {
+			session.beginTransaction();
+			try {
+				final VersionedDocument document = session.get( VersionedDocument.class, 1L );
+				session.createNativeMutationQuery( "update VersionedDocument set version = version + 1" )
+						.executeUpdate();
+				document.setTitle( "second" );
+				session.flush();
+				fail( "Expecting an optimistic lock failure" );
+			}
+			catch (OptimisticLockException expected) {
+				// expected
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+
+	private static EntityEntry entry(SessionImplementor session, Object entity) {
+		return session.getPersistenceContextInternal().getEntry( entity );
+	}
+
+	@Entity(name = "VersionedDocument")
+	public static class VersionedDocument {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@Version
+		private int version;
+
+		public VersionedDocument() {
+		}
+
+		public VersionedDocument(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+	}
+
+	@Entity(name = "UnversionedDocument")
+	public static class UnversionedDocument {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public UnversionedDocument() {
+		}
+
+		public UnversionedDocument(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
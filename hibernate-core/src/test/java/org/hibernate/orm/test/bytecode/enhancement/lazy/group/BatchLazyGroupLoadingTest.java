@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.lazy.group;
+
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that a lazy attribute group is initialized for a batch of
+ * instances when the entity has a batch size.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class BatchLazyGroupLoadingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Report.class };
+	}
+
+	@Override
+	protected void addSettings(Map<String,Object> settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		inTransaction( session -> {
+			for ( long i = 1; i <= 25; i++ ) {
+				session.persist( new Report( i, "report " + i, "content of " + i, "summary of " + i ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testLazyGroupIsBatchLoaded() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		inTransaction( session -> {
+			final List<Report> reports = session.createQuery( "from Report order by id", Report.class ).list();
+			statistics.clear();
+
+			for ( Report report : reports ) {
+				assertEquals( "content of " + report.id, report.getContent() );
+				assertTrue( Hibernate.isPropertyInitialized( report, "summary" ) );
+			}
+			// 25 instances with a batch size of 10
+			assertEquals( 3, statistics.getPrepareStatementCount() );
+		} );
+	}
+
+	@Test
+	public void testInitializedInstancesAreSkipped() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		inTransaction( session -> {
+			final List<Report> reports = session.createQuery( "from Report order by id", Report.class ).list();
+			// written attributes are not overwritten when the group is loaded
+			reports.get( 1 ).setContent( "changed" );
+			statistics.clear();
+
+			assertEquals( "content of 1", reports.get( 0 ).getContent() );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+			assertEquals( "changed", reports.get( 1 ).getContent() );
+			assertEquals( "summary of 2", reports.get( 1 ).getSummary() );
+			assertFalse( Hibernate.isPropertyInitialized( reports.get( 20 ), "content" ) );
+		} );
+	}
+
+	@Test
+	public void testEvictedInstancesAreSkipped() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		inTransaction( session -> {
+			final List<Report> reports = session.createQuery( "from Report order by id", Report.class ).list();
+			session.evict( reports.get( 1 ) );
+			statistics.clear();
+
+			assertEquals( "content of 1", reports.get( 0 ).getContent() );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+			assertFalse( Hibernate.isPropertyInitialized( reports.get( 1 ), "content" ) );
+			assertTrue( Hibernate.isPropertyInitialized( reports.get( 10 ), "content" ) );
+			assertFalse( Hibernate.isPropertyInitialized( reports.get( 11 ), "content" ) );
+		} );
+	}
+
+	@Entity(name = "Report")
+	@Table(name = "batch_lazy_report")
+	@BatchSize(size = 10)
+	public static class Report {
+		@Id
+		Long id;
+
+		String title;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("text")
+		String content;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("text")
+		String summary;
+
+		public Report() {
+		}
+
+		public Report(Long id, String title, String content, String summary) {
+			this.id = id;
+			this.title = title;
+			this.content = content;
+			this.summary = summary;
+		}
+
+		public String getContent() {
+			return content;
+		}
+
+		public void setContent(String content) {
+			this.content = content;
+		}
+
+		public String getSummary() {
+			return summary;
+		}
+	}
+}
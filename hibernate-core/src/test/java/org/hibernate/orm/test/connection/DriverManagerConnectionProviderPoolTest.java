@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The built-in connection pool bounds the time spent waiting for a connection,
+ * retires and validates connections, and reports leaks
+ */
+public class DriverManagerConnectionProviderPoolTest {
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@AfterEach
+	public void stopPool() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testAcquisitionTimesOutWhenThePoolIsExhausted() throws SQLException {
+		startPool( 2, DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, "100" );
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		assertThat( connectionProvider.getActiveConnectionCount() ).isEqualTo( 2 );
+
+		assertThatThrownBy( connectionProvider::getConnection ).isInstanceOf( HibernateException.class );
+		assertThat( connectionProvider.getAcquisitionTimeoutCount() ).isEqualTo( 1 );
+
+		connectionProvider.closeConnection( first );
+		assertThat( connectionProvider.getConnection() ).isSameAs( first );
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+		assertThat( connectionProvider.getActiveConnectionCount() ).isEqualTo( 0 );
+		assertThat( connectionProvider.getIdleConnectionCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testWaitingThreadObtainsReturnedConnection() throws Exception {
+		startPool( 1 );
+		final Connection connection = connectionProvider.getConnection();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Connection> waiting = executor.submit( connectionProvider::getConnection );
+			while ( connectionProvider.getPendingAcquisitionCount() == 0 ) {
+				Thread.sleep( 10 );
+			}
+			connectionProvider.closeConnection( connection );
+			assertThat( waiting.get( 10, TimeUnit.SECONDS ) ).isSameAs( connection );
+			connectionProvider.closeConnection( connection );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConnectionIsRetiredAfterItsMaximumLifetime() throws Exception {
+		startPool( 1, DriverManagerConnectionProviderImpl.MAX_LIFETIME, "1" );
+		final Connection connection = connectionProvider.getConnection();
+		Thread.sleep( 1100 );
+		connectionProvider.closeConnection( connection );
+		assertThat( connection.isClosed() ).isTrue();
+		assertThat( connectionProvider.getIdleConnectionCount() ).isEqualTo( 0 );
+
+		final Connection replacement = connectionProvider.getConnection();
+		assertThat( replacement ).isNotSameAs( connection );
+		connectionProvider.closeConnection( replacement );
+	}
+
+	@Test
+	public void testInvalidConnectionIsNotBorrowed() throws SQLException {
+		startPool( 1, DriverManagerConnectionProviderImpl.VALIDATION_TIMEOUT, "1" );
+		final Connection connection = connectionProvider.getConnection();
+		connectionProvider.closeConnection( connection );
+		// broken while idle
+		connection.close();
+
+		final Connection replacement = connectionProvider.getConnection();
+		assertThat( replacement ).isNotSameAs( connection );
+		assertThat( replacement.isClosed() ).isFalse();
+		connectionProvider.closeConnection( replacement );
+	}
+
+	@Test
+	public void testLeakedConnectionIsReported() throws Exception {
+		startPool(
+				1,
+				DriverManagerConnectionProviderImpl.LEAK_DETECTION_THRESHOLD, "1",
+				DriverManagerConnectionProviderImpl.VALIDATION_INTERVAL, "1"
+		);
+		final Connection leaked = connectionProvider.getConnection();
+		// leak detection runs with the validation of the pool
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( connectionProvider.getLeakedConnectionCount() == 0 && System.nanoTime() < deadline ) {
+			Thread.sleep( 100 );
+		}
+		assertThat( connectionProvider.getLeakedConnectionCount() ).isEqualTo( 1 );
+		connectionProvider.closeConnection( leaked );
+	}
+
+	@Test
+	public void testContention() throws Exception {
+		final int poolSize = 4;
+		final int threads = 16;
+		final int borrowsPerThread = 200;
+		startPool( poolSize );
+
+		final AtomicInteger borrowed = new AtomicInteger();
+		final AtomicInteger maxBorrowed = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < borrowsPerThread; j++ ) {
+						final Connection connection = connectionProvider.getConnection();
+						maxBorrowed.accumulateAndGet( borrowed.incrementAndGet(), Math::max );
+						borrowed.decrementAndGet();
+						connectionProvider.closeConnection( connection );
+					}
+					return null;
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 60, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat( maxBorrowed.get() ).isLessThanOrEqualTo( poolSize );
+		assertThat( connectionProvider.getActiveConnectionCount() ).isEqualTo( 0 );
+		assertThat( connectionProvider.getIdleConnectionCount() ).isLessThanOrEqualTo( poolSize );
+		assertThat( connectionProvider.getAcquisitionTimeoutCount() ).isEqualTo( 0 );
+	}
+
+	private void startPool(int poolSize, String... settings) {
+		final Map<String, Object> configuration = new HashMap<>();
+		ConnectionProviderBuilder.getConnectionProviderProperties( "pool" )
+				.forEach( (key, value) -> configuration.put( (String) key, value ) );
+		configuration.put( AvailableSettings.POOL_SIZE, Integer.toString( poolSize ) );
+		for ( int i = 0; i < settings.length; i += 2 ) {
+			configuration.put( settings[i], settings[i + 1] );
+		}
+		connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( configuration );
+	}
+}
@@ -13,6 +13,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
 import org.hibernate.LockMode;
+import org.hibernate.engine.internal.EntityEntryExtraStateHolder;
 import org.hibernate.engine.internal.MutableEntityEntry;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -23,6 +24,8 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -93,6 +96,23 @@ public class EntityEntryTest {
 		assertEquals( true, entityEntry.isBeingReplicated() );
 	}
 
+	@Test
+	public void testRareStateIsOnlyAllocatedWhenNeeded() {
+		EntityEntry entityEntry = createEntityEntry( null );
+
+		assertEquals( 42L, entityEntry.getId() );
+		assertNull( entityEntry.getRowId() );
+		assertNull( entityEntry.getDeletedState() );
+		assertNull( entityEntry.getExtraState( EntityEntryExtraStateHolder.class ) );
+
+		entityEntry = createEntityEntry( 1L );
+
+		assertEquals( 42L, entityEntry.getId() );
+		assertEquals( 1L, entityEntry.getRowId() );
+		assertNull( entityEntry.getDeletedState() );
+		assertNotNull( entityEntry.getExtraState( EntityEntryExtraStateHolder.class ) );
+	}
+
 	@Test
 	public void testSerializationAndDeserializationKeepCorrectPackedAttributes() throws Exception {
 		EntityEntry entityEntry = createEntityEntry();
@@ -112,6 +132,10 @@ public class EntityEntryTest {
 	}
 
 	private EntityEntry createEntityEntry() {
+		return createEntityEntry( 1L );
+	}
+
+	private EntityEntry createEntityEntry(Object rowId) {
 
 		return new MutableEntityEntry(
 				// status
@@ -119,7 +143,7 @@ public class EntityEntryTest {
 				// loadedState
 				new Object[]{},
 				// rowId
-				1L,
+				rowId,
 				// id
 				42L,
 				// version
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plans are cached when filters are enabled or a graph is applied,
+ * keyed by the filter names and parameter shapes and by the graph
+ */
+@DomainModel(annotatedClasses = {
+		FilterQueryPlanCachingTest.Shelf.class,
+		FilterQueryPlanCachingTest.Item.class
+})
+@SessionFactory
+public class FilterQueryPlanCachingTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf shelf = new Shelf( 1, "Top" );
+			session.persist( shelf );
+			session.persist( new Item( 1, 10, shelf ) );
+			session.persist( new Item( 2, 20, shelf ) );
+			session.persist( new Item( 3, 30, shelf ) );
+		} );
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Item" ).executeUpdate();
+			session.createMutationQuery( "delete Shelf" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFilterValuesShareThePlan(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		scope.inTransaction( session -> {
+			session.enableFilter( "minPrice" ).setParameter( "min", 15 );
+			assertThat( findIds( session ) ).containsExactly( 2, 3 );
+			final int cachedPlans = interpretationCache.getNumberOfCachedQueryPlans();
+			assertThat( cachedPlans ).isEqualTo( 1 );
+
+			session.enableFilter( "minPrice" ).setParameter( "min", 25 );
+			assertThat( findIds( session ) ).containsExactly( 3 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( cachedPlans );
+		} );
+		scope.inTransaction( session -> {
+			session.enableFilter( "minPrice" ).setParameter( "min", 5 );
+			assertThat( findIds( session ) ).containsExactly( 1, 2, 3 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+			session.disableFilter( "minPrice" );
+			assertThat( findIds( session ) ).containsExactly( 1, 2, 3 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testFilterValueListsOfSameSizeShareThePlan(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		scope.inTransaction( session -> {
+			session.enableFilter( "prices" ).setParameterList( "prices", List.of( 10, 30 ) );
+			assertThat( findIds( session ) ).containsExactly( 1, 3 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+			session.enableFilter( "prices" ).setParameterList( "prices", List.of( 20, 30 ) );
+			assertThat( findIds( session ) ).containsExactly( 2, 3 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+			session.enableFilter( "prices" ).setParameterList( "prices", List.of( 20 ) );
+			assertThat( findIds( session ) ).containsExactly( 2 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testGraphIsPartOfTheKey(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				final RootGraph<Item> graph = session.createEntityGraph( Item.class );
+				graph.addAttributeNodes( "shelf" );
+				final List<Item> items = session.createQuery( "from Item", Item.class )
+						.applyGraph( graph, GraphSemantic.FETCH )
+						.getResultList();
+				assertThat( items ).hasSize( 3 );
+				assertThat( Hibernate.isInitialized( items.get( 0 ).getShelf() ) ).isTrue();
+				assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+				session.clear();
+			}
+
+			final List<Item> items = session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			assertThat( Hibernate.isInitialized( items.get( 0 ).getShelf() ) ).isFalse();
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+		} );
+	}
+
+	private static List<Integer> findIds(org.hibernate.Session session) {
+		return session.createSelectionQuery( "select i.id from Item i order by i.id", Integer.class )
+				.getResultList();
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	@FilterDef(name = "minPrice", parameters = @ParamDef(name = "min", type = Integer.class))
+	@FilterDef(name = "prices", parameters = @ParamDef(name = "prices", type = Integer.class))
+	@Filter(name = "minPrice", condition = "price >= :min")
+	@Filter(name = "prices", condition = "price in (:prices)")
+	public static class Item {
+		@Id
+		private Integer id;
+		private Integer price;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Shelf shelf;
+
+		public Item() {
+		}
+
+		public Item(Integer id, Integer price, Shelf shelf) {
+			this.id = id;
+			this.price = price;
+			this.shelf = shelf;
+		}
+
+		public Shelf getShelf() {
+			return shelf;
+		}
+	}
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.OptimizerFactory;
 import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
@@ -175,6 +176,23 @@ public class OptimizerConcurrencyUnitTest extends BaseUnitTestCase {
 		}
 	}
 
+	@Test
+	public void testSourceIsNotAccessedWhileHoldingMonitor() {
+		// a virtual thread blocked on the database while holding a monitor pins its carrier thread
+		final Optimizer optimizer = buildOptimizer( 1, 10 );
+		final SourceMock sequence = new SourceMock( 1, 10 ) {
+			@Override
+			public synchronized IntegralDataTypeHolder getNextValue() {
+				assertThat( Thread.holdsLock( optimizer ) ).isFalse();
+				return super.getNextValue();
+			}
+		};
+		for ( int i = 0; i < 25; i++ ) {
+			optimizer.generate( sequence );
+		}
+		assertThat( sequence.getTimesCalled() ).isGreaterThan( 0 );
+	}
+
 	private Optimizer buildOptimizer(long initial, int increment) {
 		return OptimizerFactory.buildOptimizer( optimizerDescriptor.getExternalName(), Long.class, increment, initial );
 	}
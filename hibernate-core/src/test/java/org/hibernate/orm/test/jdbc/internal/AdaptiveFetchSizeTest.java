@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The fetch size of queries is derived from their limit, or learnt from the
+ * number of rows read by their previous executions
+ */
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJdbcDriverProxying.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.ADAPTIVE_FETCH_SIZE, value = "true"),
+				@Setting(name = AvailableSettings.MIN_ADAPTIVE_FETCH_SIZE, value = "5"),
+				@Setting(name = AvailableSettings.MAX_ADAPTIVE_FETCH_SIZE, value = "50")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = AdaptiveFetchSizeTest.SpyConnectionProviderProvider.class
+		)
+)
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.Book.class)
+@SessionFactory
+public class AdaptiveFetchSizeTest {
+	private static final PreparedStatementSpyConnectionProvider CONNECTION_PROVIDER =
+			new PreparedStatementSpyConnectionProvider( true, false );
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 60; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFetchSizeIsDerivedFromTheLimit(SessionFactoryScope scope) {
+		assertFetchSize( scope, 3, session -> session.createSelectionQuery( "from Book order by id", Book.class )
+				.setMaxResults( 3 )
+				.getResultList() );
+		assertFetchSize( scope, 50, session -> session.createSelectionQuery( "from Book order by id", Book.class )
+				.setMaxResults( 100 )
+				.getResultList() );
+	}
+
+	@Test
+	public void testFetchSizeIsLearnt(SessionFactoryScope scope) {
+		final Consumer<Session> query = session -> assertThat(
+				session.createSelectionQuery( "from Book where id <= 20", Book.class ).getResultList()
+		).hasSize( 20 );
+		assertFetchSize( scope, 5, query );
+		assertFetchSize( scope, 21, query );
+		assertFetchSize( scope, 21, query );
+
+		final Consumer<Session> largeQuery = session -> assertThat(
+				session.createSelectionQuery( "from Book", Book.class ).getResultList()
+		).hasSize( 60 );
+		assertFetchSize( scope, 5, largeQuery );
+		assertFetchSize( scope, 50, largeQuery );
+	}
+
+	@Test
+	public void testExplicitFetchSizeIsKept(SessionFactoryScope scope) {
+		assertFetchSize( scope, 7, session -> session.createSelectionQuery( "from Book where id > 10", Book.class )
+				.setFetchSize( 7 )
+				.getResultList() );
+	}
+
+	private static void assertFetchSize(SessionFactoryScope scope, int fetchSize, Consumer<Session> query) {
+		CONNECTION_PROVIDER.clear();
+		scope.inTransaction( query::accept );
+		final List<PreparedStatement> statements = CONNECTION_PROVIDER.getPreparedStatements();
+		assertThat( statements ).hasSize( 1 );
+		try {
+			verify( statements.get( 0 ), times( 1 ) ).setFetchSize( anyInt() );
+			verify( statements.get( 0 ) ).setFetchSize( fetchSize );
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	public static class SpyConnectionProviderProvider
+			implements SettingProvider.Provider<PreparedStatementSpyConnectionProvider> {
+		@Override
+		public PreparedStatementSpyConnectionProvider getSetting() {
+			return CONNECTION_PROVIDER;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
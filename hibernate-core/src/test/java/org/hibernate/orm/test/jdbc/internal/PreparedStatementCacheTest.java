@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prepared statements are reused while their connection is held
+ */
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "2"))
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Book.class)
+@SessionFactory(generateStatistics = true)
+public class PreparedStatementCacheTest {
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Emma" ) );
+			session.persist( new Book( 2, "Persuasion" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testRepeatedQueryReusesStatement(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.find( Book.class, 1 ).getTitle() ).isEqualTo( "Emma" );
+				assertThat( session.find( Book.class, 2 ).getTitle() ).isEqualTo( "Persuasion" );
+				session.clear();
+			}
+		} );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testStatementIsResetOnReuse(SessionFactoryScope scope) {
+		final String sql = "select title from Book where id = ?";
+		scope.inTransaction( session -> {
+			final JdbcCoordinator jdbcCoordinator = ( (SessionImplementor) session ).getJdbcCoordinator();
+			final PreparedStatement first = jdbcCoordinator.getStatementPreparer().prepareQueryStatement( sql, false, null );
+			try {
+				first.setInt( 1, 1 );
+				first.setMaxRows( 10 );
+				first.setQueryTimeout( 10 );
+				first.setFetchSize( 7 );
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( first );
+
+			final PreparedStatement second = jdbcCoordinator.getStatementPreparer().prepareQueryStatement( sql, false, null );
+			assertThat( second ).isSameAs( first );
+			try {
+				assertThat( second.getMaxRows() ).isEqualTo( 0 );
+				assertThat( second.getQueryTimeout() ).isEqualTo( 0 );
+				assertThat( second.getFetchSize() ).isNotEqualTo( 7 );
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( second );
+		} );
+	}
+
+	@Test
+	public void testResultSetTypeIsPartOfTheKey(SessionFactoryScope scope) {
+		final String sql = "select title from Book";
+		scope.inTransaction( session -> {
+			final JdbcCoordinator jdbcCoordinator = ( (SessionImplementor) session ).getJdbcCoordinator();
+			final PreparedStatement forwardOnly = jdbcCoordinator.getStatementPreparer()
+					.prepareQueryStatement( sql, false, ScrollMode.FORWARD_ONLY );
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( forwardOnly );
+
+			final PreparedStatement scrollable = jdbcCoordinator.getStatementPreparer()
+					.prepareQueryStatement( sql, false, ScrollMode.SCROLL_INSENSITIVE );
+			assertThat( scrollable ).isNotSameAs( forwardOnly );
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( scrollable );
+		} );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementIsClosed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final JdbcCoordinator jdbcCoordinator = ( (SessionImplementor) session ).getJdbcCoordinator();
+			final PreparedStatement first = prepareAndRelease( jdbcCoordinator, "select title from Book where id = 1" );
+			prepareAndRelease( jdbcCoordinator, "select title from Book where id = 2" );
+			prepareAndRelease( jdbcCoordinator, "select title from Book where id = 3" );
+			assertThat( isClosed( first ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testCachedStatementsAreClosedWithTheConnection(SessionFactoryScope scope) {
+		final AtomicReference<PreparedStatement> statement = new AtomicReference<>();
+		scope.inTransaction( session -> {
+			final JdbcCoordinator jdbcCoordinator = ( (SessionImplementor) session ).getJdbcCoordinator();
+			statement.set( prepareAndRelease( jdbcCoordinator, "select title from Book" ) );
+			assertThat( isClosed( statement.get() ) ).isFalse();
+		} );
+		assertThat( isClosed( statement.get() ) ).isTrue();
+	}
+
+	private static PreparedStatement prepareAndRelease(JdbcCoordinator jdbcCoordinator, String sql) {
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareQueryStatement( sql, false, null );
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		return statement;
+	}
+
+	private static boolean isClosed(PreparedStatement statement) {
+		try {
+			return statement.isClosed();
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
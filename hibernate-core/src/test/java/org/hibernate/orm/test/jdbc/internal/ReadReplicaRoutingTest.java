@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.ReadOnlySessionException;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Read-only sessions obtain their connections from the read replica, and
+ * refuse to write
+ */
+@ServiceRegistry(settings = @Setting(
+		name = AvailableSettings.CONNECTION_PROVIDER,
+		value = "org.hibernate.orm.test.jdbc.internal.ReadReplicaRoutingTest$ReplicaCountingConnectionProvider"
+))
+@DomainModel(annotatedClasses = ReadReplicaRoutingTest.Book.class)
+@SessionFactory
+public class ReadReplicaRoutingTest {
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "Emma" ) ) );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void resetCounter() {
+		ReplicaCountingConnectionProvider.REPLICA_CONNECTIONS.set( 0 );
+	}
+
+	@Test
+	public void testReadOnlySessionReadsFromReplica(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			final Book book = session.find( Book.class, 1 );
+			assertThat( book.getTitle() ).isEqualTo( "Emma" );
+			assertThat( session.isReadOnly( book ) ).isTrue();
+		}
+		assertThat( ReplicaCountingConnectionProvider.REPLICA_CONNECTIONS.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReadWriteSessionUsesPrimary(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ) ).isNotNull() );
+		assertThat( ReplicaCountingConnectionProvider.REPLICA_CONNECTIONS.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testReadOnlySessionRefusesToWrite(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			try {
+				session.persist( new Book( 2, "Persuasion" ) );
+				final PersistenceException exception = assertThrows( PersistenceException.class, session::flush );
+				assertThat( exception ).hasCauseInstanceOf( ReadOnlySessionException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			try {
+				final PersistenceException exception = assertThrows(
+						PersistenceException.class,
+						() -> session.createMutationQuery( "delete Book" ).executeUpdate()
+				);
+				assertThat( exception ).hasCauseInstanceOf( ReadOnlySessionException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+		scope.inSession( session -> assertThat( session.find( Book.class, 1 ) ).isNotNull() );
+	}
+
+	@Test
+	public void testReadOnlySessionRefusesMutationsExecutedAsQueries(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			try {
+				assertThat( session.createNativeQuery( "select title from Book", String.class ).getResultList() )
+						.containsExactly( "Emma" );
+				final PersistenceException exception = assertThrows(
+						PersistenceException.class,
+						() -> session.createNativeQuery(
+								"/* returning */ insert into Book (id, title) values (4, 'Sanditon') returning id",
+								Integer.class
+						).getResultList()
+				);
+				assertThat( exception ).hasCauseInstanceOf( ReadOnlySessionException.class );
+				final PersistenceException procedureException = assertThrows(
+						PersistenceException.class,
+						() -> session.createStoredProcedureQuery( "archive_books" ).execute()
+				);
+				assertThat( procedureException ).hasCauseInstanceOf( ReadOnlySessionException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+		scope.inSession( session -> assertThat( session.find( Book.class, 4 ) ).isNull() );
+	}
+
+	@Test
+	public void testReadOnlyStatelessSession(SessionFactoryScope scope) {
+		try ( StatelessSession session = scope.getSessionFactory().withStatelessOptions().readOnly( true ).openStatelessSession() ) {
+			assertThat( session.get( Book.class, 1 ) ).isNotNull();
+			session.beginTransaction();
+			try {
+				assertThrows( ReadOnlySessionException.class, () -> session.insert( new Book( 3, "Sanditon" ) ) );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+		assertThat( ReplicaCountingConnectionProvider.REPLICA_CONNECTIONS.get() ).isGreaterThan( 0 );
+	}
+
+	public static class ReplicaCountingConnectionProvider extends DriverManagerConnectionProviderImpl
+			implements ReadReplicaConnectionProvider {
+		static final AtomicInteger REPLICA_CONNECTIONS = new AtomicInteger();
+
+		@Override
+		public Connection getReadOnlyConnection() throws SQLException {
+			REPLICA_CONNECTIONS.incrementAndGet();
+			return getConnection();
+		}
+
+		@Override
+		public void closeReadOnlyConnection(Connection connection) throws SQLException {
+			closeConnection( connection );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.lob;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Arrays;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.engine.jdbc.CharacterStream;
+import org.hibernate.type.descriptor.java.BlobJavaType;
+import org.hibernate.type.descriptor.java.ClobJavaType;
+import org.hibernate.type.descriptor.java.DataHelper;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * LOBs are read into memory only when their value is needed,
+ * and then without buffering them more than once
+ */
+@DomainModel(annotatedClasses = LobStreamingTest.Document.class)
+@SessionFactory
+public class LobStreamingTest {
+
+	@Test
+	public void testBytesAreExtractedToTheKnownLength() {
+		final byte[] bytes = bytes( 10_000 );
+		assertThat( DataHelper.extractBytes( new ByteArrayInputStream( bytes ), bytes.length ) ).isEqualTo( bytes );
+		// the length is wrong, but the content is still read entirely
+		assertThat( DataHelper.extractBytes( new ByteArrayInputStream( bytes ), 100 ) ).isEqualTo( bytes );
+		assertThat( DataHelper.extractBytes( new ByteArrayInputStream( bytes ), 20_000 ) ).isEqualTo( bytes );
+		assertThat( DataHelper.extractBytes( new ByteArrayInputStream( bytes ), -1 ) ).isEqualTo( bytes );
+	}
+
+	@Test
+	public void testBlobIsStreamedWhenBound() throws Exception {
+		final byte[] bytes = bytes( 10_000 );
+		final InputStream stream = new ByteArrayInputStream( bytes );
+		final Blob blob = mock( Blob.class );
+		when( blob.length() ).thenReturn( (long) bytes.length );
+		when( blob.getBinaryStream() ).thenReturn( stream );
+
+		final BinaryStream binaryStream = BlobJavaType.INSTANCE.unwrap( blob, BinaryStream.class, null );
+		assertThat( binaryStream.getLength() ).isEqualTo( bytes.length );
+		assertThat( binaryStream.getInputStream() ).isSameAs( stream );
+		assertThat( stream.available() ).isEqualTo( bytes.length );
+
+		assertThat( BlobJavaType.INSTANCE.unwrap( new SerialBlob( bytes ), byte[].class, null ) ).isEqualTo( bytes );
+	}
+
+	@Test
+	public void testClobIsStreamedWhenBound() throws SQLException {
+		final String string = "x".repeat( 10_000 );
+		final StringReader reader = new StringReader( string );
+		final Clob clob = mock( Clob.class );
+		when( clob.length() ).thenReturn( (long) string.length() );
+		when( clob.getCharacterStream() ).thenReturn( reader );
+
+		final CharacterStream characterStream = ClobJavaType.INSTANCE.unwrap( clob, CharacterStream.class, null );
+		assertThat( characterStream.getLength() ).isEqualTo( string.length() );
+		assertThat( characterStream.asReader() ).isSameAs( reader );
+		assertThat( characterStream.asString() ).isEqualTo( string );
+
+		assertThat( ClobJavaType.INSTANCE.unwrap( new SerialClob( string.toCharArray() ), String.class, null ) )
+				.isEqualTo( string );
+	}
+
+	@Test
+	public void testStreamedBlobRoundTrip(SessionFactoryScope scope) {
+		final byte[] bytes = bytes( 100_000 );
+		scope.inTransaction( session -> {
+			final Document document = new Document();
+			document.id = 1;
+			document.content = session.getLobHelper().createBlob( new ByteArrayInputStream( bytes ), bytes.length );
+			document.bytes = bytes;
+			session.persist( document );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.bytes ).isEqualTo( bytes );
+			try {
+				assertThat( document.content.length() ).isEqualTo( bytes.length );
+				assertThat( DataHelper.extractBytes( document.content ) ).isEqualTo( bytes );
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+			session.remove( document );
+		} );
+	}
+
+	private static byte[] bytes(int length) {
+		final byte[] bytes = new byte[length];
+		Arrays.fill( bytes, (byte) 7 );
+		bytes[length - 1] = 9;
+		return bytes;
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+		@Lob
+		private Blob content;
+		@Lob
+		private byte[] bytes;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Queries with multi-valued parameters share a cached plan, whatever the
+ * number of values bound
+ */
+@DomainModel(annotatedClasses = InListParameterPlanCachingTest.Person.class)
+@SessionFactory
+public class InListParameterPlanCachingTest {
+	private static final String QUERY = "select p.id from Person p where p.id in (:ids) order by p.id";
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 5; id++ ) {
+				session.persist( new Person( id, "Person " + id ) );
+			}
+		} );
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDifferentCardinalities(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		scope.inTransaction( session -> {
+			assertThat( findIds( session, List.of( 1, 3 ) ) ).containsExactly( 1, 3 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+			assertThat( findIds( session, List.of( 2, 4, 5 ) ) ).containsExactly( 2, 4, 5 );
+			assertThat( findIds( session, List.of( 5, 2 ) ) ).containsExactly( 2, 5 );
+			assertThat( findIds( session, List.of( 6 ) ) ).isEmpty();
+			assertThat( findIds( session, List.of( 4, 2, 5 ) ) ).containsExactly( 2, 4, 5 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testSingleAndMultipleValues(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		scope.inTransaction( session -> {
+			assertThat(
+					session.createSelectionQuery( QUERY, Integer.class ).setParameter( "ids", 2 ).getResultList()
+			).containsExactly( 2 );
+			assertThat( findIds( session, List.of( 1, 2 ) ) ).containsExactly( 1, 2 );
+			assertThat(
+					session.createSelectionQuery( QUERY, Integer.class ).setParameter( "ids", 3 ).getResultList()
+			).containsExactly( 3 );
+			assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		} );
+	}
+
+	private static List<Integer> findIds(org.hibernate.Session session, List<Integer> ids) {
+		return session.createSelectionQuery( QUERY, Integer.class )
+				.setParameterList( "ids", ids )
+				.getResultList();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
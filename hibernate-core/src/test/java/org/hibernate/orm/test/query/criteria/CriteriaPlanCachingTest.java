@@ -0,0 +1,260 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.criteria;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Criteria queries of the same structure share their query plan
+ */
+@DomainModel(annotatedClasses = {
+		CriteriaPlanCachingTest.Author.class,
+		CriteriaPlanCachingTest.Book.class
+})
+@SessionFactory(generateStatistics = true)
+public class CriteriaPlanCachingTest {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Tolkien" );
+			session.persist( author );
+			session.persist( new Book( 1, "The Hobbit", author ) );
+			session.persist( new Book( 2, "The Silmarillion", author ) );
+			session.persist( new Book( 3, "Unfinished Tales", author ) );
+		} );
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testValuesShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			assertThat( findTitles( session.getCriteriaBuilder(), session, "The Hobbit" ) )
+					.containsExactly( "The Hobbit" );
+			assertThat( findTitles( session.getCriteriaBuilder(), session, "Unfinished Tales" ) )
+					.containsExactly( "Unfinished Tales" );
+			assertThat( findTitles( session.getCriteriaBuilder(), session, "The Lord of the Rings" ) )
+					.isEmpty();
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testParametersShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final JpaRoot<Book> root = query.from( Book.class );
+				final JpaParameterExpression<Integer> parameter = cb.parameter( Integer.class );
+				query.where( cb.or( cb.equal( root.get( "id" ), parameter ), cb.lessThan( root.get( "id" ), parameter ) ) );
+				assertThat( session.createQuery( query ).setParameter( parameter, id ).getResultList() )
+						.hasSize( id );
+			}
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDifferentStructures(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<Book> joining = cb.createQuery( Book.class );
+			joining.from( Book.class ).join( "author" );
+			final List<Book> joined = session.createQuery( joining ).getResultList();
+			assertThat( joined ).hasSize( 3 );
+			assertThat( Hibernate.isInitialized( joined.get( 0 ).getAuthor() ) ).isFalse();
+			session.clear();
+
+			final JpaCriteriaQuery<Book> fetching = cb.createQuery( Book.class );
+			fetching.from( Book.class ).fetch( "author" );
+			final List<Book> fetched = session.createQuery( fetching ).getResultList();
+			assertThat( fetched ).hasSize( 3 );
+			assertThat( Hibernate.isInitialized( fetched.get( 0 ).getAuthor() ) ).isTrue();
+			session.clear();
+
+			final JpaCriteriaQuery<Book> ordered = cb.createQuery( Book.class );
+			final JpaRoot<Book> root = ordered.from( Book.class );
+			ordered.orderBy( cb.desc( root.get( "id" ) ) );
+			assertThat( session.createQuery( ordered ).getResultList().get( 0 ).getId() ).isEqualTo( 3 );
+			ordered.fetch( 1 );
+			assertThat( session.createQuery( ordered ).getResultList() ).hasSize( 1 );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 4 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLiteralsLikeGeneratedAliases(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( String literal : new String[] { "alias_1", "alias_2" } ) {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+				final JpaRoot<Book> root = query.from( Book.class );
+				query.select( cb.literal( literal ) );
+				query.where( cb.equal( root.get( "id" ), 1 ) );
+				assertThat( session.createQuery( query ).getResultList() ).containsExactly( literal );
+			}
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testRenderedQueriesShareThePlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( String title : new String[] { "The Hobbit", "Unfinished Tales" } ) {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final JpaRoot<Book> root = query.from( Book.class );
+				query.select( root );
+				query.where( cb.equal( root.get( "title" ), title ) );
+				// rendering assigns generated aliases to the from-elements, and renders the values
+				assertThat( ( (SqmSelectStatement<Book>) query ).toHqlString() ).contains( title );
+				assertThat( session.createQuery( query ).getResultList() ).hasSize( 1 );
+			}
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testArithmeticGrouping(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+
+			final JpaCriteriaQuery<Integer> grouped = cb.createQuery( Integer.class );
+			final JpaRoot<Book> groupedRoot = grouped.from( Book.class );
+			final Expression<Integer> groupedId = groupedRoot.get( "id" );
+			grouped.select( cb.prod( cb.sum( groupedId, groupedId ), groupedId ) );
+			grouped.where( cb.equal( groupedId, 2 ) );
+			assertThat( session.createQuery( grouped ).getSingleResult() ).isEqualTo( 8 );
+
+			final JpaCriteriaQuery<Integer> ungrouped = cb.createQuery( Integer.class );
+			final JpaRoot<Book> ungroupedRoot = ungrouped.from( Book.class );
+			final Expression<Integer> ungroupedId = ungroupedRoot.get( "id" );
+			ungrouped.select( cb.sum( ungroupedId, cb.prod( ungroupedId, ungroupedId ) ) );
+			ungrouped.where( cb.equal( ungroupedId, 2 ) );
+			assertThat( session.createQuery( ungrouped ).getSingleResult() ).isEqualTo( 6 );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testQueryIsExecutedAgain(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Book> root = query.from( Book.class );
+			final JpaParameterExpression<Integer> parameter = cb.parameter( Integer.class );
+			query.select( root.get( "title" ) );
+			query.where( cb.equal( root.get( "id" ), parameter ) );
+
+			final TypedQuery<String> typedQuery = session.createQuery( query );
+			assertThat( typedQuery.setParameter( parameter, 1 ).getResultList() ).containsExactly( "The Hobbit" );
+			assertThat( typedQuery.setParameter( parameter, 3 ).getResultList() ).containsExactly( "Unfinished Tales" );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static List<String> findTitles(
+			HibernateCriteriaBuilder cb,
+			org.hibernate.Session session,
+			String title) {
+		final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+		final JpaRoot<Book> root = query.from( Book.class );
+		query.select( root.get( "title" ) );
+		query.where( cb.equal( root.get( "title" ), title ) );
+		return session.createQuery( query ).getResultList();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.hql.internal.SemanticQueryBuilder;
+import org.hibernate.query.hql.internal.SimpleSelectQueryRecognizer;
+import org.hibernate.query.hql.spi.SqmCreationOptions;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Simple select queries are built without the parse tree, into the same SQM
+ * tree as the full grammar would produce
+ */
+@DomainModel(annotatedClasses = {
+		SimpleSelectQueryRecognizerTest.Publisher.class,
+		SimpleSelectQueryRecognizerTest.Book.class
+})
+@SessionFactory
+public class SimpleSelectQueryRecognizerTest {
+	private static final SqmCreationOptions OPTIONS = () -> false;
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1, "Allen & Unwin" );
+			session.persist( publisher );
+			session.persist( new Book( 1, "The Hobbit", 1937, publisher ) );
+			session.persist( new Book( 2, "The Fellowship of the Ring", 1954, publisher ) );
+			session.persist( new Book( 3, "The Silmarillion", 1977, publisher ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Publisher" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRecognizedQueries(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		for ( String query : List.of(
+				"from Book",
+				"from Book b",
+				"FROM Book as b WHERE b.title = :title",
+				"select b from Book b where b.published >= :min and b.published < :max and b.title <> :title",
+				"from Book b where b.published > :published order by b.published desc, b.title",
+				"from org.hibernate.orm.test.query.hql.SimpleSelectQueryRecognizerTest$Book b order by b.id asc"
+		) ) {
+			final SqmSelectStatement<?> recognized = SimpleSelectQueryRecognizer.recognize(
+					query,
+					null,
+					OPTIONS,
+					sessionFactory
+			);
+			assertThat( recognized ).as( query ).isNotNull();
+			assertThat( render( recognized ) ).isEqualTo( render( parse( query, sessionFactory ) ) );
+			assertThat( recognized.getSqmParameters() )
+					.hasSameSizeAs( ( (SqmSelectStatement<?>) parse( query, sessionFactory ) ).getSqmParameters() );
+		}
+	}
+
+	@Test
+	public void testUnrecognizedQueries(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		for ( String query : List.of(
+				"select b.title from Book b",
+				"from Book b where b.title = 'The Hobbit'",
+				"from Book b where b.published = ?1",
+				"from Book b where b.publisher = :publisher",
+				"from Book b where b.title = :title or b.published = :published",
+				"from Book b join b.publisher p",
+				"from Book b order by b.title nulls first",
+				"from Book b order by title",
+				"from Book where title = :title",
+				"from Book b where c.title = :title",
+				"from Unknown u",
+				"from Book b where b.unknown = :unknown",
+				"from Book b limit 1"
+		) ) {
+			assertThat( SimpleSelectQueryRecognizer.recognize( query, null, OPTIONS, sessionFactory ) )
+					.as( query )
+					.isNull();
+		}
+		assertThat( SimpleSelectQueryRecognizer.recognize( "from Book", null, () -> true, sessionFactory ) ).isNull();
+		assertThat( SimpleSelectQueryRecognizer.recognize( "from Book", Object[].class, OPTIONS, sessionFactory ) ).isNull();
+	}
+
+	@Test
+	public void testExecution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> titles = session.createSelectionQuery(
+							"from Book b where b.published >= :published and b.title <> :title order by b.published desc",
+							Book.class
+					)
+					.setParameter( "published", 1950 )
+					.setParameter( "title", "The Silmarillion" )
+					.getResultList()
+					.stream()
+					.map( Book::getTitle )
+					.collect( Collectors.toList() );
+			assertThat( titles ).containsExactly( "The Fellowship of the Ring" );
+		} );
+	}
+
+	private static String render(SqmStatement<?> statement) {
+		// generated aliases differ from one tree to the other
+		return statement.toHqlString().replaceAll( "alias_\\d+", "alias" );
+	}
+
+	private static SqmStatement<?> parse(String query, SessionFactoryImplementor sessionFactory) {
+		return SemanticQueryBuilder.buildSemanticModel(
+				HqlParseTreeBuilder.INSTANCE.buildHqlParser( query ).statement(),
+				null,
+				OPTIONS,
+				sessionFactory
+		);
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		private Integer published;
+		@ManyToOne
+		private Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Integer published, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+			this.publisher = publisher;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
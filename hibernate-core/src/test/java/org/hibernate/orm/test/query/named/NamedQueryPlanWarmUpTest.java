@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.named;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.test.query.named.simple.SimpleEntityWithNamedQueries;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The plans of named queries are built while the SessionFactory is created
+ */
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.QUERY_PLAN_WARM_UP, value = "true"),
+		settingProviders = @SettingProvider(
+				provider = NamedQueryPlanWarmUpTest.TestSettingProvider.class,
+				settingName = AvailableSettings.DIALECT
+		)
+)
+@DomainModel(annotatedClasses = SimpleEntityWithNamedQueries.class)
+@SessionFactory(generateStatistics = true)
+@RequiresDialect(H2Dialect.class)
+public class NamedQueryPlanWarmUpTest {
+
+	@Test
+	public void testFirstExecutionUsesWarmedUpPlan(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getNamedQueryWarmUpCount() ).isEqualTo( 2 );
+		assertThat( statistics.getNamedQueryWarmUpTime() ).isGreaterThanOrEqualTo( 0 );
+
+		statistics.clear();
+		final int translations = TestDialect.SELECT_TRANSLATIONS.get();
+		scope.inTransaction( session -> {
+			session.createNamedQuery( "restricted", SimpleEntityWithNamedQueries.class )
+					.setParameter( "name", "first" )
+					.getResultList();
+			session.createNamedQuery( "simple" ).getResultList();
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThanOrEqualTo( 2 );
+		assertThat( statistics.getNamedQueryWarmUpCount() ).isEqualTo( 2 );
+		// the SQL translations built by the warm-up were reused
+		assertThat( TestDialect.SELECT_TRANSLATIONS.get() ).isEqualTo( translations );
+	}
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public SqlAstTranslatorFactory getSqlAstTranslatorFactory() {
+			final SqlAstTranslatorFactory factory = super.getSqlAstTranslatorFactory();
+			return new StandardSqlAstTranslatorFactory() {
+				@Override
+				public SqlAstTranslator<JdbcSelect> buildSelectTranslator(
+						SessionFactoryImplementor sessionFactory,
+						SelectStatement statement) {
+					SELECT_TRANSLATIONS.incrementAndGet();
+					return factory.buildSelectTranslator( sessionFactory, statement );
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.named;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.query.named.simple.SimpleEntityWithNamedQueries;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Named HQL queries recorded in the validation cache file are not checked
+ * again at startup, unless the mapping model changed
+ */
+public class NamedQueryValidationCacheTest {
+
+	@Test
+	public void testValidatedQueriesAreNotCheckedAgain(@TempDir Path directory) throws IOException {
+		final Path cacheFile = directory.resolve( "named-queries.properties" );
+
+		assertThat( checkedQueriesAtStartup( cacheFile ) ).isEqualTo( 2 );
+		assertThat( cacheFile ).exists();
+		assertThat( Files.readString( cacheFile, StandardCharsets.UTF_8 ) ).contains( "query.simple", "query.restricted" );
+
+		assertThat( checkedQueriesAtStartup( cacheFile ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testChangedFingerprintChecksAgain(@TempDir Path directory) throws IOException {
+		final Path cacheFile = directory.resolve( "named-queries.properties" );
+
+		assertThat( checkedQueriesAtStartup( cacheFile ) ).isEqualTo( 2 );
+		final String content = Files.readString( cacheFile, StandardCharsets.UTF_8 );
+		Files.writeString(
+				cacheFile,
+				content.replaceAll( "fingerprint=\\w+", "fingerprint=outdated" ),
+				StandardCharsets.UTF_8
+		);
+
+		assertThat( checkedQueriesAtStartup( cacheFile ) ).isEqualTo( 2 );
+		assertThat( Files.readString( cacheFile, StandardCharsets.UTF_8 ) ).doesNotContain( "fingerprint=outdated" );
+	}
+
+	private static long checkedQueriesAtStartup(Path cacheFile) {
+		try ( StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true )
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECK_CACHE, cacheFile.toString() )
+				.build() ) {
+			try ( SessionFactory sessionFactory = new MetadataSources( registry )
+					.addAnnotatedClass( SimpleEntityWithNamedQueries.class )
+					.buildMetadata()
+					.buildSessionFactory() ) {
+				return sessionFactory.getStatistics().getQueryPlanCacheMissCount();
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.resource.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.hibernate.HibernateException;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for ResourceRegistryStandardImpl.
+ */
+public class ResourceRegistryStandardImplTests {
+
+	@Test
+	public void testSingleStatementAndResultSet() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( statement, true );
+		registry.register( resultSet, statement );
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+		assertThatThrownBy( () -> registry.register( statement, true ) ).isInstanceOf( HibernateException.class );
+
+		registry.release( resultSet, statement );
+		verify( resultSet ).close();
+		verify( statement, never() ).close();
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.release( statement );
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+
+		// the registry is reusable once empty
+		registry.register( statement, false );
+		registry.release( statement );
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testReleasingStatementClosesItsResultSet() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( statement, false );
+		registry.register( resultSet, statement );
+		registry.release( statement );
+		verify( resultSet ).close();
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testSeveralStatementsAndResultSets() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement first = mock( Statement.class );
+		final Statement second = mock( Statement.class );
+		final ResultSet firstResultSet = mock( ResultSet.class );
+		final ResultSet otherResultSet = mock( ResultSet.class );
+		final ResultSet secondResultSet = mock( ResultSet.class );
+
+		registry.register( first, false );
+		registry.register( second, false );
+		assertThatThrownBy( () -> registry.register( second, false ) ).isInstanceOf( HibernateException.class );
+		registry.register( firstResultSet, first );
+		registry.register( otherResultSet, first );
+		registry.register( secondResultSet, second );
+
+		registry.release( firstResultSet, first );
+		verify( firstResultSet ).close();
+		verify( otherResultSet, never() ).close();
+
+		registry.release( second );
+		verify( secondResultSet ).close();
+		verify( second ).close();
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.releaseResources();
+		verify( otherResultSet ).close();
+		verify( first ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testReleaseResources() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( statement, true );
+		registry.register( resultSet, statement );
+		registry.releaseResources();
+		verify( resultSet ).close();
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+}
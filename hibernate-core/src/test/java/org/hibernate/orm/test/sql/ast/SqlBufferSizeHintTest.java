@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.ast;
+
+import org.hibernate.orm.test.mapping.SmokeTests.SimpleEntity;
+import org.hibernate.sql.ast.spi.SqlBufferSizeHint;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * The initial capacity of the SQL buffer of the translators adapts to the
+ * length of the rendered SQL
+ */
+@DomainModel(annotatedClasses = SimpleEntity.class)
+@SessionFactory
+public class SqlBufferSizeHintTest {
+
+	@Test
+	public void testHintAdapts() {
+		final SqlBufferSizeHint hint = new SqlBufferSizeHint();
+		assertThat( hint.getSizeHint(), is( SqlBufferSizeHint.INITIAL_SIZE_HINT ) );
+
+		// grows right away
+		hint.recordSqlLength( 1_000 );
+		assertThat( hint.getSizeHint(), is( 1_000 ) );
+
+		// shrinks slowly
+		hint.recordSqlLength( 200 );
+		assertThat( hint.getSizeHint(), is( 900 ) );
+		for ( int i = 0; i < 100; i++ ) {
+			hint.recordSqlLength( 200 );
+		}
+		assertThat( hint.getSizeHint(), lessThan( 210 ) );
+	}
+
+	@Test
+	public void testHintIsCapped() {
+		final SqlBufferSizeHint hint = new SqlBufferSizeHint();
+		hint.recordSqlLength( SqlBufferSizeHint.MAX_SIZE_HINT * 4 );
+		assertThat( hint.getSizeHint(), is( SqlBufferSizeHint.MAX_SIZE_HINT ) );
+		hint.recordSqlLength( SqlBufferSizeHint.MAX_SIZE_HINT + 1 );
+		assertThat( hint.getSizeHint(), is( SqlBufferSizeHint.MAX_SIZE_HINT ) );
+	}
+
+	@Test
+	public void testHintIsKeptPerSessionFactory(SessionFactoryScope scope) {
+		final SqlBufferSizeHint hint = scope.getSessionFactory().getJdbcServices().getSqlBufferSizeHint();
+		assertThat( hint, sameInstance( scope.getSessionFactory().getJdbcServices().getSqlBufferSizeHint() ) );
+		assertThat( hint, not( sameInstance( new SqlBufferSizeHint() ) ) );
+
+		final StringBuilder hql = new StringBuilder( "select e from SimpleEntity e where e.id in (0" );
+		for ( int i = 1; i < 500; i++ ) {
+			hql.append( ", " ).append( i );
+		}
+		hql.append( ')' );
+		scope.inTransaction(
+				session -> session.createSelectionQuery( hql.toString(), SimpleEntity.class ).getResultList()
+		);
+		assertThat( hint.getSizeHint(), greaterThan( SqlBufferSizeHint.INITIAL_SIZE_HINT ) );
+		assertThat( hint.getSizeHint(), not( greaterThan( SqlBufferSizeHint.MAX_SIZE_HINT ) ) );
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.LockMode;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The initializers created for the results of a query are reused by its later
+ * executions, which must not see any state left by the previous ones
+ */
+@DomainModel(annotatedClasses = {
+		InitializerReuseTests.Department.class,
+		InitializerReuseTests.Employee.class
+})
+@SessionFactory
+public class InitializerReuseTests {
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Department research = new Department( 1, "Research" );
+			final Department sales = new Department( 2, "Sales" );
+			session.persist( research );
+			session.persist( sales );
+			final Employee director = new Employee( 1, "Ada", new Address( "Main Street", "London" ), research, null );
+			final Employee manager = new Employee( 2, "Grace", new Address( "Oak Lane", "Arlington" ), research, director );
+			session.persist( director );
+			session.persist( manager );
+			session.persist( new Employee( 3, "Alan", new Address( "Park Road", "Manchester" ), research, manager ) );
+			session.persist( new Employee( 4, "Joan", null, sales, director ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "update Employee set manager = null" ).executeUpdate();
+			session.createMutationQuery( "delete Employee" ).executeUpdate();
+			session.createMutationQuery( "delete Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRepeatedFetchJoinQuery(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Department> departments = session.createSelectionQuery(
+						"select distinct d from Department d join fetch d.employees order by d.id",
+						Department.class
+				).getResultList();
+				assertThat( departments ).extracting( Department::getName ).containsExactly( "Research", "Sales" );
+				assertThat( names( departments.get( 0 ).getEmployees() ) ).containsExactlyInAnyOrder( "Ada", "Grace", "Alan" );
+				assertThat( names( departments.get( 1 ).getEmployees() ) ).containsExactly( "Joan" );
+				for ( Employee employee : departments.get( 0 ).getEmployees() ) {
+					assertThat( employee.getDepartment() ).isSameAs( departments.get( 0 ) );
+					assertThat( employee.getAddress() ).isNotNull();
+				}
+				assertThat( departments.get( 1 ).getEmployees().iterator().next().getAddress() ).isNull();
+			} );
+		}
+	}
+
+	@Test
+	public void testNestedExecutionsOfTheSameLoader(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				// loading the managers executes the same loader while the first execution is processing its row
+				final Employee employee = session.find( Employee.class, 3 );
+				assertThat( employee.getName() ).isEqualTo( "Alan" );
+				assertThat( employee.getManager().getName() ).isEqualTo( "Grace" );
+				assertThat( employee.getManager().getManager().getName() ).isEqualTo( "Ada" );
+				assertThat( employee.getManager().getManager().getManager() ).isNull();
+				assertThat( employee.getAddress().getCity() ).isEqualTo( "Manchester" );
+			} );
+		}
+	}
+
+	@Test
+	public void testLockModeIsNotReused(SessionFactoryScope scope) {
+		final String query = "from Employee e where e.name = :name";
+		scope.inTransaction( session -> {
+			final Employee employee = session.createSelectionQuery( query, Employee.class )
+					.setParameter( "name", "Joan" )
+					.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+					.getSingleResult();
+			assertThat( session.getCurrentLockMode( employee ) ).isEqualTo( LockMode.PESSIMISTIC_WRITE );
+		} );
+		scope.inTransaction( session -> {
+			final Employee employee = session.createSelectionQuery( query, Employee.class )
+					.setParameter( "name", "Joan" )
+					.getSingleResult();
+			assertThat( session.getCurrentLockMode( employee ) ).isEqualTo( LockMode.READ );
+		} );
+	}
+
+	private static Set<String> names(Set<Employee> employees) {
+		return employees.stream().map( Employee::getName ).collect( Collectors.toSet() );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "department")
+		private Set<Employee> employees = new HashSet<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Set<Employee> getEmployees() {
+			return employees;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+		private String name;
+		@Embedded
+		private Address address;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+		@ManyToOne
+		private Employee manager;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Address address, Department department, Employee manager) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+			this.department = department;
+			this.manager = manager;
+			department.getEmployees().add( this );
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public Department getDepartment() {
+			return department;
+		}
+
+		public Employee getManager() {
+			return manager;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.List;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows with a single result are read without building a row array
+ */
+@DomainModel(annotatedClasses = SingleResultRowTests.Measurement.class)
+@SessionFactory
+public class SingleResultRowTests {
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Measurement( 1, 10L, "first" ) );
+			session.persist( new Measurement( 2, null, null ) );
+			session.persist( new Measurement( 3, 3_000_000_000L, "third" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Long> values = session.createSelectionQuery(
+					"select m.reading from Measurement m order by m.id",
+					Long.class
+			).getResultList();
+			assertThat( values ).containsExactly( 10L, null, 3_000_000_000L );
+
+			@SuppressWarnings("unchecked")
+			final List<Object> labels = session.createQuery( "select m.label from Measurement m order by m.id" )
+					.getResultList();
+			assertThat( labels ).containsExactly( "first", null, "third" );
+
+			final List<Measurement> measurements = session.createSelectionQuery(
+					"from Measurement m order by m.id",
+					Measurement.class
+			).getResultList();
+			assertThat( measurements ).extracting( Measurement::getLabel ).containsExactly( "first", null, "third" );
+		} );
+	}
+
+	@Test
+	public void testMultipleResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select m.id, m.reading from Measurement m order by m.id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( 3 );
+			assertThat( rows.get( 1 ) ).containsExactly( 2, null );
+
+			final List<Object[]> singleElementRows = session.createSelectionQuery(
+					"select m.label from Measurement m order by m.id",
+					Object[].class
+			).getResultList();
+			assertThat( singleElementRows.get( 0 ) ).containsExactly( "first" );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+		private Long reading;
+		private String label;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, Long reading, String label) {
+			this.id = id;
+			this.reading = reading;
+			this.label = label;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.internal.LatencyHistogramImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		for ( long micros = 1; micros <= 1000; micros++ ) {
+			histogram.record( TimeUnit.MICROSECONDS.toNanos( micros ) );
+		}
+
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getTotalTime() ).isEqualTo( TimeUnit.MICROSECONDS.toNanos( 500_500 ) );
+		assertThat( histogram.getMaxTime() ).isEqualTo( 1_000_000 );
+		assertThat( (double) histogram.getTimeAtPercentile( 50 ) ).isCloseTo( 500_000, within( 500_000 * 0.0625 ) );
+		assertThat( (double) histogram.getTimeAtPercentile( 99 ) ).isCloseTo( 990_000, within( 990_000 * 0.0625 ) );
+		assertThat( histogram.getTimeAtPercentile( 100 ) ).isEqualTo( 1_000_000 );
+		assertThat( histogram.getTimeAtPercentile( 0 ) ).isLessThanOrEqualTo( 1_000 + 1_000 / 16 );
+	}
+
+	@Test
+	public void testSmallAndLargeValues() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		assertThat( histogram.getTimeAtPercentile( 99 ) ).isEqualTo( 0 );
+
+		histogram.record( -5 );
+		histogram.record( 7 );
+		histogram.record( TimeUnit.DAYS.toNanos( 1 ) );
+
+		assertThat( histogram.getCount() ).isEqualTo( 3 );
+		assertThat( histogram.getTimeAtPercentile( 10 ) ).isEqualTo( 0 );
+		assertThat( histogram.getTimeAtPercentile( 50 ) ).isEqualTo( 7 );
+		assertThat( histogram.getMaxTime() ).isEqualTo( TimeUnit.DAYS.toNanos( 1 ) );
+		assertThat( histogram.getTimeAtPercentile( 100 ) ).isLessThanOrEqualTo( TimeUnit.DAYS.toNanos( 1 ) );
+	}
+
+	@Test
+	public void testClear() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		histogram.record( 1_000 );
+		histogram.clear();
+
+		assertThat( histogram.getCount() ).isEqualTo( 0 );
+		assertThat( histogram.getTotalTime() ).isEqualTo( 0 );
+		assertThat( histogram.getMaxTime() ).isEqualTo( 0 );
+		assertThat( histogram.getTimeAtPercentile( 50 ) ).isEqualTo( 0 );
+	}
+}
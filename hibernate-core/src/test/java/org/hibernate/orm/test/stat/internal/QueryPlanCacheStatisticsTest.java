@@ -344,6 +344,37 @@ public class QueryPlanCacheStatisticsTest {
 		} );
 	}
 
+	@Test
+	public void testNonSelectQueryPlanHitCount(SessionFactoryScope scope) {
+		final String UPDATE = "update Employee e set e.name = e.name where e.id = :id";
+
+		for ( long id = 1; id <= 3; id++ ) {
+			final long employeeId = id;
+			scope.inTransaction( entityManager -> {
+				final int updated = entityManager.createQuery( UPDATE )
+						.setParameter( "id", employeeId )
+						.executeUpdate();
+				assertEquals( 1, updated );
+			} );
+		}
+
+		//The plan is built for the first execution, and found in the cache for the others
+		assertEquals( 1, statistics.getNonSelectQueryPlanCacheMissCount() );
+		assertEquals( 2, statistics.getNonSelectQueryPlanCacheHitCount() );
+
+		scope.inTransaction( entityManager -> {
+			final int updated = entityManager.createQuery( UPDATE + " or e.id in (:ids)" )
+					.setParameter( "id", 1L )
+					.setParameterList( "ids", List.of( 2L, 3L ) )
+					.executeUpdate();
+			assertEquals( 3, updated );
+		} );
+
+		//The plans of statements with multi-valued parameters are not cached
+		assertEquals( 1, statistics.getNonSelectQueryPlanCacheMissCount() );
+		assertEquals( 2, statistics.getNonSelectQueryPlanCacheHitCount() );
+	}
+
 	private void assertQueryStatistics(String hql, int hitCount) {
 		QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
 
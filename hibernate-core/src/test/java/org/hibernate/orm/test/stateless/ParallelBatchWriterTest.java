@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ParallelBatchWriteException;
+import org.hibernate.ParallelBatchWriter;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DomainModel(annotatedClasses = ParallelBatchWriterTest.Item.class)
+@SessionFactory
+public class ParallelBatchWriterTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testParallelInsertUpdateDelete(SessionFactoryScope scope) {
+		try ( ParallelBatchWriter writer = openWriter( scope ) ) {
+			for ( int i = 0; i < 100; i++ ) {
+				writer.insert( new Item( i, "item " + i ) );
+			}
+		}
+		assertEquals( 100L, count( scope ) );
+
+		try ( ParallelBatchWriter writer = openWriter( scope ) ) {
+			for ( int i = 0; i < 50; i++ ) {
+				writer.update( new Item( i, "updated" ) );
+			}
+			writer.flush();
+			for ( int i = 50; i < 100; i++ ) {
+				writer.delete( new Item( i, null ) );
+			}
+		}
+		assertEquals( 50L, count( scope ) );
+		scope.inTransaction(
+				session -> assertEquals(
+						50L,
+						session.createSelectionQuery( "select count(*) from Item where name = 'updated'", Long.class )
+								.getSingleResult()
+				)
+		);
+	}
+
+	@Test
+	public void testFailedBatchIsReportedAndOthersAreCommitted(SessionFactoryScope scope) {
+		try ( ParallelBatchWriter writer = openWriter( scope ) ) {
+			for ( int i = 0; i < 10; i++ ) {
+				writer.insert( new Item( i, "item " + i ) );
+			}
+		}
+
+		final ParallelBatchWriter writer = openWriter( scope );
+		final ParallelBatchWriteException exception = assertThrows(
+				ParallelBatchWriteException.class,
+				() -> {
+					// the first batch collides with the rows inserted above, and
+					// is partitioned by entity name whether it is given or not
+					for ( int i = 0; i < 10; i++ ) {
+						if ( i % 2 == 0 ) {
+							writer.insert( new Item( i, "duplicate " + i ) );
+						}
+						else {
+							writer.insert( Item.class.getName(), new Item( i, "duplicate " + i ) );
+						}
+					}
+					for ( int i = 100; i < 120; i++ ) {
+						writer.insert( new Item( i, "item " + i ) );
+					}
+					writer.close();
+				}
+		);
+		assertEquals( 1, exception.getFailedBatches().size() );
+		final ParallelBatchWriteException.FailedBatch failedBatch = exception.getFailedBatches().get( 0 );
+		assertEquals( Item.class.getName() + "#INSERT", failedBatch.getPartition() );
+		assertEquals( 10, failedBatch.getEntities().size() );
+
+		assertEquals( 30L, count( scope ) );
+	}
+
+	@Test
+	public void testBatchIsKeptWhenInterruptedWhileDispatching(SessionFactoryScope scope) {
+		try ( ParallelBatchWriter writer = openWriter( scope ) ) {
+			for ( int i = 0; i < 9; i++ ) {
+				writer.insert( new Item( i, "item " + i ) );
+			}
+			Thread.currentThread().interrupt();
+			try {
+				assertThrows( HibernateException.class, () -> writer.insert( new Item( 9, "item 9" ) ) );
+			}
+			finally {
+				// clear the interrupt
+				Thread.interrupted();
+			}
+		}
+		assertEquals( 10L, count( scope ) );
+	}
+
+	private static ParallelBatchWriter openWriter(SessionFactoryScope scope) {
+		return scope.getSessionFactory().withStatelessOptions().openParallelBatchWriter( 3, 10 );
+	}
+
+	private static long count(SessionFactoryScope scope) {
+		return scope.fromTransaction(
+				session -> session.createSelectionQuery( "select count(*) from Item", Long.class ).getSingleResult()
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "parallel_item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
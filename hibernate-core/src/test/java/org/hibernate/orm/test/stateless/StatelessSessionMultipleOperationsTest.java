@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(annotatedClasses = StatelessSessionMultipleOperationsTest.Product.class)
+@SessionFactory(generateStatistics = true)
+public class StatelessSessionMultipleOperationsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertAndUpdateMultipleAreBatched(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( products( 0, 20, "new" ) ) );
+		assertEquals( 1L, statistics.getPrepareStatementCount() );
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( products( 0, 20, "changed" ) ) );
+		assertEquals( 1L, statistics.getPrepareStatementCount() );
+
+		assertEquals( 20L, countByName( scope, "changed" ) );
+	}
+
+	@Test
+	public void testUpsertMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insertMultiple( products( 0, 10, "old" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.upsertMultiple( products( 5, 15, "upserted" ) ) );
+		// one query for the existing rows, then one update batch followed by one insert batch
+		assertEquals( 3L, statistics.getPrepareStatementCount() );
+
+		assertEquals( 5L, countByName( scope, "old" ) );
+		assertEquals( 10L, countByName( scope, "upserted" ) );
+	}
+
+	@Test
+	public void testUpsertMultipleInterleaved(SessionFactoryScope scope) {
+		final List<Product> existing = new ArrayList<>();
+		for ( int i = 0; i < 20; i += 2 ) {
+			existing.add( new Product( i, "old" ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( existing ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		// alternating existing and new rows still result in one batch for each operation
+		scope.inStatelessTransaction( session -> session.upsertMultiple( products( 0, 20, "upserted" ) ) );
+		assertEquals( 3L, statistics.getPrepareStatementCount() );
+
+		assertEquals( 0L, countByName( scope, "old" ) );
+		assertEquals( 20L, countByName( scope, "upserted" ) );
+	}
+
+	private static List<Product> products(int from, int to, String name) {
+		final List<Product> products = new ArrayList<>();
+		for ( int i = from; i < to; i++ ) {
+			products.add( new Product( i, name ) );
+		}
+		return products;
+	}
+
+	private static long countByName(SessionFactoryScope scope, String name) {
+		return scope.fromTransaction(
+				session -> session.createSelectionQuery( "select count(*) from Product where name = :name", Long.class )
+						.setParameter( "name", name )
+						.getSingleResult()
+		);
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "multiple_product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
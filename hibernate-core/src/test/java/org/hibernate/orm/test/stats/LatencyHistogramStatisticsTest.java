@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency histograms are recorded when enabled
+ */
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATISTICS_LATENCY_HISTOGRAMS, value = "true"))
+@DomainModel(annotatedClasses = LatencyHistogramStatisticsTest.Book.class)
+@SessionFactory(generateStatistics = true)
+public class LatencyHistogramStatisticsTest {
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Emma" ) );
+			session.persist( new Book( 2, "Persuasion" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testHistograms(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final String query = "from Book order by id";
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createSelectionQuery( query, Book.class ).getResultList() ).hasSize( 2 );
+			}
+		} );
+
+		assertRecorded( statistics.getQueryExecutionLatencyHistogram(), 3 );
+		assertRecorded( statistics.getRowProcessingLatencyHistogram(), 3 );
+		assertRecorded( statistics.getStatementExecutionLatencyHistogram(), 3 );
+		assertRecorded( statistics.getConnectionAcquisitionLatencyHistogram(), 1 );
+		assertRecorded( statistics.getQueryStatistics( query ).getExecutionLatencyHistogram(), 3 );
+
+		statistics.clear();
+		assertThat( statistics.getQueryExecutionLatencyHistogram().getCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testHistogramsOnlyRecordedWhenStatisticsAreEnabled(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statistics.setStatisticsEnabled( false );
+		try {
+			scope.inTransaction( session -> session.find( Book.class, 1 ) );
+		}
+		finally {
+			statistics.setStatisticsEnabled( true );
+		}
+		assertThat( statistics.getStatementExecutionLatencyHistogram().getCount() ).isEqualTo( 0 );
+		assertThat( statistics.getConnectionAcquisitionLatencyHistogram().getCount() ).isEqualTo( 0 );
+	}
+
+	private static void assertRecorded(LatencyHistogram histogram, int count) {
+		assertThat( histogram.getCount() ).isEqualTo( count );
+		assertThat( histogram.getMaxTime() ).isGreaterThan( 0 );
+		assertThat( histogram.getTimeAtPercentile( 99 ) ).isBetween( 1L, histogram.getMaxTime() );
+		assertThat( histogram.getTotalTime() ).isGreaterThanOrEqualTo( histogram.getMaxTime() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.test.stats.SlowQueryLogTest.Book;
+import org.hibernate.stat.SlowQuery;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * By default, the slow query log only records the types of the values bound
+ * to the parameters
+ */
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATISTICS_SLOW_QUERY_LOG_SIZE, value = "2"))
+@DomainModel(annotatedClasses = Book.class)
+@SessionFactory(generateStatistics = true)
+public class SlowQueryLogParameterTypesTest {
+
+	@Test
+	public void testParameterValuesAreNotRecorded(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> session.createSelectionQuery( "from Book where title = :title and id > :id", Book.class )
+						.setParameter( "title", "Northanger Abbey" )
+						.setParameter( "id", 0 )
+						.getResultList()
+		);
+
+		final List<SlowQuery> slowQueries = statistics.getSlowQueries();
+		assertThat( slowQueries ).hasSize( 1 );
+		assertThat( slowQueries.get( 0 ).getParameters() ).isEqualTo( "[String, Integer]" );
+	}
+}
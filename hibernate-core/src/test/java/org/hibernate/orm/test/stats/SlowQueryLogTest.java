@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.SlowQuery;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The most recent query executions are kept by the slow query log
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATISTICS_SLOW_QUERY_LOG_SIZE, value = "2"),
+		@Setting(name = AvailableSettings.STATISTICS_SLOW_QUERY_LOG_PARAMETERS, value = "true")
+})
+@DomainModel(annotatedClasses = SlowQueryLogTest.Book.class)
+@SessionFactory(generateStatistics = true)
+public class SlowQueryLogTest {
+
+	@BeforeAll
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Emma" ) );
+			session.persist( new Book( 2, "Persuasion" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSlowQueries(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( statistics.getSlowQueries() ).isEmpty();
+
+		final String query = "from Book where title like :title order by id";
+		final String longTitle = "Pride and Prejudice, and Sense and Sensibility, and Mansfield Park";
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			assertThat( session.createSelectionQuery( query, Book.class ).setParameter( "title", "%a%" ).getResultList() )
+					.hasSize( 2 );
+			assertThat( session.createSelectionQuery( query, Book.class ).setParameter( "title", longTitle ).getResultList() )
+					.isEmpty();
+		} );
+
+		final List<SlowQuery> slowQueries = statistics.getSlowQueries();
+		assertThat( slowQueries ).hasSize( 2 );
+
+		final SlowQuery last = slowQueries.get( 0 );
+		assertThat( last.getQuery() ).isEqualTo( query );
+		assertThat( last.getRowCount() ).isEqualTo( 0 );
+		assertThat( last.getParameters() ).isEqualTo( "[" + longTitle.substring( 0, 50 ) + "...]" );
+
+		final SlowQuery previous = slowQueries.get( 1 );
+		assertThat( previous.getQuery() ).isEqualTo( query );
+		assertThat( previous.getSql() ).containsIgnoringCase( "select" );
+		assertThat( previous.getParameters() ).isEqualTo( "[%a%]" );
+		assertThat( previous.getRowCount() ).isEqualTo( 2 );
+		assertThat( previous.getExecutionTime() ).isGreaterThan( 0 );
+		assertThat( previous.getTotalTime() ).isGreaterThanOrEqualTo(
+				previous.getPrepareTime() + previous.getExecutionTime() + previous.getFetchTime()
+		);
+		assertThat( previous.getTimestamp() ).isBeforeOrEqualTo( last.getTimestamp() );
+
+		statistics.clear();
+		assertThat( statistics.getSlowQueries() ).isEmpty();
+	}
+
+	@Test
+	public void testSlowQueriesOnlyRecordedWhenStatisticsAreEnabled(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statistics.setStatisticsEnabled( false );
+		try {
+			scope.inTransaction( session -> session.createSelectionQuery( "from Book", Book.class ).getResultList() );
+		}
+		finally {
+			statistics.setStatisticsEnabled( true );
+		}
+		assertThat( statistics.getSlowQueries() ).isEmpty();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
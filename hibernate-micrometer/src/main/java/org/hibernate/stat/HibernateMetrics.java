@@ -7,6 +7,8 @@
 package org.hibernate.stat;
 
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -23,6 +25,7 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceException;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -35,6 +38,8 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -104,6 +109,94 @@ public class HibernateMetrics implements MeterBinder {
 				.register( registry );
 	}
 
+	private void latencyHistogram(
+			MeterRegistry registry,
+			String name,
+			String description,
+			Function<Statistics, LatencyHistogram> f) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		final LatencyHistogram histogram = f.apply( statistics );
+		if ( histogram != null ) {
+			bindLatencyHistogram( registry, name, description, histogram, tags );
+		}
+	}
+
+	private void connectionPool(MeterRegistry registry, @Nullable ConnectionPoolStatistics pool) {
+		if ( pool == null ) {
+			return;
+		}
+
+		Gauge.builder( "hibernate.connections.pool.active", pool, ConnectionPoolStatistics::getActiveConnectionCount )
+				.tags( tags )
+				.description( "The number of connections borrowed from the pool" )
+				.register( registry );
+		Gauge.builder( "hibernate.connections.pool.idle", pool, ConnectionPoolStatistics::getIdleConnectionCount )
+				.tags( tags )
+				.description( "The number of open connections waiting in the pool" )
+				.register( registry );
+		Gauge.builder( "hibernate.connections.pool.pending", pool, ConnectionPoolStatistics::getPendingAcquisitionCount )
+				.tags( tags )
+				.description( "The number of threads waiting for a connection" )
+				.register( registry );
+		Gauge.builder( "hibernate.connections.pool.max", pool, ConnectionPoolStatistics::getMaxPoolSize )
+				.tags( tags )
+				.description( "The maximum number of connections borrowed at once" )
+				.register( registry );
+		FunctionCounter.builder( "hibernate.connections.pool.timeouts", pool, ConnectionPoolStatistics::getAcquisitionTimeoutCount )
+				.tags( tags )
+				.description( "The number of times a thread gave up waiting for a connection" )
+				.register( registry );
+		FunctionCounter.builder( "hibernate.connections.pool.leaks", pool, ConnectionPoolStatistics::getLeakedConnectionCount )
+				.tags( tags )
+				.description( "The number of connections held longer than the leak detection threshold" )
+				.register( registry );
+	}
+
+	/**
+	 * Bind a {@link LatencyHistogram} as a {@link FunctionTimer}, along with
+	 * gauges of its maximum and of some percentiles, named and tagged like
+	 * the ones of a {@link io.micrometer.core.instrument.Timer} publishing
+	 * percentiles.
+	 */
+	static void bindLatencyHistogram(
+			MeterRegistry registry,
+			String name,
+			String description,
+			LatencyHistogram histogram,
+			Iterable<Tag> tags) {
+		FunctionTimer.builder(
+				name,
+				histogram,
+				LatencyHistogram::getCount,
+				LatencyHistogram::getTotalTime,
+				TimeUnit.NANOSECONDS
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+
+		TimeGauge.builder( name + ".max", histogram, TimeUnit.NANOSECONDS, LatencyHistogram::getMaxTime )
+				.tags( tags )
+				.description( description )
+				.register( registry );
+
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					name + ".percentile",
+					histogram,
+					TimeUnit.NANOSECONDS,
+					h -> h.getTimeAtPercentile( percentile * 100 )
+			)
+					.tags( tags )
+					.tags( "phi", String.valueOf( percentile ) )
+					.description( description )
+					.register( registry );
+		}
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
 		if ( this.statistics == null ) {
@@ -282,6 +375,31 @@ public class HibernateMetrics implements MeterBinder {
 				Statistics::getQueryExecutionCount
 		);
 
+		// Latency histograms, if enabled
+		latencyHistogram(registry,
+				"hibernate.query.executions.latency",
+				"The execution times of queries, including the processing of their results",
+				Statistics::getQueryExecutionLatencyHistogram
+		);
+		latencyHistogram(registry,
+				"hibernate.statements.executions.latency",
+				"The execution times of JDBC statements and batches",
+				Statistics::getStatementExecutionLatencyHistogram
+		);
+		latencyHistogram(registry,
+				"hibernate.query.rows.processing.latency",
+				"The times spent reading the JDBC result sets of queries",
+				Statistics::getRowProcessingLatencyHistogram
+		);
+		latencyHistogram(registry,
+				"hibernate.connections.acquisition.latency",
+				"The times spent obtaining JDBC connections",
+				Statistics::getConnectionAcquisitionLatencyHistogram
+		);
+
+		// Connection pool, if the connection provider reports it
+		connectionPool( registry, statistics.getConnectionPoolStatistics() );
+
 		TimeGauge.builder(
 				"hibernate.query.executions.max",
 				statistics,
@@ -335,6 +453,16 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry,
+				"hibernate.cache.query.plan.mutation",
+				"The global number of mutation query plans successfully retrieved from cache",
+				Statistics::getNonSelectQueryPlanCacheHitCount,
+				"result",
+				"hit"
+		);
+		counter(registry, "hibernate.cache.query.plan.mutation", "The global number of mutation query plans lookups not found in cache",
+				Statistics::getNonSelectQueryPlanCacheMissCount, "result", "miss"
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -0,0 +1,235 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.Nullable;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Incubating;
+import org.hibernate.SessionEventListener;
+
+import java.time.Duration;
+
+/**
+ * A {@link SessionEventListener} which reports the work done by a single session
+ * as Micrometer {@linkplain Observation observations}, so that the time spent in
+ * the database is attributed to the request which caused it, rather than averaged
+ * over the whole session factory.
+ * <p>
+ * The session is observed as {@value #SESSION_OBSERVATION}, with child observations
+ * for each {@value #FLUSH_OBSERVATION}, {@value #STATEMENT_OBSERVATION} and
+ * {@value #CONNECTION_OBSERVATION}. Their low cardinality key values are the name of
+ * the session factory, and the kind of flush, statement or connection operation.
+ * When the session ends, its observation is given the number of JDBC statements it
+ * executed and the time spent executing them as high cardinality key values.
+ * <p>
+ * A new listener must be registered for each session:
+ * <pre>
+ * Session session = sessionFactory.withOptions()
+ *         .eventListeners( new HibernateObservationListener( observationRegistry, "orders" ) )
+ *         .openSession();
+ * </pre>
+ *
+ * @since 6.2
+ */
+@Incubating
+@NonNullApi
+public class HibernateObservationListener extends BaseSessionEventListener {
+
+	public static final String SESSION_OBSERVATION = "hibernate.session";
+	public static final String FLUSH_OBSERVATION = "hibernate.flush";
+	public static final String STATEMENT_OBSERVATION = "hibernate.statement";
+	public static final String CONNECTION_OBSERVATION = "hibernate.connection";
+
+	public static final String SESSION_FACTORY_KEY = "entityManagerFactory";
+	public static final String KIND_KEY = "kind";
+	public static final String STATEMENT_COUNT_KEY = "hibernate.statements";
+	public static final String STATEMENT_TIME_KEY = "hibernate.statements.time";
+	public static final String TRANSACTION_COMPLETED_EVENT = "hibernate.transaction.completed";
+	public static final String TRANSACTION_FAILED_EVENT = "hibernate.transaction.failed";
+
+	private static final Observation.Event TRANSACTION_COMPLETED = Observation.Event.of( TRANSACTION_COMPLETED_EVENT );
+	private static final Observation.Event TRANSACTION_FAILED = Observation.Event.of( TRANSACTION_FAILED_EVENT );
+
+	private final transient ObservationRegistry registry;
+	private final String sessionFactoryName;
+
+	@Nullable
+	private transient Observation session;
+	@Nullable
+	private transient Observation flush;
+	@Nullable
+	private transient Observation statement;
+	@Nullable
+	private transient Observation connection;
+
+	// the connection may be released once the session has ended
+	private boolean ended;
+
+	private long statementStart = -1;
+	private long statementCount;
+	private long statementTime;
+
+	/**
+	 * Create a {@code HibernateObservationListener} for a new session.
+	 *
+	 * @param registry observation registry to use
+	 * @param sessionFactoryName session factory name as a key value
+	 */
+	public HibernateObservationListener(ObservationRegistry registry, String sessionFactoryName) {
+		this.registry = registry;
+		this.sessionFactoryName = sessionFactoryName;
+	}
+
+	private Observation session() {
+		if ( session == null ) {
+			session = observation( SESSION_OBSERVATION, null, null ).start();
+		}
+		return session;
+	}
+
+	private Observation observation(String name, @Nullable String kind, @Nullable Observation parent) {
+		final Observation observation = Observation.createNotStarted( name, registry )
+				.lowCardinalityKeyValue( SESSION_FACTORY_KEY, sessionFactoryName );
+		if ( kind != null ) {
+			observation.lowCardinalityKeyValue( KIND_KEY, kind );
+		}
+		if ( parent != null ) {
+			observation.parentObservation( parent );
+		}
+		return observation;
+	}
+
+	@Nullable
+	private Observation startChild(String name, String kind) {
+		if ( ended ) {
+			return null;
+		}
+		// statements executed while flushing belong to the flush
+		return observation( name, kind, flush == null ? session() : flush ).start();
+	}
+
+	private void startStatement(String kind) {
+		statement = startChild( STATEMENT_OBSERVATION, kind );
+		statementStart = statement == null ? -1 : System.nanoTime();
+	}
+
+	private void endStatement(boolean executed) {
+		if ( statement != null ) {
+			statement.stop();
+			statement = null;
+		}
+		if ( executed && statementStart >= 0 ) {
+			statementCount++;
+			statementTime += System.nanoTime() - statementStart;
+		}
+		statementStart = -1;
+	}
+
+	@Override
+	public void jdbcConnectionAcquisitionStart() {
+		connection = startChild( CONNECTION_OBSERVATION, "acquire" );
+	}
+
+	@Override
+	public void jdbcConnectionAcquisitionEnd() {
+		if ( connection != null ) {
+			connection.stop();
+			connection = null;
+		}
+	}
+
+	@Override
+	public void jdbcConnectionReleaseStart() {
+		connection = startChild( CONNECTION_OBSERVATION, "release" );
+	}
+
+	@Override
+	public void jdbcConnectionReleaseEnd() {
+		jdbcConnectionAcquisitionEnd();
+	}
+
+	@Override
+	public void jdbcPrepareStatementStart() {
+		startStatement( "prepare" );
+	}
+
+	@Override
+	public void jdbcPrepareStatementEnd() {
+		endStatement( false );
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		startStatement( "execute" );
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		endStatement( true );
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		startStatement( "batch" );
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		endStatement( true );
+	}
+
+	@Override
+	public void flushStart() {
+		flush = startChild( FLUSH_OBSERVATION, "full" );
+	}
+
+	@Override
+	public void flushEnd(int numberOfEntities, int numberOfCollections) {
+		if ( flush != null ) {
+			flush.stop();
+			flush = null;
+		}
+	}
+
+	@Override
+	public void partialFlushStart() {
+		flush = startChild( FLUSH_OBSERVATION, "partial" );
+	}
+
+	@Override
+	public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+		flushEnd( numberOfEntities, numberOfCollections );
+	}
+
+	@Override
+	public void transactionCompletion(boolean successful) {
+		if ( ended ) {
+			return;
+		}
+		session().event( successful ? TRANSACTION_COMPLETED : TRANSACTION_FAILED );
+	}
+
+	@Override
+	public void end() {
+		if ( ended ) {
+			return;
+		}
+		ended = true;
+		// stop whatever was interrupted by an exception
+		endStatement( false );
+		jdbcConnectionAcquisitionEnd();
+		flushEnd( 0, 0 );
+		session().highCardinalityKeyValue( STATEMENT_COUNT_KEY, Long.toString( statementCount ) )
+				.highCardinalityKeyValue( STATEMENT_TIME_KEY, Duration.ofNanos( statementTime ).toString() )
+				.stop();
+		session = null;
+	}
+}
@@ -173,6 +173,17 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.description( "Query minimum execution time" )
 						.register( meterRegistry );
 
+				final LatencyHistogram latencyHistogram = queryStatistics.getExecutionLatencyHistogram();
+				if ( latencyHistogram != null ) {
+					HibernateMetrics.bindLatencyHistogram(
+							meterRegistry,
+							"hibernate.query.execution.latency",
+							"Query execution times",
+							latencyHistogram,
+							Tags.concat( tags, "query", query )
+					);
+				}
+
 				FunctionCounter.builder(
 						"hibernate.query.execution.rows",
 						queryStatistics,
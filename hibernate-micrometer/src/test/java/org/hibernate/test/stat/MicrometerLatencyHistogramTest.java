@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.HibernateQueryMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerLatencyHistogramTest extends BaseCoreFunctionalTestCase {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.STATISTICS_LATENCY_HISTOGRAMS, "true" );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testLatencyHistograms() {
+		new HibernateMetrics( sessionFactory(), "test", Tags.empty() ).bindTo( registry );
+		new HibernateQueryMetrics( sessionFactory(), "test", Tags.empty() ).bindTo( registry );
+
+		final String query = "select a from Account a";
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 1 ), "testAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		assertEquals( 1, session.createSelectionQuery( query, Account.class ).getResultList().size() );
+		session.getTransaction().commit();
+		session.close();
+
+		final FunctionTimer queryTimer = registry.get( "hibernate.query.executions.latency" ).functionTimer();
+		assertEquals( 1, queryTimer.count(), 0 );
+		assertTrue( queryTimer.totalTime( TimeUnit.NANOSECONDS ) > 0 );
+		assertTrue( registry.get( "hibernate.query.executions.latency.max" ).timeGauge().value() > 0 );
+		assertTrue( registry.get( "hibernate.query.executions.latency.percentile" )
+				.tags( "phi", "0.99" )
+				.timeGauge()
+				.value() > 0 );
+		assertTrue( registry.get( "hibernate.statements.executions.latency" ).functionTimer().count() >= 2 );
+		assertEquals( 1, registry.get( "hibernate.query.rows.processing.latency" ).functionTimer().count(), 0 );
+		assertEquals( 2, registry.get( "hibernate.connections.acquisition.latency" ).functionTimer().count(), 0 );
+
+		// query metrics are registered once an entity is loaded
+		session = openSession();
+		session.find( Account.class, new AccountId( 1 ) );
+		session.close();
+		assertNotNull( registry.get( "hibernate.query.execution.latency" ).tags( "query", query ).functionTimer() );
+
+		session = openSession();
+		session.beginTransaction();
+		session.createMutationQuery( "delete Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateObservationListener;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.ObservationView;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerObservationTest extends BaseCoreFunctionalTestCase {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+	private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+	}
+
+	@Test
+	public void testSessionIsObserved() {
+		observationRegistry.observationConfig()
+				.observationHandler( new DefaultMeterObservationHandler( meterRegistry ) )
+				.observationHandler( new ObservationHandler<>() {
+					@Override
+					public void onStop(Observation.Context context) {
+						stopped.add( context );
+					}
+
+					@Override
+					public boolean supportsContext(Observation.Context context) {
+						return true;
+					}
+				} );
+
+		Session session = openObservedSession();
+		session.beginTransaction();
+		session.persist( new Account( new AccountId( 1 ), "testAcct" ) );
+		session.getTransaction().commit();
+		assertEquals( 1, session.createSelectionQuery( "from Account", Account.class ).getResultList().size() );
+		session.close();
+
+		final Timer sessionTimer = meterRegistry.get( HibernateObservationListener.SESSION_OBSERVATION )
+				.tag( HibernateObservationListener.SESSION_FACTORY_KEY, "test" )
+				.timer();
+		assertEquals( 1, sessionTimer.count() );
+		assertEquals( 1, meterRegistry.get( HibernateObservationListener.FLUSH_OBSERVATION )
+				.tag( HibernateObservationListener.KIND_KEY, "full" )
+				.timer()
+				.count() );
+		assertEquals( 2, meterRegistry.get( HibernateObservationListener.STATEMENT_OBSERVATION )
+				.tag( HibernateObservationListener.KIND_KEY, "execute" )
+				.timer()
+				.count() );
+		assertTrue( meterRegistry.get( HibernateObservationListener.CONNECTION_OBSERVATION )
+				.tag( HibernateObservationListener.KIND_KEY, "acquire" )
+				.timer()
+				.count() >= 1 );
+
+		// the insert is attributed to the flush, and the select to the session
+		final Observation.Context sessionContext = stopped( HibernateObservationListener.SESSION_OBSERVATION ).get( 0 );
+		final Observation.Context flushContext = stopped( HibernateObservationListener.FLUSH_OBSERVATION ).get( 0 );
+		int statementsInFlush = 0;
+		int statementsInSession = 0;
+		for ( Observation.Context statement : stopped( HibernateObservationListener.STATEMENT_OBSERVATION ) ) {
+			if ( "execute".equals( statement.getLowCardinalityKeyValue( HibernateObservationListener.KIND_KEY ).getValue() ) ) {
+				final ObservationView parent = statement.getParentObservation();
+				assertNotNull( parent );
+				if ( parent.getContextView() == flushContext ) {
+					statementsInFlush++;
+				}
+				else if ( parent.getContextView() == sessionContext ) {
+					statementsInSession++;
+				}
+			}
+		}
+		assertEquals( 1, statementsInFlush );
+		assertEquals( 1, statementsInSession );
+
+		final KeyValue statementCount = sessionContext.getHighCardinalityKeyValue( HibernateObservationListener.STATEMENT_COUNT_KEY );
+		assertEquals( "2", statementCount.getValue() );
+		assertNotNull( sessionContext.getHighCardinalityKeyValue( HibernateObservationListener.STATEMENT_TIME_KEY ) );
+
+		session = openObservedSession();
+		session.beginTransaction();
+		session.createMutationQuery( "delete Account" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+		assertEquals( 2, sessionTimer.count() );
+	}
+
+	private Session openObservedSession() {
+		return sessionFactory().withOptions()
+				.eventListeners( new HibernateObservationListener( observationRegistry, "test" ) )
+				.openSession();
+	}
+
+	private List<Observation.Context> stopped(String name) {
+		final List<Observation.Context> contexts = new ArrayList<>();
+		for ( Observation.Context context : stopped ) {
+			if ( name.equals( context.getName() ) ) {
+				contexts.add( context );
+			}
+		}
+		return contexts;
+	}
+}
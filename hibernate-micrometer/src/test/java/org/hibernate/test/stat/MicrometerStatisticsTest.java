@@ -100,6 +100,16 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 
 		Assert.assertNotNull(registry.get("hibernate.query.executions").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.query.executions.max").timeGauge());
+		// Latency histograms disabled
+		verifyMeterNotFoundException("hibernate.query.executions.latency");
+
+		// Built-in connection pool
+		Assert.assertNotNull(registry.get("hibernate.connections.pool.active").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool.idle").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool.pending").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool.max").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool.timeouts").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.connections.pool.leaks").functionCounter());
 
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.update.timestamps.requests").tags("result", "miss").functionCounter());
@@ -110,6 +120,8 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.mutation").tags("result", "hit").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.mutation").tags("result", "miss").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();